@@ -0,0 +1,35 @@
+package uk.acronical.database;
+
+/**
+ * Determines how a {@link DatabaseExecutor} behaves once its queue is full.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public enum BackPressurePolicy {
+
+    /**
+     * Rejects the task by throwing a {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * When used with {@link java.util.concurrent.CompletableFuture#runAsync(Runnable, java.util.concurrent.Executor)},
+     * the exception is thrown directly to the submitting thread. {@link DatabaseExecutor#supplyAsync(java.util.function.Supplier)}
+     * and {@link DatabaseExecutor#runAsync(Runnable)} instead complete their future exceptionally.
+     */
+    ABORT,
+
+    /**
+     * Runs the task on the submitting thread.
+     * <p>
+     * This naturally slows producers down, but will block the main server thread
+     * if database work is submitted from it.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Blocks the submitting thread until space becomes available in the queue.
+     * <p>
+     * This is best suited to background producers; it should not be used when
+     * tasks are submitted from the main server thread.
+     */
+    BLOCK
+}
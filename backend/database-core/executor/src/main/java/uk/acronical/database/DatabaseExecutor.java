@@ -0,0 +1,348 @@
+package uk.acronical.database;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A bounded {@link Executor} dedicated to blocking database I/O.
+ * <p>
+ * Database wrappers route their asynchronous work through this executor rather than
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}, keeping blocking JDBC, MongoDB
+ * and Jedis calls away from parallel streams and other plugins. Concurrency should be
+ * sized to the underlying connection pool, as additional threads would only block
+ * whilst waiting to borrow a connection.
+ * <p>
+ * Two backends are available: a fixed pool of platform threads via
+ * {@link #platform(String, int, int, BackPressurePolicy)}, or one virtual thread per task
+ * via {@link #virtual(String, int, int, BackPressurePolicy)}. Both limit the number of
+ * waiting tasks and apply the configured {@link BackPressurePolicy} once that limit is reached.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class DatabaseExecutor implements Executor {
+
+    private final ExecutorService delegate;
+    private final BackPressurePolicy policy;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+
+    private final ThreadPoolExecutor platformPool;
+    private final Semaphore concurrencyPermits;
+    private final Semaphore queuePermits;
+    private final AtomicInteger virtualWaiting = new AtomicInteger();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+
+    private DatabaseExecutor(@NotNull String name, int maxConcurrency, int queueCapacity, @NotNull BackPressurePolicy policy, boolean virtual) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("The maximum concurrency must be greater than zero.");
+        if (queueCapacity <= 0) throw new IllegalArgumentException("The queue capacity must be greater than zero.");
+
+        this.policy = policy;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+
+        if (virtual) {
+            this.platformPool = null;
+            this.concurrencyPermits = new Semaphore(maxConcurrency);
+            this.queuePermits = new Semaphore(maxConcurrency + queueCapacity);
+            this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.concurrencyPermits = null;
+            this.queuePermits = null;
+            this.platformPool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, (runnable, executor) -> reject(runnable, executor));
+            this.platformPool.allowCoreThreadTimeOut(true);
+            this.delegate = platformPool;
+        }
+    }
+
+    /**
+     * Creates an executor backed by a fixed pool of platform threads.
+     *
+     * @param name           The prefix used when naming worker threads.
+     * @param maxConcurrency The number of worker threads, typically the connection pool size.
+     * @param queueCapacity  The number of tasks that may wait for a free worker.
+     * @param policy         The {@link BackPressurePolicy} applied once the queue is full.
+     * @return A new {@link DatabaseExecutor} instance.
+     */
+    @NotNull
+    public static DatabaseExecutor platform(@NotNull String name, int maxConcurrency, int queueCapacity, @NotNull BackPressurePolicy policy) {
+        return new DatabaseExecutor(name, maxConcurrency, queueCapacity, policy, false);
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread for every task.
+     * <p>
+     * A semaphore caps the number of tasks running at once to {@code maxConcurrency},
+     * ensuring the connection pool is not overwhelmed by waiting threads.
+     *
+     * @param name           The prefix used when naming virtual threads.
+     * @param maxConcurrency The number of tasks allowed to run at once, typically the connection pool size.
+     * @param queueCapacity  The number of tasks that may wait for a free slot.
+     * @param policy         The {@link BackPressurePolicy} applied once the queue is full.
+     * @return A new {@link DatabaseExecutor} instance.
+     */
+    @NotNull
+    public static DatabaseExecutor virtual(@NotNull String name, int maxConcurrency, int queueCapacity, @NotNull BackPressurePolicy policy) {
+        return new DatabaseExecutor(name, maxConcurrency, queueCapacity, policy, true);
+    }
+
+    /**
+     * Creates a platform-thread executor sized for a connection pool.
+     * <p>
+     * The queue holds up to 64 tasks per connection and uses {@link BackPressurePolicy#ABORT}
+     * once full, so a saturated queue never runs blocking I/O on the submitting thread, which is
+     * usually the main server thread. Work submitted via {@link #supplyAsync(Supplier)} or
+     * {@link #runAsync(Runnable)} then completes exceptionally rather than being silently dropped.
+     *
+     * @param name     The prefix used when naming worker threads.
+     * @param poolSize The maximum size of the connection pool being served.
+     * @return A new {@link DatabaseExecutor} instance.
+     */
+    @NotNull
+    public static DatabaseExecutor forPool(@NotNull String name, int poolSize) {
+        int size = Math.max(1, poolSize);
+        return platform(name, size, size * 64, BackPressurePolicy.ABORT);
+    }
+
+    /**
+     * Submits a task for execution.
+     *
+     * @param task The task to run.
+     * @throws RejectedExecutionException If the queue is full under {@link BackPressurePolicy#ABORT},
+     * or the executor has been shut down.
+     */
+    @Override
+    public void execute(@NotNull Runnable task) {
+        Runnable counted = () -> {
+            try {
+                task.run();
+            } finally {
+                completedCount.incrementAndGet();
+            }
+        };
+
+        if (platformPool != null) {
+            platformPool.execute(counted);
+            return;
+        }
+
+        if (delegate.isShutdown()) throw new RejectedExecutionException("The database executor has been shut down.");
+
+        if (!queuePermits.tryAcquire()) {
+            switch (policy) {
+                case CALLER_RUNS -> {
+                    rejectedCount.incrementAndGet();
+                    counted.run();
+                    return;
+                }
+                case BLOCK -> queuePermits.acquireUninterruptibly();
+                default -> {
+                    rejectedCount.incrementAndGet();
+                    throw new RejectedExecutionException("The database executor queue is full (" + queueCapacity + " tasks).");
+                }
+            }
+        }
+
+        virtualWaiting.incrementAndGet();
+
+        try {
+            delegate.execute(() -> {
+                concurrencyPermits.acquireUninterruptibly();
+                virtualWaiting.decrementAndGet();
+                try {
+                    counted.run();
+                } finally {
+                    concurrencyPermits.release();
+                    queuePermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            virtualWaiting.decrementAndGet();
+            queuePermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a task on this executor and returns its result via a {@link CompletableFuture}.
+     * <p>
+     * Unlike {@link CompletableFuture#supplyAsync(Supplier, Executor)}, a task rejected by the
+     * {@link BackPressurePolicy} is reported through the returned future instead of being thrown
+     * to the submitting thread.
+     *
+     * @param <T>      The type of result produced.
+     * @param supplier The logic to execute.
+     * @return A future that will complete with the task's result.
+     */
+    @NotNull
+    public <T> CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Runs a task on this executor, reporting a rejection through the returned future.
+     *
+     * @param task The logic to execute.
+     * @return A future that completes once the task has finished.
+     * @see #supplyAsync(Supplier)
+     */
+    @NotNull
+    public CompletableFuture<Void> runAsync(@NotNull Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, this);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Applies the back-pressure policy to a task rejected by the platform pool.
+     *
+     * @param runnable The rejected task.
+     * @param executor The pool that rejected the task.
+     */
+    private void reject(@NotNull Runnable runnable, @NotNull ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) throw new RejectedExecutionException("The database executor has been shut down.");
+
+        switch (policy) {
+            case CALLER_RUNS -> {
+                rejectedCount.incrementAndGet();
+                runnable.run();
+            }
+            case BLOCK -> {
+                try {
+                    executor.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejectedCount.incrementAndGet();
+                    throw new RejectedExecutionException("Interrupted whilst waiting for space in the database executor queue.", e);
+                }
+            }
+            default -> {
+                rejectedCount.incrementAndGet();
+                throw new RejectedExecutionException("The database executor queue is full (" + queueCapacity + " tasks).");
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of tasks waiting to start.
+     *
+     * @return The current queue depth.
+     */
+    public int getQueueDepth() {
+        if (platformPool != null) return platformPool.getQueue().size();
+        return virtualWaiting.get();
+    }
+
+    /**
+     * Retrieves the number of tasks currently running.
+     *
+     * @return The active task count.
+     */
+    public int getActiveCount() {
+        if (platformPool != null) return platformPool.getActiveCount();
+        return maxConcurrency - concurrencyPermits.availablePermits();
+    }
+
+    /**
+     * Retrieves the number of tasks that triggered the {@link BackPressurePolicy}.
+     * <p>
+     * Under {@link BackPressurePolicy#CALLER_RUNS}, this counts tasks that were run on
+     * the submitting thread. Tasks that were blocked and then accepted are not counted.
+     *
+     * @return The total rejection count since creation.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Retrieves the number of tasks that have finished running.
+     *
+     * @return The total completed task count since creation.
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Retrieves the maximum number of tasks allowed to run at once.
+     *
+     * @return The concurrency limit.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieves the policy applied once the queue is full.
+     *
+     * @return The configured {@link BackPressurePolicy}.
+     */
+    @NotNull
+    public BackPressurePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Stops accepting tasks without waiting for queued work to finish.
+     * <p>
+     * Tasks that have already been accepted will still run to completion.
+     */
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * Stops accepting tasks and waits for queued work to finish.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return {@code true} if all tasks finished in time; otherwise {@code false}.
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        delegate.shutdown();
+
+        try {
+            if (delegate.awaitTermination(timeout, unit)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        delegate.shutdownNow();
+        return false;
+    }
+
+    /**
+     * Checks whether the executor has been shut down.
+     *
+     * @return {@code true} if no further tasks will be accepted.
+     */
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+}
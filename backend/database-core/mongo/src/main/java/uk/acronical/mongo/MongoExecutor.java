@@ -13,6 +13,7 @@ import java.util.concurrent.CompletableFuture;
  * <p>
  * This executor wraps blocking MongoDB driver calls in {@link CompletableFuture}s,
  * allowing for non-blocking database interactions on the server's main thread.
+ * Operations run on the wrapper's {@link MongoWrapper#getExecutor() dedicated executor}.
  *
  * @author Acronical
  * @since 1.0.0
@@ -44,7 +45,7 @@ public class MongoExecutor {
      * @return A {@link CompletableFuture} that completes once the operation is finished.
      */
     public CompletableFuture<Void> save(@NotNull String collection, @NotNull String keyField, @NotNull Object keyValue, @NotNull Document data) {
-        return CompletableFuture.runAsync(() -> {
+        return mongoWrapper.getExecutor().runAsync(() -> {
             MongoCollection<Document> returnedCollection = mongoWrapper.getCollection(collection);
 
             returnedCollection.replaceOne(Filters.eq(keyField, keyValue), data, new ReplaceOptions().upsert(true));
@@ -61,7 +62,7 @@ public class MongoExecutor {
      * or {@code null} if no match is found.
      */
     public CompletableFuture<Document> find(@NotNull String collection, @NotNull String keyField, @NotNull Object keyValue) {
-        return CompletableFuture.supplyAsync(() -> {
+        return mongoWrapper.getExecutor().supplyAsync(() -> {
             MongoCollection<Document> returnedCollection = mongoWrapper.getCollection(collection);
             return returnedCollection.find(Filters.eq(keyField, keyValue)).first();
         });
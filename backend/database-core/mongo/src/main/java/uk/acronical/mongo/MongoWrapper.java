@@ -1,11 +1,15 @@
 package uk.acronical.mongo;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
+import uk.acronical.database.DatabaseExecutor;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * A wrapper for the MongoDB Java driver to manage connections and lifecycle.
@@ -21,6 +25,9 @@ public class MongoWrapper {
 
     private MongoClient client;
     private MongoDatabase database;
+    private int maxPoolSize = 100;
+    private volatile DatabaseExecutor executor;
+    private boolean ownsExecutor = true;
 
     /**
      * Connects to a MongoDB server and initialises the database instance.
@@ -29,7 +36,10 @@ public class MongoWrapper {
      * @param databaseName  The name of the database to access.
      */
     public void connect(@NotNull String connectionUri, @NotNull String databaseName) {
-        this.client = MongoClients.create(connectionUri);
+        ConnectionString connectionString = new ConnectionString(connectionUri);
+        if (connectionString.getMaxConnectionPoolSize() != null) this.maxPoolSize = connectionString.getMaxConnectionPoolSize();
+
+        this.client = MongoClients.create(connectionString);
         this.database = client.getDatabase(databaseName);
     }
 
@@ -48,13 +58,53 @@ public class MongoWrapper {
         return database.getCollection(name);
     }
 
+    /**
+     * Retrieves the {@link DatabaseExecutor} used to run blocking MongoDB work.
+     * <p>
+     * Unless one has been supplied via {@link #setExecutor(DatabaseExecutor)}, an executor
+     * sized to the connection pool is created on first use.
+     *
+     * @return The executor for this database.
+     * @since 1.0.6
+     */
+    @NotNull
+    public DatabaseExecutor getExecutor() {
+        DatabaseExecutor current = executor;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (executor == null) executor = DatabaseExecutor.forPool("AcroniCore-Mongo", maxPoolSize);
+            return executor;
+        }
+    }
+
+    /**
+     * Replaces the executor used to run blocking MongoDB work.
+     * <p>
+     * This allows a single {@link DatabaseExecutor} to be shared between several databases.
+     * An executor supplied here is not shut down by {@link #close()}.
+     *
+     * @param executor The executor to utilise.
+     * @since 1.0.6
+     */
+    public synchronized void setExecutor(@NotNull DatabaseExecutor executor) {
+        if (this.executor != null && ownsExecutor) this.executor.shutdown();
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
     /**
      * Closes the MongoDB client and releases all pooled resources.
      * <p>
      * This should be called during the plugin's shutdown phase (e.g., {@code onDisable})
-     * to ensure no socket leaks occur.
+     * to ensure no socket leaks occur. Any queued work on the owned
+     * {@link DatabaseExecutor} is given up to five seconds to finish first.
      */
     public void close() {
+        synchronized (this) {
+            if (executor != null && ownsExecutor) executor.shutdown(5, TimeUnit.SECONDS);
+        }
+
         if (client != null) {
             client.close();
         }
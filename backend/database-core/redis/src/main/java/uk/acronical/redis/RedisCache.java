@@ -36,7 +36,7 @@ public class RedisCache {
      * @return A {@link CompletableFuture} that completes when the value is set.
      */
     public CompletableFuture<Void> set(@NotNull String key, @NotNull String value, int secondsToLive) {
-        return CompletableFuture.runAsync(() -> {
+        return database.getExecutor().runAsync(() -> {
             try (Jedis jedis = database.getResource()) {
                 jedis.setex(key, secondsToLive, value);
             }
@@ -51,7 +51,7 @@ public class RedisCache {
      * or {@code null} if the key does not exist or has expired.
      */
     public CompletableFuture<String> get(@NotNull String key) {
-        return CompletableFuture.supplyAsync(() -> {
+        return database.getExecutor().supplyAsync(() -> {
            try (Jedis jedis = database.getResource()) {
                return jedis.get(key);
            }
@@ -66,7 +66,7 @@ public class RedisCache {
      * otherwise {@code false}.
      */
     public CompletableFuture<Boolean> exists(@NotNull String key) {
-        return CompletableFuture.supplyAsync(() -> {
+        return database.getExecutor().supplyAsync(() -> {
             try (Jedis jedis = database.getResource()) {
                 return jedis.exists(key);
             }
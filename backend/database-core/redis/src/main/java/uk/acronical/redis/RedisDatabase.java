@@ -4,8 +4,10 @@ import org.jetbrains.annotations.NotNull;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import uk.acronical.database.DatabaseExecutor;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A wrapper for the Jedis library to manage a connection pool to a Redis database.
@@ -19,6 +21,9 @@ import java.time.Duration;
 public class RedisDatabase {
 
     private JedisPool pool;
+    private int maxTotal = 16;
+    private volatile DatabaseExecutor executor;
+    private boolean ownsExecutor = true;
 
     /**
      * Connects to a Redis database that is not password protected.
@@ -33,6 +38,7 @@ public class RedisDatabase {
         config.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
         config.setTestOnBorrow(true);
 
+        this.maxTotal = config.getMaxTotal();
         this.pool = new JedisPool(config, host, port, 2000);
     }
 
@@ -50,6 +56,7 @@ public class RedisDatabase {
         config.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
         config.setTestOnBorrow(true);
 
+        this.maxTotal = config.getMaxTotal();
         this.pool = new JedisPool(config, host, port, 2000, password);
     }
 
@@ -67,13 +74,53 @@ public class RedisDatabase {
         return pool.getResource();
     }
 
+    /**
+     * Retrieves the {@link DatabaseExecutor} used to run blocking Redis work.
+     * <p>
+     * Unless one has been supplied via {@link #setExecutor(DatabaseExecutor)}, an executor
+     * sized to the connection pool is created on first use.
+     *
+     * @return The executor for this database.
+     * @since 1.0.6
+     */
+    @NotNull
+    public DatabaseExecutor getExecutor() {
+        DatabaseExecutor current = executor;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (executor == null) executor = DatabaseExecutor.forPool("AcroniCore-Redis", maxTotal);
+            return executor;
+        }
+    }
+
+    /**
+     * Replaces the executor used to run blocking Redis work.
+     * <p>
+     * This allows a single {@link DatabaseExecutor} to be shared between several databases.
+     * An executor supplied here is not shut down by {@link #close()}.
+     *
+     * @param executor The executor to utilise.
+     * @since 1.0.6
+     */
+    public synchronized void setExecutor(@NotNull DatabaseExecutor executor) {
+        if (this.executor != null && ownsExecutor) this.executor.shutdown();
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
     /**
      * Closes the connection pool and releases all associated resources.
      * <p>
      * This should be called during the application shutdown phase to prevent
-     * resource leaks.
+     * resource leaks. Any queued work on the owned {@link DatabaseExecutor}
+     * is given up to five seconds to finish first.
      */
     public void close() {
+        synchronized (this) {
+            if (executor != null && ownsExecutor) executor.shutdown(5, TimeUnit.SECONDS);
+        }
+
         if (pool != null) {
             pool.close();
         }
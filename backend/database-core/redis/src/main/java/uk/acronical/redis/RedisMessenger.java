@@ -5,7 +5,6 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPubSub;
 import uk.acronical.common.LoggerUtils;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
@@ -43,7 +42,7 @@ public class RedisMessenger {
      * @param message The message string to broadcast.
      */
     public void publish(@NotNull String channel, @NotNull String message) {
-        CompletableFuture.runAsync(() -> {
+        database.getExecutor().runAsync(() -> {
             try (Jedis jedis = database.getResource()) {
                 jedis.publish(channel, message);
             }
@@ -0,0 +1,32 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * A callback that binds values to a {@link SqlQuery} using typed setters.
+ * <p>
+ * Binders are typically written as lambdas capturing primitive values directly,
+ * e.g. {@code params -> params.setInt(kills).setUuid(uuid)}, which avoids the
+ * {@code Object...} boxing performed by the varargs methods of {@link SqlExecutor}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@FunctionalInterface
+public interface SqlBinder {
+
+    /**
+     * A binder for statements that have no placeholders.
+     */
+    SqlBinder NONE = parameters -> {};
+
+    /**
+     * Binds values to the statement in placeholder order.
+     *
+     * @param parameters The {@link SqlParameters} cursor for the statement being executed.
+     * @throws SQLException If a value cannot be bound.
+     */
+    void bind(@NotNull SqlParameters parameters) throws SQLException;
+}
@@ -3,16 +3,22 @@ package uk.acronical.sql;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.jetbrains.annotations.NotNull;
+import uk.acronical.database.DatabaseExecutor;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages SQL database connectivity using the HikariCP connection pool.
  * <p>
  * This class abstracts the setup for both remote MySQL/MariaDB databases and
  * local SQLite files, providing a unified way to retrieve thread-safe connections.
+ * Pools may be tuned with {@link SqlPoolSettings}.
+ * <p>
+ * Each database also owns a {@link DatabaseExecutor} sized to its connection pool,
+ * which {@link SqlExecutor} utilises for all blocking JDBC work.
  *
  * @author Acronical
  * @since 1.0.0
@@ -20,6 +26,10 @@ import java.sql.SQLException;
 public class SqlDatabase {
 
     private HikariDataSource dataSource;
+    private HikariDataSource readDataSource;
+    private volatile DatabaseExecutor executor;
+    private boolean ownsExecutor = true;
+    private final StatementCache statementCache = new StatementCache(250);
 
     /**
      * Initialises a connection pool to a remote MySQL or MariaDB database.
@@ -31,9 +41,23 @@ public class SqlDatabase {
      * @param password The password or token used for authentication.
      */
     public void connect(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password) {
-        HikariConfig config = new HikariConfig();
+        connect(host, port, database, user, password, SqlPoolSettings.defaults());
+    }
+
+    /**
+     * Initialises a connection pool to a remote MySQL or MariaDB database using custom pool settings.
+     *
+     * @param host     The hostname or IP address of the database server.
+     * @param port     The port number the server is listening on.
+     * @param database The name of the specific database to access.
+     * @param user     The username used for authentication.
+     * @param password The password or token used for authentication.
+     * @param settings The {@link SqlPoolSettings} to apply to the pool.
+     * @since 1.0.6
+     */
+    public void connect(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password, @NotNull SqlPoolSettings settings) {
+        HikariConfig config = createConfig("AcroniCore-SQL-Pool", settings);
 
-        config.setPoolName("AcroniCore-SQL-Pool");
         config.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + database);
         config.setUsername(user);
         config.setPassword(password);
@@ -41,7 +65,10 @@ public class SqlDatabase {
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        config.setMaximumPoolSize(10);
+        config.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(settings.isMysqlRewriteBatchedStatements()));
+        config.addDataSourceProperty("useCursorFetch", String.valueOf(settings.isMysqlUseCursorFetch()));
+        config.setMaximumPoolSize(settings.getMaximumPoolSize());
+        if (settings.getMinimumIdle() >= 0) config.setMinimumIdle(settings.getMinimumIdle());
 
         this.dataSource = new HikariDataSource(config);
     }
@@ -53,15 +80,72 @@ public class SqlDatabase {
      * @param fileName The name of the database file (excluding the {@code .db} extension).
      */
     public void connect(@NotNull File folder, @NotNull String fileName) {
+        connect(folder, fileName, SqlPoolSettings.defaults());
+    }
+
+    /**
+     * Initialises a connection pool for a local SQLite database file using custom pool settings.
+     * <p>
+     * The database is opened in {@code WAL} journal mode with {@code synchronous=NORMAL},
+     * allowing readers to proceed whilst a write is in progress. Writes are funnelled
+     * through a single connection, as SQLite only permits one writer at a time, whilst
+     * read-only queries may be served by a separate pool of read-only connections; see
+     * {@link #getReadConnection()}.
+     *
+     * @param folder   The directory where the database file should be stored.
+     * @param fileName The name of the database file (excluding the {@code .db} extension).
+     * @param settings The {@link SqlPoolSettings} to apply to the pools.
+     * @since 1.0.6
+     */
+    public void connect(@NotNull File folder, @NotNull String fileName, @NotNull SqlPoolSettings settings) {
         if (!folder.exists()) folder.mkdirs();
 
+        String url = "jdbc:sqlite:" + new File(folder, fileName + ".db").getAbsolutePath();
+        String busyTimeout = String.valueOf(settings.getSqliteBusyTimeoutMillis());
+
+        HikariConfig writerConfig = createConfig("AcroniCore-SQL-Pool", settings);
+        writerConfig.setJdbcUrl(url);
+        writerConfig.setDriverClassName("org.sqlite.JDBC");
+        writerConfig.addDataSourceProperty("journal_mode", "WAL");
+        writerConfig.addDataSourceProperty("synchronous", "NORMAL");
+        writerConfig.addDataSourceProperty("busy_timeout", busyTimeout);
+        writerConfig.setMaximumPoolSize(1);
+        writerConfig.setMinimumIdle(1);
+
+        // The writer is opened first, so the file exists and is in WAL mode before any reader connects.
+        this.dataSource = new HikariDataSource(writerConfig);
+
+        if (settings.getSqliteReaderPoolSize() == 0) return;
+
+        HikariConfig readerConfig = createConfig("AcroniCore-SQL-ReadPool", settings);
+        readerConfig.setJdbcUrl(url);
+        readerConfig.setDriverClassName("org.sqlite.JDBC");
+        readerConfig.addDataSourceProperty("open_mode", "1");
+        readerConfig.addDataSourceProperty("synchronous", "NORMAL");
+        readerConfig.addDataSourceProperty("busy_timeout", busyTimeout);
+        readerConfig.setMaximumPoolSize(settings.getSqliteReaderPoolSize());
+        if (settings.getMinimumIdle() >= 0) readerConfig.setMinimumIdle(Math.min(settings.getMinimumIdle(), settings.getSqliteReaderPoolSize()));
+
+        this.readDataSource = new HikariDataSource(readerConfig);
+    }
+
+    /**
+     * Creates a {@link HikariConfig} with the settings shared by every type of database.
+     *
+     * @param poolName The name of the pool, as shown in logs and metrics.
+     * @param settings The {@link SqlPoolSettings} to apply.
+     * @return A new {@link HikariConfig} instance.
+     */
+    private HikariConfig createConfig(@NotNull String poolName, @NotNull SqlPoolSettings settings) {
         HikariConfig config = new HikariConfig();
 
-        config.setPoolName("AcroniCore-SQL-Pool");
-        config.setJdbcUrl("jdbc:sqlite:" + new File(folder, fileName + ".db").getAbsolutePath());
-        config.setDriverClassName("org.sqlite.JDBC");
+        config.setPoolName(poolName);
+        config.setConnectionTimeout(settings.getConnectionTimeoutMillis());
+        config.setIdleTimeout(settings.getIdleTimeoutMillis());
+        config.setMaxLifetime(settings.getMaxLifetimeMillis());
+        config.setLeakDetectionThreshold(settings.getLeakDetectionThresholdMillis());
 
-        this.dataSource = new HikariDataSource(config);
+        return config;
     }
 
     /**
@@ -78,13 +162,98 @@ public class SqlDatabase {
         return dataSource.getConnection();
     }
 
+    /**
+     * Retrieves a {@link Connection} intended only for reading.
+     * <p>
+     * For SQLite databases with a reader pool, this returns a read-only connection that
+     * does not contend with the single writer. Otherwise, this is equivalent to
+     * {@link #getConnection()}.
+     *
+     * @return A valid {@link Connection} instance.
+     * @throws SQLException If the pool is uninitialised, closed, or a database access error occurs.
+     * @since 1.0.6
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (readDataSource == null) return getConnection();
+        return readDataSource.getConnection();
+    }
+
+    /**
+     * Retrieves the maximum number of connections the pools may open.
+     * <p>
+     * For SQLite databases, this includes both the writer and the reader pool.
+     *
+     * @return The configured pool size, or {@code 10} if the pool is uninitialised.
+     * @since 1.0.6
+     */
+    public int getMaximumPoolSize() {
+        if (dataSource == null) return 10;
+        return dataSource.getMaximumPoolSize() + (readDataSource != null ? readDataSource.getMaximumPoolSize() : 0);
+    }
+
+    /**
+     * Retrieves the {@link DatabaseExecutor} used to run blocking JDBC work.
+     * <p>
+     * Unless one has been supplied via {@link #setExecutor(DatabaseExecutor)}, an executor
+     * sized to {@link #getMaximumPoolSize()} is created on first use.
+     *
+     * @return The executor for this database.
+     * @since 1.0.6
+     */
+    @NotNull
+    public DatabaseExecutor getExecutor() {
+        DatabaseExecutor current = executor;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (executor == null) executor = DatabaseExecutor.forPool("AcroniCore-SQL", getMaximumPoolSize());
+            return executor;
+        }
+    }
+
+    /**
+     * Replaces the executor used to run blocking JDBC work.
+     * <p>
+     * This allows a single {@link DatabaseExecutor} to be shared between several databases.
+     * An executor supplied here is not shut down by {@link #close()}.
+     *
+     * @param executor The executor to utilise.
+     * @since 1.0.6
+     */
+    public synchronized void setExecutor(@NotNull DatabaseExecutor executor) {
+        if (this.executor != null && ownsExecutor) this.executor.shutdown();
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
+    /**
+     * Retrieves the cache of prepared statements shared by every {@link SqlExecutor} using this database.
+     *
+     * @return The statement cache for this database.
+     * @since 1.0.6
+     */
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
     /**
      * Shuts down the connection pool and releases all active connections.
      * <p>
      * This should be invoked during the application shutdown phase to ensure
-     * all database resources are gracefully released.
+     * all database resources are gracefully released. Any queued work on the
+     * owned {@link DatabaseExecutor} is given up to five seconds to finish first.
      */
     public void close() {
+        synchronized (this) {
+            if (executor != null && ownsExecutor) executor.shutdown(5, TimeUnit.SECONDS);
+        }
+
+        statementCache.clear();
+
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            readDataSource.close();
+        }
+
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
@@ -6,14 +6,25 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides asynchronous execution for SQL queries and updates.
  * <p>
  * This executor utilises {@link CompletableFuture} to wrap blocking JDBC operations,
- * ensuring database tasks do not stall the application's main thread.
+ * ensuring database tasks do not stall the application's main thread. As of 1.0.6,
+ * work runs on the database's {@link SqlDatabase#getExecutor() dedicated executor}
+ * rather than the common fork-join pool. Queries known to be read-only may be sent to the
+ * {@link SqlDatabase#getReadConnection() read pool} via {@link #queryReadOnly(String, Function, Object...)}
+ * and {@link #queryEachReadOnly(String, int, Consumer, Object...)}.
  *
  * @author Acronical
  * @since 1.0.0
@@ -21,6 +32,7 @@ import java.util.function.Function;
 public class SqlExecutor {
 
     private final SqlDatabase sqlDatabase;
+    private WriteBehindQueue writeBehindQueue;
 
     /**
      * Initialises the {@link SqlExecutor} with a database provider.
@@ -39,7 +51,7 @@ public class SqlExecutor {
      * @return A {@link CompletableFuture} that completes when the update is finished.
      */
     public CompletableFuture<Void> update(@NotNull String sql, Object... parameters) {
-        return CompletableFuture.runAsync(() -> {
+        return sqlDatabase.getExecutor().runAsync(() -> {
            try (Connection connection = sqlDatabase.getConnection(); PreparedStatement statement = prepare(connection, sql, parameters)) {
                statement.executeUpdate();
            } catch (SQLException e) {
@@ -48,6 +60,143 @@ public class SqlExecutor {
         });
     }
 
+    /**
+     * Compiles a SQL statement into a reusable {@link SqlQuery} handle.
+     * <p>
+     * Handles should be created once, typically as constants, and passed to
+     * {@link #update(SqlQuery, SqlBinder)} or {@link #query(SqlQuery, SqlBinder, Function)}.
+     *
+     * @param sql The SQL statement, using {@code ?} for placeholders.
+     * @return A new {@link SqlQuery} instance.
+     * @since 1.0.6
+     */
+    @NotNull
+    public SqlQuery compile(@NotNull String sql) {
+        return SqlQuery.of(sql);
+    }
+
+    /**
+     * Asynchronously executes a precompiled update, insert, or delete statement.
+     * <p>
+     * The statement is taken from the database's per-connection cache, so repeated
+     * executions skip the prepare round-trip, and values are bound through typed
+     * setters rather than {@link PreparedStatement#setObject(int, Object)}.
+     *
+     * @param query  The compiled statement to execute.
+     * @param binder The binder supplying values for the statement placeholders.
+     * @return A {@link CompletableFuture} containing the number of affected rows, which
+     * completes exceptionally if the statement fails or is bound incorrectly.
+     * @since 1.0.6
+     */
+    public CompletableFuture<Integer> update(@NotNull SqlQuery query, @NotNull SqlBinder binder) {
+        return sqlDatabase.getExecutor().supplyAsync(() -> {
+            try (Connection connection = sqlDatabase.getConnection()) {
+                return bind(connection, query, binder).executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously executes a precompiled query and processes the first result row.
+     * <p>
+     * The provided {@code handler} is applied only if the {@link ResultSet}
+     * contains at least one row. See {@link #update(SqlQuery, SqlBinder)} for details
+     * on statement caching.
+     *
+     * @param <T>     The type of the object produced by the handler.
+     * @param query   The compiled query to execute.
+     * @param binder  The binder supplying values for the query placeholders.
+     * @param handler The function to map the {@link ResultSet} to a return object.
+     * @return A {@link CompletableFuture} containing the mapped result, or {@code null} if
+     * no records were found, which completes exceptionally if the query fails.
+     * @since 1.0.6
+     */
+    public <T> CompletableFuture<T> query(@NotNull SqlQuery query, @NotNull SqlBinder binder, @NotNull Function<ResultSet, T> handler) {
+        return sqlDatabase.getExecutor().supplyAsync(() -> {
+            try (Connection conn = sqlDatabase.getConnection(); ResultSet rs = bind(conn, query, binder).executeQuery()) {
+                return rs.next() ? handler.apply(rs) : null;
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Enables write-behind mode, allowing updates to be grouped into JDBC batches.
+     * <p>
+     * Once enabled, statements submitted via {@link #queueUpdate(String, Object...)} are
+     * buffered and flushed together whenever {@code maxBatchSize} statements are waiting
+     * or {@code flushIntervalMillis} has elapsed, whichever happens first.
+     *
+     * @param maxBatchSize        The number of queued statements that triggers an immediate flush.
+     * @param flushIntervalMillis The maximum time, in milliseconds, a statement may wait before being flushed.
+     * @return The current {@link SqlExecutor} instance for method chaining.
+     * @throws IllegalStateException If write-behind mode is already enabled.
+     * @since 1.0.6
+     */
+    public SqlExecutor enableWriteBehind(int maxBatchSize, long flushIntervalMillis) {
+        if (writeBehindQueue != null) throw new IllegalStateException("Write-behind mode is already enabled.");
+        this.writeBehindQueue = new WriteBehindQueue(sqlDatabase, maxBatchSize, flushIntervalMillis);
+        return this;
+    }
+
+    /**
+     * Queues a SQL update, insert, or delete statement for batched execution.
+     * <p>
+     * If write-behind mode has not been enabled, the statement is executed immediately on the
+     * database's executor. Queued statements always run in the order they were submitted.
+     *
+     * @param sql        The SQL statement to execute.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A {@link CompletableFuture} that completes once the statement has been committed,
+     * which completes exceptionally if the statement fails.
+     * @since 1.0.6
+     */
+    public CompletableFuture<Void> queueUpdate(@NotNull String sql, Object... parameters) {
+        if (writeBehindQueue != null) return writeBehindQueue.queue(sql, parameters);
+
+        return sqlDatabase.getExecutor().runAsync(() -> {
+            try (Connection connection = sqlDatabase.getConnection(); PreparedStatement statement = prepare(connection, sql, parameters)) {
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Flushes all statements currently waiting in the write-behind queue.
+     *
+     * @return A {@link CompletableFuture} that completes once the flush has finished,
+     * or immediately if write-behind mode is disabled.
+     * @since 1.0.6
+     */
+    public CompletableFuture<Void> flush() {
+        if (writeBehindQueue == null) return CompletableFuture.completedFuture(null);
+        return writeBehindQueue.flush();
+    }
+
+    /**
+     * Stops accepting queued statements and waits for the write-behind queue to drain.
+     * <p>
+     * This should be called during the plugin shutdown phase, before
+     * {@link SqlDatabase#close()}, to ensure no buffered writes are lost.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return {@code true} if every queued statement was written; otherwise {@code false}.
+     * @since 1.0.6
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        if (writeBehindQueue == null) return true;
+        return writeBehindQueue.shutdown(timeout, unit);
+    }
+
     /**
      * Asynchronously executes a SQL query and processes the first result row.
      * <p>
@@ -62,8 +211,32 @@ public class SqlExecutor {
      * if no records were found or an error occurred.
      */
     public <T> CompletableFuture<T> query(@NotNull String sql, @NotNull Function<ResultSet, T> handler, Object... parameters) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = sqlDatabase.getConnection(); PreparedStatement stmt = prepare(conn, sql, parameters); ResultSet rs = stmt.executeQuery()) {
+        return query(false, sql, handler, parameters);
+    }
+
+    /**
+     * Asynchronously executes a read-only SQL query and processes the first result row.
+     * <p>
+     * For SQLite databases, the query is served by the read-only
+     * {@link SqlDatabase#getReadConnection() reader pool}, so it does not wait for
+     * in-progress writes. Statements which modify data, including those with a
+     * {@code RETURNING} clause, must use {@link #query(String, Function, Object...)} instead.
+     *
+     * @param <T>        The type of the object produced by the handler.
+     * @param sql        The SQL query to execute.
+     * @param handler    The function to map the {@link ResultSet} to a return object.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A {@link CompletableFuture} containing the mapped result, or {@code null}
+     * if no records were found or an error occurred.
+     * @since 1.0.6
+     */
+    public <T> CompletableFuture<T> queryReadOnly(@NotNull String sql, @NotNull Function<ResultSet, T> handler, Object... parameters) {
+        return query(true, sql, handler, parameters);
+    }
+
+    private <T> CompletableFuture<T> query(boolean readOnly, @NotNull String sql, @NotNull Function<ResultSet, T> handler, Object... parameters) {
+        return sqlDatabase.getExecutor().supplyAsync(() -> {
+            try (Connection conn = connection(readOnly); PreparedStatement stmt = prepare(conn, sql, parameters); ResultSet rs = stmt.executeQuery()) {
                 return rs.next() ? handler.apply(rs) : null;
             } catch (SQLException e) {
                 e.printStackTrace();
@@ -72,6 +245,159 @@ public class SqlExecutor {
         });
     }
 
+    /**
+     * Asynchronously executes a SQL query and passes every result row to a consumer as it arrives.
+     * <p>
+     * Rows are read with the given fetch size, so only a window of the result is held in
+     * memory at once. The {@link ResultSet} passed to the consumer is positioned on the
+     * current row and must not be stored or advanced.
+     * <p>
+     * Note: MySQL Connector/J only honours a positive fetch size when the connection has
+     * {@code useCursorFetch=true}; otherwise, pass {@link Integer#MIN_VALUE} to stream
+     * row-by-row.
+     *
+     * @param sql        The SQL query to execute.
+     * @param fetchSize  The number of rows to fetch from the database per round-trip.
+     * @param rowHandler The consumer invoked once for every row.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A {@link CompletableFuture} containing the number of rows processed, which
+     * completes exceptionally if the query fails.
+     * @since 1.0.6
+     */
+    public CompletableFuture<Long> queryEach(@NotNull String sql, int fetchSize, @NotNull Consumer<ResultSet> rowHandler, Object... parameters) {
+        return queryEach(false, sql, fetchSize, rowHandler, parameters);
+    }
+
+    /**
+     * Asynchronously executes a read-only SQL query and passes every result row to a consumer as it arrives.
+     * <p>
+     * This behaves as {@link #queryEach(String, int, Consumer, Object...)}, except that for
+     * SQLite databases the query is served by the read-only
+     * {@link SqlDatabase#getReadConnection() reader pool}, so long scans do not hold up writes.
+     *
+     * @param sql        The SQL query to execute.
+     * @param fetchSize  The number of rows to fetch from the database per round-trip.
+     * @param rowHandler The consumer invoked once for every row.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A {@link CompletableFuture} containing the number of rows processed, which
+     * completes exceptionally if the query fails.
+     * @since 1.0.6
+     */
+    public CompletableFuture<Long> queryEachReadOnly(@NotNull String sql, int fetchSize, @NotNull Consumer<ResultSet> rowHandler, Object... parameters) {
+        return queryEach(true, sql, fetchSize, rowHandler, parameters);
+    }
+
+    private CompletableFuture<Long> queryEach(boolean readOnly, @NotNull String sql, int fetchSize, @NotNull Consumer<ResultSet> rowHandler, Object... parameters) {
+        return sqlDatabase.getExecutor().supplyAsync(() -> {
+            try (Connection conn = connection(readOnly); PreparedStatement stmt = prepare(conn, sql, parameters)) {
+                stmt.setFetchSize(fetchSize);
+
+                long rows = 0;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rowHandler.accept(rs);
+                        rows++;
+                    }
+                }
+                return rows;
+            } catch (SQLException e) {
+                e.printStackTrace();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Executes a SQL query and returns a lazily mapped {@link Stream} over its rows.
+     * <p>
+     * Each row is read from the database and mapped only when the stream requests it,
+     * allowing very large tables to be processed without materialising the full result.
+     * The connection remains borrowed until the stream is closed, so it must always be
+     * consumed within a try-with-resources block.
+     * <p>
+     * This method blocks whilst the query executes and must not be called from the main
+     * server thread. See {@link #queryEach(String, int, Consumer, Object...)} for the note
+     * on MySQL fetch sizes.
+     *
+     * @param <T>        The type of the object produced by the mapper.
+     * @param sql        The SQL query to execute.
+     * @param fetchSize  The number of rows to fetch from the database per round-trip.
+     * @param mapper     The function to map the current row to a stream element.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A sequential stream of mapped rows that releases its connection when closed.
+     * @throws SQLException If the query cannot be executed.
+     * @since 1.0.6
+     */
+    @NotNull
+    public <T> Stream<T> stream(@NotNull String sql, int fetchSize, @NotNull Function<ResultSet, T> mapper, Object... parameters) throws SQLException {
+        Connection conn = sqlDatabase.getConnection();
+        PreparedStatement stmt = null;
+
+        try {
+            stmt = prepare(conn, sql, parameters);
+            stmt.setFetchSize(fetchSize);
+            ResultSet rs = stmt.executeQuery();
+
+            Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    try {
+                        if (!rs.next()) return false;
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Failed to read the next row of the result set.", e);
+                    }
+                    action.accept(mapper.apply(rs));
+                    return true;
+                }
+            };
+
+            PreparedStatement openStatement = stmt;
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                try (conn; openStatement; rs) {
+                    // Resources are released in reverse order by the try-with-resources block.
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            });
+        } catch (SQLException e) {
+            if (stmt != null) stmt.close();
+            conn.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows a connection from the reader pool for read-only work, or the primary pool otherwise.
+     */
+    private Connection connection(boolean readOnly) throws SQLException {
+        return readOnly ? sqlDatabase.getReadConnection() : sqlDatabase.getConnection();
+    }
+
+    /**
+     * Retrieves a cached statement for a compiled query and applies its binder.
+     * <p>
+     * Note: The returned {@link PreparedStatement} belongs to the statement cache
+     * and must not be closed by the caller.
+     *
+     * @param connection The database connection to use.
+     * @param query      The compiled query.
+     * @param binder     The binder supplying values for the placeholders.
+     * @return A bound {@link PreparedStatement}.
+     * @throws SQLException If a database access error occurs, or the binder did not bind every placeholder.
+     */
+    private PreparedStatement bind(@NotNull Connection connection, @NotNull SqlQuery query, @NotNull SqlBinder binder) throws SQLException {
+        PreparedStatement stmt = sqlDatabase.getStatementCache().acquire(connection, query);
+        SqlParameters parameters = new SqlParameters(stmt);
+        binder.bind(parameters);
+
+        if (parameters.getBoundCount() != query.getParameterCount()) {
+            stmt.clearParameters();
+            throw new SQLException("Expected " + query.getParameterCount() + " parameters but " + parameters.getBoundCount() + " were bound for: " + query.getSql());
+        }
+
+        return stmt;
+    }
+
     /**
      * Prepares a SQL statement and binds the provided parameters.
      * <p>
@@ -0,0 +1,183 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+/**
+ * A positional, typed parameter binder for a {@link PreparedStatement}.
+ * <p>
+ * Each setter binds the next placeholder in order and calls the matching typed
+ * JDBC method directly, avoiding both the boxing and the driver-side type dispatch
+ * of {@link PreparedStatement#setObject(int, Object)}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class SqlParameters {
+
+    private final PreparedStatement statement;
+    private int index = 0;
+
+    /**
+     * Initialises a new binder positioned before the first placeholder.
+     *
+     * @param statement The statement to bind values to.
+     */
+    SqlParameters(@NotNull PreparedStatement statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * Binds an {@code int} to the next placeholder.
+     *
+     * @param value The value to bind.
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setInt(int value) throws SQLException {
+        statement.setInt(++index, value);
+        return this;
+    }
+
+    /**
+     * Binds a {@code long} to the next placeholder.
+     *
+     * @param value The value to bind.
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setLong(long value) throws SQLException {
+        statement.setLong(++index, value);
+        return this;
+    }
+
+    /**
+     * Binds a {@code double} to the next placeholder.
+     *
+     * @param value The value to bind.
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setDouble(double value) throws SQLException {
+        statement.setDouble(++index, value);
+        return this;
+    }
+
+    /**
+     * Binds a {@code boolean} to the next placeholder.
+     *
+     * @param value The value to bind.
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setBoolean(boolean value) throws SQLException {
+        statement.setBoolean(++index, value);
+        return this;
+    }
+
+    /**
+     * Binds a {@link String} to the next placeholder.
+     *
+     * @param value The value to bind (may be {@code null}).
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setString(@Nullable String value) throws SQLException {
+        statement.setString(++index, value);
+        return this;
+    }
+
+    /**
+     * Binds a {@link UUID} to the next placeholder as 16 raw bytes.
+     * <p>
+     * This suits {@code BINARY(16)} columns in MySQL and {@code BLOB} columns in SQLite,
+     * which are less than half the size of a textual UUID and compare faster in indexes.
+     *
+     * @param value The value to bind (may be {@code null}).
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setUuid(@Nullable UUID value) throws SQLException {
+        if (value == null) statement.setNull(++index, Types.BINARY);
+        else statement.setBytes(++index, toBytes(value));
+        return this;
+    }
+
+    /**
+     * Binds a SQL {@code NULL} to the next placeholder.
+     *
+     * @param sqlType The SQL type code from {@link Types}.
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setNull(int sqlType) throws SQLException {
+        statement.setNull(++index, sqlType);
+        return this;
+    }
+
+    /**
+     * Binds an arbitrary object to the next placeholder using {@link PreparedStatement#setObject(int, Object)}.
+     *
+     * @param value The value to bind (may be {@code null}).
+     * @return The current {@link SqlParameters} instance for method chaining.
+     * @throws SQLException If the value cannot be bound.
+     */
+    public SqlParameters setObject(@Nullable Object value) throws SQLException {
+        statement.setObject(++index, value);
+        return this;
+    }
+
+    /**
+     * Retrieves the number of placeholders bound so far.
+     *
+     * @return The bound parameter count.
+     */
+    public int getBoundCount() {
+        return index;
+    }
+
+    /**
+     * Converts a {@link UUID} into its 16-byte big-endian representation.
+     *
+     * @param uuid The UUID to convert.
+     * @return A new 16-byte array.
+     */
+    @NotNull
+    public static byte[] toBytes(@NotNull UUID uuid) {
+        byte[] bytes = new byte[16];
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (most >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (least >>> (56 - i * 8));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Reconstructs a {@link UUID} from its 16-byte big-endian representation.
+     *
+     * @param bytes The bytes read from the database.
+     * @return The decoded UUID.
+     * @throws IllegalArgumentException If the array is not exactly 16 bytes long.
+     */
+    @NotNull
+    public static UUID fromBytes(@NotNull byte[] bytes) {
+        if (bytes.length != 16) throw new IllegalArgumentException("A UUID requires exactly 16 bytes, received " + bytes.length + ".");
+
+        long most = 0, least = 0;
+        for (int i = 0; i < 8; i++) {
+            most = (most << 8) | (bytes[i] & 0xFF);
+            least = (least << 8) | (bytes[i + 8] & 0xFF);
+        }
+
+        return new UUID(most, least);
+    }
+}
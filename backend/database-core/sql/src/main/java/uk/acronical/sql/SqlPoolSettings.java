@@ -0,0 +1,211 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tunable connection pool settings for a {@link SqlDatabase}.
+ * <p>
+ * Every setting has a sensible default, so only the values that differ from
+ * {@link #defaults()} need to be supplied. Settings prefixed with {@code mysql} or
+ * {@code sqlite} only apply to that type of database.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class SqlPoolSettings {
+
+    private int maximumPoolSize = 10;
+    private int minimumIdle = -1;
+    private long connectionTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+    private long idleTimeoutMillis = TimeUnit.MINUTES.toMillis(10);
+    private long maxLifetimeMillis = TimeUnit.MINUTES.toMillis(30);
+    private long leakDetectionThresholdMillis = 0;
+
+    private boolean mysqlRewriteBatchedStatements = true;
+    private boolean mysqlUseCursorFetch = false;
+
+    private int sqliteReaderPoolSize = 4;
+    private long sqliteBusyTimeoutMillis = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * Creates a new {@link SqlPoolSettings} instance populated with the default values.
+     *
+     * @return A new {@link SqlPoolSettings} instance.
+     */
+    @NotNull
+    public static SqlPoolSettings defaults() {
+        return new SqlPoolSettings();
+    }
+
+    /**
+     * Sets the maximum number of connections in the pool.
+     * <p>
+     * For SQLite, this setting is ignored as writes always use a single connection;
+     * see {@link #sqliteReaderPoolSize(int)} instead.
+     *
+     * @param maximumPoolSize The maximum pool size (default: {@code 10}).
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings maximumPoolSize(int maximumPoolSize) {
+        if (maximumPoolSize <= 0) throw new IllegalArgumentException("The maximum pool size must be greater than zero.");
+        this.maximumPoolSize = maximumPoolSize;
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of idle connections kept open by the pool.
+     *
+     * @param minimumIdle The minimum idle count, or {@code -1} to match the maximum pool size (default: {@code -1}).
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings minimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+        return this;
+    }
+
+    /**
+     * Sets how long a caller will wait to borrow a connection before failing.
+     *
+     * @param timeout The maximum wait time (default: 30 seconds).
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings connectionTimeout(long timeout, @NotNull TimeUnit unit) {
+        this.connectionTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Sets how long a connection may sit idle before it is retired.
+     *
+     * @param timeout The idle timeout (default: 10 minutes).
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings idleTimeout(long timeout, @NotNull TimeUnit unit) {
+        this.idleTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the maximum lifetime of a connection in the pool.
+     * <p>
+     * This should be several seconds shorter than any connection time limit imposed
+     * by the database server, such as MySQL's {@code wait_timeout}.
+     *
+     * @param lifetime The maximum lifetime (default: 30 minutes).
+     * @param unit     The unit of the {@code lifetime} argument.
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings maxLifetime(long lifetime, @NotNull TimeUnit unit) {
+        this.maxLifetimeMillis = unit.toMillis(lifetime);
+        return this;
+    }
+
+    /**
+     * Sets how long a connection may be borrowed before a possible leak is logged.
+     *
+     * @param threshold The leak detection threshold, or {@code 0} to disable (default: disabled).
+     * @param unit      The unit of the {@code threshold} argument.
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings leakDetectionThreshold(long threshold, @NotNull TimeUnit unit) {
+        this.leakDetectionThresholdMillis = unit.toMillis(threshold);
+        return this;
+    }
+
+    /**
+     * Sets whether MySQL should rewrite JDBC batches into multi-row statements.
+     * <p>
+     * This greatly improves the throughput of batched writes, such as those issued
+     * by {@link SqlExecutor#enableWriteBehind(int, long) write-behind mode}.
+     *
+     * @param rewrite {@code true} to enable rewriting (default: {@code true}).
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings mysqlRewriteBatchedStatements(boolean rewrite) {
+        this.mysqlRewriteBatchedStatements = rewrite;
+        return this;
+    }
+
+    /**
+     * Sets whether MySQL should honour positive fetch sizes using server-side cursors.
+     * <p>
+     * Without this, {@link SqlExecutor#queryEach(String, int, java.util.function.Consumer, Object...)}
+     * and {@link SqlExecutor#stream(String, int, java.util.function.Function, Object...)} require a
+     * fetch size of {@link Integer#MIN_VALUE} to avoid loading the full result into memory.
+     *
+     * @param cursorFetch {@code true} to enable cursor fetching (default: {@code false}).
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings mysqlUseCursorFetch(boolean cursorFetch) {
+        this.mysqlUseCursorFetch = cursorFetch;
+        return this;
+    }
+
+    /**
+     * Sets the number of read-only connections opened alongside the single SQLite writer.
+     *
+     * @param readerPoolSize The reader pool size, or {@code 0} to share the writer connection (default: {@code 4}).
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings sqliteReaderPoolSize(int readerPoolSize) {
+        if (readerPoolSize < 0) throw new IllegalArgumentException("The reader pool size cannot be negative.");
+        this.sqliteReaderPoolSize = readerPoolSize;
+        return this;
+    }
+
+    /**
+     * Sets how long SQLite waits for a lock on the database file before failing.
+     *
+     * @param timeout The busy timeout (default: 5 seconds).
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return The current {@link SqlPoolSettings} instance for method chaining.
+     */
+    public SqlPoolSettings sqliteBusyTimeout(long timeout, @NotNull TimeUnit unit) {
+        this.sqliteBusyTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public boolean isMysqlRewriteBatchedStatements() {
+        return mysqlRewriteBatchedStatements;
+    }
+
+    public boolean isMysqlUseCursorFetch() {
+        return mysqlUseCursorFetch;
+    }
+
+    public int getSqliteReaderPoolSize() {
+        return sqliteReaderPoolSize;
+    }
+
+    public long getSqliteBusyTimeoutMillis() {
+        return sqliteBusyTimeoutMillis;
+    }
+}
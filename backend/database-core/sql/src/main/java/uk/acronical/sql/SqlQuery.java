@@ -0,0 +1,87 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A precompiled handle for a parameterised SQL statement.
+ * <p>
+ * The statement text is parsed once when the handle is created to count its
+ * placeholders, so every execution can validate its bindings without re-scanning
+ * the SQL. Handles are immutable and intended to be stored as constants and reused;
+ * they also act as the key for the per-connection statement cache used by
+ * {@link SqlExecutor#update(SqlQuery, SqlBinder)} and
+ * {@link SqlExecutor#query(SqlQuery, SqlBinder, java.util.function.Function)}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class SqlQuery {
+
+    private final String sql;
+    private final int parameterCount;
+
+    private SqlQuery(@NotNull String sql) {
+        this.sql = sql;
+        this.parameterCount = countPlaceholders(sql);
+    }
+
+    /**
+     * Compiles a SQL statement into a reusable handle.
+     *
+     * @param sql The SQL statement, using {@code ?} for placeholders.
+     * @return A new {@link SqlQuery} instance.
+     */
+    @NotNull
+    public static SqlQuery of(@NotNull String sql) {
+        return new SqlQuery(sql);
+    }
+
+    /**
+     * Retrieves the SQL text of this statement.
+     *
+     * @return The SQL string.
+     */
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Retrieves the number of placeholders in this statement.
+     *
+     * @return The expected number of bound parameters.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Counts the {@code ?} placeholders that appear outside of quoted literals and identifiers.
+     *
+     * @param sql The SQL text to scan.
+     * @return The number of placeholders found.
+     */
+    private static int countPlaceholders(@NotNull String sql) {
+        int count = 0;
+        char quote = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
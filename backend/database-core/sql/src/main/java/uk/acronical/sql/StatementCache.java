@@ -0,0 +1,134 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of {@link PreparedStatement}s keyed by physical connection and SQL text.
+ * <p>
+ * Pooled connections are unwrapped to the driver's own connection before lookup, so
+ * statements survive being returned to the pool and are reused by whichever thread
+ * borrows that connection next. This works regardless of driver, including SQLite,
+ * where the MySQL {@code cachePrepStmts} properties have no effect.
+ * <p>
+ * Statements handed out by this cache must not be closed by the caller.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+final class StatementCache {
+
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final int maxStatementsPerConnection;
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new HashMap<>();
+    private int acquisitions = 0;
+
+    /**
+     * Initialises a new {@link StatementCache}.
+     *
+     * @param maxStatementsPerConnection The number of statements retained per connection before the least recently used is closed.
+     */
+    StatementCache(int maxStatementsPerConnection) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /**
+     * Retrieves a cached statement for the connection, preparing it if necessary.
+     * <p>
+     * Any parameters left over from a previous execution are cleared.
+     *
+     * @param connection The connection borrowed from the pool.
+     * @param query      The compiled query to prepare.
+     * @return A ready-to-bind {@link PreparedStatement}.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    @NotNull
+    PreparedStatement acquire(@NotNull Connection connection, @NotNull SqlQuery query) throws SQLException {
+        Connection physical = unwrap(connection);
+        Map<String, PreparedStatement> cached;
+
+        synchronized (statements) {
+            if (++acquisitions % SWEEP_INTERVAL == 0) sweep();
+            cached = statements.computeIfAbsent(physical, key -> new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= maxStatementsPerConnection) return false;
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            });
+        }
+
+        // A physical connection is only ever borrowed by one thread at a time, but the
+        // inner map is still guarded in case the pool hands out an unwrapped connection.
+        synchronized (cached) {
+            PreparedStatement statement = cached.get(query.getSql());
+
+            if (statement == null || statement.isClosed()) {
+                statement = physical.prepareStatement(query.getSql());
+                cached.put(query.getSql(), statement);
+            } else {
+                statement.clearParameters();
+            }
+
+            return statement;
+        }
+    }
+
+    /**
+     * Closes every cached statement and empties the cache.
+     */
+    void clear() {
+        synchronized (statements) {
+            for (Map<String, PreparedStatement> cached : statements.values()) {
+                synchronized (cached) {
+                    cached.values().forEach(StatementCache::closeQuietly);
+                }
+            }
+            statements.clear();
+        }
+    }
+
+    /**
+     * Removes entries for physical connections that the pool has since closed.
+     */
+    private void sweep() {
+        Iterator<Map.Entry<Connection, Map<String, PreparedStatement>>> iterator = statements.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            try {
+                if (iterator.next().getKey().isClosed()) iterator.remove();
+            } catch (SQLException e) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Resolves the driver connection behind a pooled proxy.
+     *
+     * @param connection The connection borrowed from the pool.
+     * @return The underlying physical connection, or the input if it cannot be unwrapped.
+     */
+    @NotNull
+    private static Connection unwrap(@NotNull Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) return connection.unwrap(Connection.class);
+        } catch (SQLException ignored) {}
+        return connection;
+    }
+
+    private static void closeQuietly(@NotNull PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {}
+    }
+}
@@ -0,0 +1,315 @@
+package uk.acronical.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A write-behind buffer that groups queued SQL statements into JDBC batches.
+ * <p>
+ * Statements are held in memory until either the size threshold is reached or the
+ * flush interval elapses. Each flush borrows a single connection and executes every
+ * consecutive run of statements sharing the same SQL text with {@link PreparedStatement#addBatch()}
+ * and {@link PreparedStatement#executeBatch()}, committing once per run. Only consecutive
+ * statements are batched together, so writes always run in the order they were queued.
+ * <p>
+ * If a run fails, it is rolled back and retried one statement at a time, so only the
+ * offending write completes exceptionally.
+ * <p>
+ * All flushes run on a single dedicated thread, meaning batches never overlap.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class WriteBehindQueue {
+
+    private final SqlDatabase sqlDatabase;
+    private final int maxBatchSize;
+    private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flushThread;
+    private volatile boolean closed = false;
+
+    /**
+     * Initialises a new {@link WriteBehindQueue} and starts its flush timer.
+     *
+     * @param sqlDatabase         The {@link SqlDatabase} used to fetch connections.
+     * @param maxBatchSize        The number of queued statements that triggers an immediate flush.
+     * @param flushIntervalMillis The maximum time, in milliseconds, a statement may wait before being flushed.
+     * @throws IllegalArgumentException If either threshold is not positive.
+     */
+    public WriteBehindQueue(@NotNull SqlDatabase sqlDatabase, int maxBatchSize, long flushIntervalMillis) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("The batch size must be greater than zero.");
+        if (flushIntervalMillis <= 0) throw new IllegalArgumentException("The flush interval must be greater than zero.");
+
+        this.sqlDatabase = sqlDatabase;
+        this.maxBatchSize = maxBatchSize;
+        this.flushThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AcroniCore-SQL-WriteBehind");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.flushThread.scheduleWithFixedDelay(this::drain, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a statement to be executed as part of the next batch.
+     *
+     * @param sql        The SQL statement to execute.
+     * @param parameters The values to bind to the query placeholders (?).
+     * @return A {@link CompletableFuture} that completes once the batch containing this statement has been committed.
+     * @throws IllegalStateException If the queue has been shut down.
+     */
+    public CompletableFuture<Void> queue(@NotNull String sql, Object... parameters) {
+        if (closed) throw new IllegalStateException("The write-behind queue has been shut down.");
+
+        PendingWrite write = new PendingWrite(sql, parameters, new CompletableFuture<>());
+        pending.add(write);
+
+        // A shutdown may have run its final drain between the check above and the add.
+        if (closed) {
+            if (pending.remove(write)) write.future.completeExceptionally(new IllegalStateException("The write-behind queue has been shut down."));
+            return write.future;
+        }
+
+        if (size.incrementAndGet() >= maxBatchSize) requestFlush();
+
+        return write.future;
+    }
+
+    /**
+     * Requests that all currently queued statements are flushed as soon as possible.
+     *
+     * @return A {@link CompletableFuture} that completes once the flush has finished.
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        try {
+            flushThread.execute(() -> {
+                drain();
+                future.complete(null);
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IllegalStateException("The write-behind queue has been shut down.", e));
+        }
+
+        return future;
+    }
+
+    /**
+     * Retrieves the number of statements waiting to be flushed.
+     *
+     * @return The current queue depth.
+     */
+    public int getPendingCount() {
+        return size.get();
+    }
+
+    /**
+     * Stops accepting new statements and waits for the queue to drain.
+     * <p>
+     * This should be invoked before {@link SqlDatabase#close()} so that the final
+     * batch still has access to a connection. Any statement that could not be flushed
+     * in time has its future completed exceptionally.
+     *
+     * @param timeout The maximum time to wait for the final flush.
+     * @param unit    The unit of the {@code timeout} argument.
+     * @return {@code true} if every queued statement was flushed; otherwise {@code false}.
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        if (closed) return pending.isEmpty();
+        closed = true;
+
+        flushThread.execute(this::drain);
+        flushThread.shutdown();
+
+        boolean terminated;
+        try {
+            terminated = flushThread.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            terminated = false;
+            Thread.currentThread().interrupt();
+        }
+
+        if (!terminated) flushThread.shutdownNow();
+
+        return failRemaining() && terminated;
+    }
+
+    /**
+     * Completes the future of every statement still waiting in the queue exceptionally.
+     *
+     * @return {@code true} if the queue was already empty; otherwise {@code false}.
+     */
+    private boolean failRemaining() {
+        boolean empty = true;
+        IllegalStateException exception = new IllegalStateException("The write-behind queue was shut down before the statement was flushed.");
+
+        PendingWrite write;
+        while ((write = pending.poll()) != null) {
+            size.decrementAndGet();
+            write.future.completeExceptionally(exception);
+            empty = false;
+        }
+
+        return empty;
+    }
+
+    /**
+     * Schedules a flush on the flush thread unless one is already waiting to run.
+     */
+    private void requestFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) return;
+
+        try {
+            flushThread.execute(this::drain);
+        } catch (RejectedExecutionException ignored) {
+            flushScheduled.set(false);
+        }
+    }
+
+    /**
+     * Repeatedly executes batches until the queue is empty.
+     * <p>
+     * This method must only be invoked from the flush thread.
+     */
+    private void drain() {
+        flushScheduled.set(false);
+
+        List<PendingWrite> batch = new ArrayList<>(Math.min(size.get(), maxBatchSize));
+
+        while (true) {
+            PendingWrite write;
+            while (batch.size() < maxBatchSize && (write = pending.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(write);
+            }
+
+            if (batch.isEmpty()) return;
+
+            execute(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Executes a drained batch, one run of consecutive writes sharing the same SQL text at a time, and completes their futures.
+     *
+     * @param batch The writes to execute.
+     */
+    private void execute(@NotNull List<PendingWrite> batch) {
+        try (Connection connection = sqlDatabase.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                int start = 0;
+                while (start < batch.size()) {
+                    String sql = batch.get(start).sql;
+                    int end = start + 1;
+                    while (end < batch.size() && batch.get(end).sql.equals(sql)) end++;
+
+                    executeGroup(connection, sql, batch.subList(start, end));
+                    start = end;
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (Throwable e) {
+            // Driver and binding failures are not always SQLExceptions, and must still release every waiting future.
+            e.printStackTrace();
+            for (PendingWrite write : batch) write.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Executes every write sharing the same SQL text as one JDBC batch and commits it.
+     * <p>
+     * If the batch fails, it is rolled back and each write is retried on its own.
+     *
+     * @param connection The connection to execute on, with auto-commit disabled.
+     * @param sql        The SQL text shared by the writes.
+     * @param group      The writes to execute, in the order they were queued.
+     * @throws Exception If the connection can no longer be rolled back.
+     */
+    private void executeGroup(@NotNull Connection connection, @NotNull String sql, @NotNull List<PendingWrite> group) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (PendingWrite write : group) {
+                bind(statement, write);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (Exception e) {
+            connection.rollback();
+            if (group.size() == 1) {
+                e.printStackTrace();
+                group.getFirst().future.completeExceptionally(e);
+                return;
+            }
+
+            for (PendingWrite write : group) executeSingle(connection, write);
+            return;
+        }
+
+        for (PendingWrite write : group) write.future.complete(null);
+    }
+
+    /**
+     * Executes and commits a single write, completing its future with the outcome.
+     *
+     * @param connection The connection to execute on, with auto-commit disabled.
+     * @param write      The write to execute.
+     * @throws Exception If the connection can no longer be rolled back.
+     */
+    private void executeSingle(@NotNull Connection connection, @NotNull PendingWrite write) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(write.sql)) {
+            bind(statement, write);
+            statement.executeUpdate();
+            connection.commit();
+        } catch (Exception e) {
+            connection.rollback();
+            e.printStackTrace();
+            write.future.completeExceptionally(e);
+            return;
+        }
+
+        write.future.complete(null);
+    }
+
+    /**
+     * Binds the parameters of a write to a prepared statement.
+     *
+     * @param statement The statement to bind to.
+     * @param write     The write holding the parameters.
+     * @throws SQLException If a parameter cannot be bound.
+     */
+    private void bind(@NotNull PreparedStatement statement, @NotNull PendingWrite write) throws SQLException {
+        for (int i = 0; i < write.parameters.length; i++) statement.setObject(i + 1, write.parameters[i]);
+    }
+
+    /**
+     * A record representing a statement waiting to be flushed.
+     *
+     * @param sql        The SQL statement text, used to batch consecutive statements.
+     * @param parameters The values to bind to the statement.
+     * @param future     The future completed once the statement has been committed.
+     */
+    private record PendingWrite(String sql, Object[] parameters, CompletableFuture<Void> future) {}
+}
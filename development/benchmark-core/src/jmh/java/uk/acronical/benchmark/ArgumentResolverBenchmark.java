@@ -0,0 +1,60 @@
+package uk.acronical.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.acronical.command.ArgumentResolver;
+
+import java.lang.reflect.Method;
+
+/**
+ * Measures the argument conversion performed by {@link uk.acronical.command.CommandFramework}
+ * before every command invocation.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class ArgumentResolverBenchmark {
+
+    private final String[] mixedArgs = {"64", "1.5", "true", "griefing"};
+    private final String[] stringArgs = {"hello"};
+
+    private ArgumentResolver resolver;
+    private CommandSender sender;
+    private Method mixed;
+    private Method strings;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        BukkitStubs.install();
+
+        resolver = new ArgumentResolver(Bukkit.getServer());
+        sender = BukkitStubs.sender();
+        mixed = Handlers.class.getMethod("mixed", CommandSender.class, int.class, double.class, boolean.class, String.class);
+        strings = Handlers.class.getMethod("strings", CommandSender.class, String.class);
+    }
+
+    @Benchmark
+    public Object[] mixedTypes() {
+        return resolver.resolve(mixed, sender, mixedArgs);
+    }
+
+    @Benchmark
+    public Object[] singleString() {
+        return resolver.resolve(strings, sender, stringArgs);
+    }
+
+    /**
+     * Representative command handler signatures.
+     */
+    public static class Handlers {
+
+        public void mixed(CommandSender sender, int amount, double multiplier, boolean silent, String reason) {}
+
+        public void strings(CommandSender sender, String message) {}
+    }
+}
@@ -0,0 +1,200 @@
+package uk.acronical.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.UnsafeValues;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.common.LoggerUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Minimal stand-ins for the Bukkit server, allowing library code to run inside a JMH fork.
+ * <p>
+ * Each stub is a dynamic {@link Proxy} that answers only the handful of calls made by the
+ * benchmarked code paths; every other method returns {@code null}, {@code false} or zero.
+ * The server is installed once per fork via {@link #install()}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class BukkitStubs {
+
+    /**
+     * The data version reported to item serialisation, matching Minecraft 1.21.1.
+     */
+    public static final int DATA_VERSION = 3955;
+
+    private static final Logger LOGGER = Logger.getLogger("AcroniCore-Benchmark");
+    private static final Object UNHANDLED = new Object();
+
+    private static World world;
+
+    static {
+        LOGGER.setLevel(Level.OFF);
+    }
+
+    private BukkitStubs() {}
+
+    /**
+     * Installs the stub server and initialises {@link LoggerUtils}, if not already done.
+     */
+    public static synchronized void install() {
+        if (Bukkit.getServer() != null) return;
+
+        world = world("world");
+
+        UnsafeValues unsafe = stub(UnsafeValues.class, (method, args) -> switch (method.getName()) {
+            case "getDataVersion" -> DATA_VERSION;
+            case "getMaterial" -> Material.getMaterial((String) args[0]);
+            default -> UNHANDLED;
+        });
+
+        ItemFactory itemFactory = stub(ItemFactory.class, (method, args) -> switch (method.getName()) {
+            case "equals" -> args.length == 2 ? args[0] == args[1] : UNHANDLED;
+            default -> UNHANDLED;
+        });
+
+        Server server = stub(Server.class, (method, args) -> switch (method.getName()) {
+            case "getLogger" -> LOGGER;
+            case "getName" -> "AcroniCore-Benchmark";
+            case "getVersion", "getBukkitVersion" -> "1.21.1-R0.1-SNAPSHOT";
+            case "getUnsafe" -> unsafe;
+            case "getItemFactory" -> itemFactory;
+            case "getWorld" -> args[0] instanceof UUID uuid && uuid.equals(world.getUID()) || "world".equals(args[0]) ? world : null;
+            default -> UNHANDLED;
+        });
+
+        Bukkit.setServer(server);
+        LoggerUtils.init(plugin());
+    }
+
+    /**
+     * Retrieves the default world registered with the stub server.
+     *
+     * @return The stub {@link World}.
+     */
+    @NotNull
+    public static World getWorld() {
+        install();
+        return world;
+    }
+
+    /**
+     * Creates a stub {@link World} with a stable {@link UUID} derived from its name.
+     *
+     * @param name The name of the world.
+     * @return A new stub world.
+     */
+    @NotNull
+    public static World world(@NotNull String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return stub(World.class, (method, args) -> switch (method.getName()) {
+            case "getUID" -> uuid;
+            case "getName" -> name;
+            default -> UNHANDLED;
+        });
+    }
+
+    /**
+     * Creates a stub {@link CommandSender} that holds every permission.
+     *
+     * @return A new stub command sender.
+     */
+    @NotNull
+    public static CommandSender sender() {
+        return stub(CommandSender.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> "CONSOLE";
+            case "hasPermission", "isOp" -> true;
+            default -> UNHANDLED;
+        });
+    }
+
+    /**
+     * Creates a stub {@link Plugin} whose logger discards all output.
+     *
+     * @return A new stub plugin.
+     */
+    @NotNull
+    public static Plugin plugin() {
+        return stub(Plugin.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> "AcroniCore-Benchmark";
+            case "getLogger" -> LOGGER;
+            case "getServer" -> Bukkit.getServer();
+            default -> UNHANDLED;
+        });
+    }
+
+    /**
+     * Creates a dynamic proxy for an interface, delegating calls to the supplied answer.
+     *
+     * @param <T>    The interface type.
+     * @param type   The interface to implement.
+     * @param answer The handler for calls the stub cares about.
+     * @return A new proxy instance.
+     */
+    @NotNull
+    private static <T> T stub(@NotNull Class<T> type, @NotNull Answer answer) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (instance, method, args) -> {
+            Object[] arguments = args != null ? args : new Object[0];
+
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> instance == arguments[0];
+                    case "hashCode" -> System.identityHashCode(instance);
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+
+            Object result = answer.answer(method, arguments);
+            return result != UNHANDLED ? result : defaultValue(method.getReturnType());
+        });
+
+        return type.cast(proxy);
+    }
+
+    /**
+     * Retrieves the default value for a method's return type.
+     *
+     * @param type The return type.
+     * @return {@code null}, {@code false} or the appropriate zero value.
+     */
+    @Nullable
+    private static Object defaultValue(@NotNull Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+
+    /**
+     * A handler for the calls a stub responds to.
+     */
+    @FunctionalInterface
+    private interface Answer {
+
+        /**
+         * Answers a call made to the stub.
+         *
+         * @param method The invoked method.
+         * @param args   The arguments passed, never {@code null}.
+         * @return The result, or {@link #UNHANDLED} to fall back to the default value.
+         */
+        Object answer(@NotNull Method method, @NotNull Object[] args);
+    }
+}
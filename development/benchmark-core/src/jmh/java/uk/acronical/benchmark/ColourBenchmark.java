@@ -0,0 +1,41 @@
+package uk.acronical.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import uk.acronical.common.ColourTranslator;
+import uk.acronical.common.StringUtils;
+
+/**
+ * Measures {@link StringUtils#colour(String)} across the kinds of text plugins commonly colour.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class ColourBenchmark {
+
+    private final String plain = "Welcome back to the server, enjoy your stay!";
+    private final String legacy = "&6&lAcroniCore &8» &7Welcome back, &aAcronical&7!";
+    private final String hex = "&#FF5555Red &#55FF55Green &#5555FFBlue &7and &lbold";
+
+    @Benchmark
+    public String plain() {
+        return StringUtils.colour(plain);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return StringUtils.colour(legacy);
+    }
+
+    @Benchmark
+    public String hex() {
+        return StringUtils.colour(hex);
+    }
+
+    @Benchmark
+    public String hexUncached() {
+        return ColourTranslator.translateUncached(hex);
+    }
+}
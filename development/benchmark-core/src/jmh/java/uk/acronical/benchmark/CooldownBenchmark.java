@@ -0,0 +1,77 @@
+package uk.acronical.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.acronical.cooldown.CooldownKey;
+import uk.acronical.cooldown.CooldownManager;
+import uk.acronical.cooldown.CooldownStore;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Measures {@link CooldownManager#isActive(UUID, String)} and {@link CooldownStore#isActive(UUID, CooldownKey)}
+ * with populated registries.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class CooldownBenchmark {
+
+    private static final int PLAYERS = 1000;
+
+    private static final CooldownKey ENDERPEARL = CooldownKey.of("enderpearl");
+    private static final CooldownKey KIT = CooldownKey.of("kit");
+    private static final CooldownKey TELEPORT = CooldownKey.of("teleport");
+
+    private final CooldownManager manager = new CooldownManager();
+    private final CooldownStore store = new CooldownStore();
+    private final UUID[] players = new UUID[PLAYERS];
+    private int cursor = 0;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < PLAYERS; i++) {
+            players[i] = UUID.randomUUID();
+            manager.set(players[i], "enderpearl", Duration.ofHours(1));
+            manager.set(players[i], "kit", Duration.ofHours(1));
+            store.set(players[i], ENDERPEARL, Duration.ofHours(1));
+            store.set(players[i], KIT, Duration.ofHours(1));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    public boolean activeHit() {
+        return manager.isActive(next(), "enderpearl");
+    }
+
+    @Benchmark
+    public boolean missingKey() {
+        return manager.isActive(next(), "teleport");
+    }
+
+    @Benchmark
+    public boolean storeActiveHit() {
+        return store.isActive(next(), ENDERPEARL);
+    }
+
+    @Benchmark
+    public boolean storeMissingKey() {
+        return store.isActive(next(), TELEPORT);
+    }
+
+    private UUID next() {
+        UUID uuid = players[cursor];
+        cursor = (cursor + 1) % PLAYERS;
+        return uuid;
+    }
+}
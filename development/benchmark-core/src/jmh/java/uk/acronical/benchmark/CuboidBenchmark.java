@@ -0,0 +1,107 @@
+package uk.acronical.benchmark;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.acronical.region.BlockCursor;
+import uk.acronical.region.Cuboid;
+import uk.acronical.region.Region;
+import uk.acronical.region.RegionRegistry;
+import uk.acronical.region.SweepAndPrune;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures {@link Cuboid#contains(Location)} for points inside, outside and in another world,
+ * compares a linear scan of 2,000 regions against {@link RegionRegistry}, compares pairwise
+ * overlap checks against {@link SweepAndPrune}, and measures a full {@link BlockCursor} walk
+ * of a 129 x 129 x 129 region.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class CuboidBenchmark {
+
+    private Cuboid cuboid;
+    private Location inside;
+    private Location outside;
+    private Location otherWorld;
+
+    private final List<Cuboid> cuboids = new ArrayList<>();
+    private final RegionRegistry registry = new RegionRegistry();
+    private final List<Region> found = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        World world = BukkitStubs.getWorld();
+
+        cuboid = new Cuboid(new Location(world, -64, 0, -64), new Location(world, 64, 128, 64));
+        inside = new Location(world, 12.5, 64, -30.25);
+        outside = new Location(world, 200.5, 64, 12.75);
+        otherWorld = new Location(BukkitStubs.world("world_nether"), 12.5, 64, -30.25);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int x = random.nextInt(4000) - 2000, z = random.nextInt(4000) - 2000;
+            Cuboid region = new Cuboid(new Location(world, x, 0, z), new Location(world, x + random.nextInt(48), 128, z + random.nextInt(48)));
+            cuboids.add(region);
+            registry.register("region-" + i, region);
+        }
+    }
+
+    @Benchmark
+    public boolean inside() {
+        return cuboid.contains(inside);
+    }
+
+    @Benchmark
+    public boolean outside() {
+        return cuboid.contains(outside);
+    }
+
+    @Benchmark
+    public boolean otherWorld() {
+        return cuboid.contains(otherWorld);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (Cuboid region : cuboids) if (region.contains(inside)) matches++;
+        return matches;
+    }
+
+    @Benchmark
+    public int registryLookup() {
+        found.clear();
+        return registry.getRegionsAt(inside.getWorld().getUID(), inside.getX(), inside.getY(), inside.getZ(), found);
+    }
+
+    @Benchmark
+    public long cursorWalk() {
+        long checksum = 0;
+        BlockCursor cursor = cuboid.cursor();
+        while (cursor.next()) checksum += cursor.getX() ^ cursor.getY() ^ cursor.getZ();
+        return checksum;
+    }
+
+    @Benchmark
+    public int pairwiseOverlaps() {
+        int pairs = 0;
+        for (int i = 0; i < cuboids.size(); i++) {
+            for (int j = i + 1; j < cuboids.size(); j++) if (cuboids.get(i).overlaps(cuboids.get(j))) pairs++;
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public int sweepAndPrune() {
+        return SweepAndPrune.forEachOverlap(cuboids, (first, second) -> {});
+    }
+}
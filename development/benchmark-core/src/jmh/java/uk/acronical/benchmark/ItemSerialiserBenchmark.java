@@ -0,0 +1,50 @@
+package uk.acronical.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.acronical.serialisation.ItemSerialiser;
+
+/**
+ * Measures {@link ItemSerialiser} encoding and decoding of a full player inventory.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class ItemSerialiserBenchmark {
+
+    private ItemStack[] inventory;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        BukkitStubs.install();
+
+        inventory = new ItemStack[36];
+        for (int i = 0; i < inventory.length; i++) {
+            // Leave every third slot empty, as real inventories are rarely full.
+            if (i % 3 != 2) inventory[i] = new ItemStack(i % 2 == 0 ? Material.DIAMOND : Material.COBBLESTONE, 1 + i);
+        }
+
+        encoded = ItemSerialiser.toBase64(inventory);
+    }
+
+    @Benchmark
+    public String serialise() {
+        return ItemSerialiser.toBase64(inventory);
+    }
+
+    @Benchmark
+    public ItemStack[] deserialise() {
+        return ItemSerialiser.fromBase64(encoded);
+    }
+
+    @Benchmark
+    public ItemStack[] roundTrip() {
+        return ItemSerialiser.fromBase64(ItemSerialiser.toBase64(inventory));
+    }
+}
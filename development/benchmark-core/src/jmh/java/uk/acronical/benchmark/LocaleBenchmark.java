@@ -0,0 +1,60 @@
+package uk.acronical.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.acronical.locale.LocaleManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Measures {@link LocaleManager#getMessage(String, String)} for direct hits and default-locale fallbacks.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class LocaleBenchmark {
+
+    private final LocaleManager localeManager = new LocaleManager("en_gb");
+    private File directory;
+
+    @Setup
+    public void setup() throws IOException {
+        BukkitStubs.install();
+
+        directory = Files.createTempDirectory("acronicore-locale").toFile();
+        Files.writeString(new File(directory, "en_gb.yml").toPath(), """
+                general:
+                  welcome: "&aWelcome to the server!"
+                  goodbye: "&7See you soon."
+                """);
+        Files.writeString(new File(directory, "fr_fr.yml").toPath(), """
+                general:
+                  welcome: "&aBienvenue sur le serveur !"
+                """);
+
+        localeManager.loadLocaleDirectory(directory);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public String directHit() {
+        return localeManager.getMessage("fr_FR", "general.welcome");
+    }
+
+    @Benchmark
+    public String defaultFallback() {
+        return localeManager.getMessage("fr_FR", "general.goodbye");
+    }
+}
@@ -0,0 +1,74 @@
+package uk.acronical.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.acronical.loot.CompiledLootTable;
+import uk.acronical.loot.LootEntry;
+import uk.acronical.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the linear scan of {@link LootTable#roll(int)} against the alias method of
+ * {@link CompiledLootTable} as the number of entries grows.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@State(Scope.Benchmark)
+public class LootTableBenchmark {
+
+    private static final Material[] MATERIALS = {
+            Material.DIAMOND, Material.EMERALD, Material.GOLD_INGOT, Material.IRON_INGOT, Material.COAL,
+            Material.REDSTONE, Material.LAPIS_LAZULI, Material.NETHERITE_SCRAP, Material.ENDER_PEARL, Material.BLAZE_ROD,
+            Material.STRING, Material.BONE, Material.ARROW, Material.BREAD, Material.GOLDEN_APPLE,
+            Material.EXPERIENCE_BOTTLE, Material.NAME_TAG, Material.SADDLE, Material.OBSIDIAN, Material.TNT
+    };
+
+    @Param({"20", "200", "1000"})
+    public int entries;
+
+    private final LootTable table = new LootTable();
+    private final List<ItemStack> drops = new ArrayList<>();
+    private CompiledLootTable compiled;
+
+    @Setup
+    public void setup() {
+        BukkitStubs.install();
+
+        for (int i = 0; i < entries; i++) {
+            table.addEntry(new LootEntry(new ItemStack(MATERIALS[i % MATERIALS.length]), (i % 20) + 1, 1, 4));
+        }
+
+        table.addEmptyWeight(entries * 2.5);
+        compiled = table.compile();
+    }
+
+    @Benchmark
+    public List<ItemStack> rollOnce() {
+        return table.roll(1);
+    }
+
+    @Benchmark
+    public List<ItemStack> rollTen() {
+        return table.roll(10);
+    }
+
+    @Benchmark
+    public ItemStack compiledRollOnce() {
+        return compiled.rollSingle();
+    }
+
+    @Benchmark
+    public List<ItemStack> compiledRollTen() {
+        drops.clear();
+        compiled.roll(10, drops);
+        return drops;
+    }
+}
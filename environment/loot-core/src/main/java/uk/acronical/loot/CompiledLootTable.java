@@ -0,0 +1,173 @@
+package uk.acronical.loot;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable, pre-processed form of a {@link LootTable} that samples in constant time.
+ * <p>
+ * This class utilises Vose's alias method: the weights are split into equally likely
+ * columns, each holding at most two outcomes, so every roll costs a single random
+ * number and two array reads regardless of the number of entries. Any empty weight
+ * from the source table is kept as its own "no-drop" outcome.
+ * <p>
+ * Instances are created via {@link LootTable#compile()} and are safe to share between threads.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class CompiledLootTable {
+
+    private static final int EMPTY = -1;
+
+    private final LootEntry[] entries;
+    private final double[] probability;
+    private final int[] alias;
+    private final int columns;
+
+    /**
+     * Builds the alias table for a set of weighted entries.
+     *
+     * @param source      The entries to sample from.
+     * @param emptyWeight The weight of the "no-drop" outcome.
+     */
+    CompiledLootTable(@NotNull List<LootEntry> source, double emptyWeight) {
+        List<LootEntry> weighted = new ArrayList<>();
+        for (LootEntry entry : source) if (entry.getWeight() > 0) weighted.add(entry);
+
+        this.entries = weighted.toArray(new LootEntry[0]);
+        boolean hasEmpty = emptyWeight > 0;
+        this.columns = entries.length + (hasEmpty ? 1 : 0);
+        this.probability = new double[columns];
+        this.alias = new int[columns];
+
+        if (entries.length == 0) return;
+
+        double[] weights = new double[columns];
+        double total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            weights[i] = entries[i].getWeight();
+            total += weights[i];
+        }
+        if (hasEmpty) {
+            weights[entries.length] = emptyWeight;
+            total += emptyWeight;
+        }
+
+        // Outcome indices are stored as-is, with the empty outcome mapped to EMPTY.
+        int[] small = new int[columns];
+        int[] large = new int[columns];
+        int smallCount = 0, largeCount = 0;
+
+        double[] scaled = new double[columns];
+        for (int i = 0; i < columns; i++) {
+            scaled[i] = weights[i] * columns / total;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = outcome(more);
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // Any remaining columns are full, allowing for floating-point drift.
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = outcome(index);
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = outcome(index);
+        }
+    }
+
+    /**
+     * Performs multiple rolls against the table.
+     *
+     * @param rolls The number of times to roll the table.
+     * @return A list of generated {@link ItemStack} objects.
+     */
+    @NotNull
+    public List<ItemStack> roll(int rolls) {
+        List<ItemStack> drops = new ArrayList<>(Math.max(0, rolls));
+        roll(rolls, drops);
+        return drops;
+    }
+
+    /**
+     * Performs multiple rolls against the table, appending the drops to an existing list.
+     * <p>
+     * This allows a single list to be reused across many rolls, such as when
+     * accumulating the drops of several mobs.
+     *
+     * @param rolls The number of times to roll the table.
+     * @param drops The list to add generated {@link ItemStack} objects to.
+     * @return The number of items added to the list.
+     */
+    public int roll(int rolls, @NotNull List<ItemStack> drops) {
+        if (entries.length == 0) return 0;
+
+        int added = 0;
+        for (int i = 0; i < rolls; i++) {
+            ItemStack drop = rollSingle();
+            if (drop != null) {
+                drops.add(drop);
+                added++;
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Selects a single item from the table.
+     *
+     * @return A generated {@link ItemStack}, or {@code null} if an empty weight was rolled.
+     */
+    @Nullable
+    public ItemStack rollSingle() {
+        if (entries.length == 0) return null;
+
+        // A single random value picks both the column and the side of the column.
+        double random = ThreadLocalRandom.current().nextDouble() * columns;
+        int column = (int) random;
+        if (column >= columns) column = columns - 1;
+
+        int index = (random - column) < probability[column] ? outcome(column) : alias[column];
+        return index == EMPTY ? null : entries[index].generate();
+    }
+
+    /**
+     * Retrieves the number of entries that can be rolled.
+     *
+     * @return The number of entries with a positive weight.
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Maps a column to the outcome it represents.
+     *
+     * @param column The column index.
+     * @return The entry index, or {@link #EMPTY} for the "no-drop" column.
+     */
+    private int outcome(int column) {
+        return column < entries.length ? column : EMPTY;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * <p>
  * This class utilise a cumulative weight algorithm to select entries,
  * supporting multiple rolls and a "no-drop" chance via empty weights.
+ * Large tables can be frozen with {@link #compile()} for constant-time sampling.
  *
  * @author Acronical
  * @since 1.0.5
@@ -21,6 +22,7 @@ public class LootTable {
 
     private final List<LootEntry> entries = new ArrayList<>();
     private double totalWeight = 0.0;
+    private double emptyWeight = 0.0;
 
     /**
      * Adds an entry to the loot table and updates the total probability pool.
@@ -43,9 +45,25 @@ public class LootTable {
      */
     public LootTable addEmptyWeight(double weight) {
         totalWeight += Math.max(0, weight);
+        emptyWeight += Math.max(0, weight);
         return this;
     }
 
+    /**
+     * Freezes the current entries into a {@link CompiledLootTable}.
+     * <p>
+     * The compiled table samples in constant time using the alias method, making it
+     * the better choice for large tables that are rolled frequently, such as mob drops.
+     * Entries added to this table afterwards are not reflected in the compiled form.
+     *
+     * @return A new {@link CompiledLootTable} instance.
+     * @since 1.0.6
+     */
+    @NotNull
+    public CompiledLootTable compile() {
+        return new CompiledLootTable(entries, emptyWeight);
+    }
+
     /**
      * Performs multiple rolls against the loot table.
      *
@@ -0,0 +1,186 @@
+package uk.acronical.region;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A reusable, allocation-free cursor over the block positions of a {@link Cuboid}.
+ * <p>
+ * Positions are visited chunk by chunk, so every block of a chunk column is handled
+ * before moving on to the next. Within a chunk the order is Y, then Z, then X, matching
+ * the layout of chunk sections in memory. No {@link Block} is created unless
+ * {@link #getBlock(World)} is called.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * BlockCursor cursor = cuboid.cursor();
+ * while (cursor.next()) {
+ *     world.setType(cursor.getX(), cursor.getY(), cursor.getZ(), Material.AIR);
+ * }
+ * }</pre>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class BlockCursor {
+
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+
+    private int chunkX, chunkZ;
+    private int startX, endX, startZ, endZ;
+    private int x, y, z;
+    private long visited;
+    private boolean started, finished;
+
+    /**
+     * Initialises a new {@link BlockCursor} over an inclusive block range.
+     *
+     * @param cuboid The cuboid to traverse.
+     */
+    BlockCursor(@NotNull Cuboid cuboid) {
+        this.minX = cuboid.getMinX();
+        this.minY = cuboid.getMinY();
+        this.minZ = cuboid.getMinZ();
+        this.maxX = cuboid.getMaxX();
+        this.maxY = cuboid.getMaxY();
+        this.maxZ = cuboid.getMaxZ();
+    }
+
+    /**
+     * Advances the cursor to the next block position.
+     *
+     * @return {@code true} if the cursor now points at a position; {@code false} once every position has been visited.
+     */
+    public boolean next() {
+        if (finished) return false;
+
+        if (!started) {
+            started = true;
+            enterChunk(minX >> 4, minZ >> 4);
+        } else if (++x > endX) {
+            x = startX;
+            if (++z > endZ) {
+                z = startZ;
+                if (++y > maxY) {
+                    if (chunkZ < maxZ >> 4) enterChunk(chunkX, chunkZ + 1);
+                    else if (chunkX < maxX >> 4) enterChunk(chunkX + 1, minZ >> 4);
+                    else {
+                        finished = true;
+                        return false;
+                    }
+                }
+            }
+        }
+
+        visited++;
+        return true;
+    }
+
+    /**
+     * Returns the cursor to its initial position, before the first block.
+     */
+    public void reset() {
+        started = false;
+        finished = false;
+        visited = 0;
+    }
+
+    /**
+     * Checks if the current position is the first visited in its chunk.
+     * <p>
+     * This is useful for per-chunk work, such as checking {@link World#isChunkLoaded(int, int)}.
+     *
+     * @return {@code true} if the cursor has just entered a new chunk.
+     */
+    public boolean isChunkStart() {
+        return started && !finished && x == startX && y == minY && z == startZ;
+    }
+
+    /**
+     * Retrieves the {@link Block} at the current position.
+     * <p>
+     * This is the only method that allocates.
+     *
+     * @param world The world the cuboid belongs to.
+     * @return The block at the current position.
+     */
+    @NotNull
+    public Block getBlock(@NotNull World world) {
+        return world.getBlockAt(x, y, z);
+    }
+
+    /**
+     * Retrieves the number of positions visited so far, including the current one.
+     *
+     * @return The visited position count.
+     */
+    public long getVisited() {
+        return visited;
+    }
+
+    /**
+     * Retrieves the X block coordinate of the current position.
+     *
+     * @return The current X coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Retrieves the Y block coordinate of the current position.
+     *
+     * @return The current Y coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Retrieves the Z block coordinate of the current position.
+     *
+     * @return The current Z coordinate.
+     */
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Retrieves the X coordinate of the chunk containing the current position.
+     *
+     * @return The current chunk X coordinate.
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    /**
+     * Retrieves the Z coordinate of the chunk containing the current position.
+     *
+     * @return The current chunk Z coordinate.
+     */
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Moves the cursor to the first position of a chunk, clipped to the cuboid bounds.
+     *
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     */
+    private void enterChunk(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+
+        this.startX = Math.max(minX, chunkX << 4);
+        this.endX = Math.min(maxX, (chunkX << 4) + 15);
+        this.startZ = Math.max(minZ, chunkZ << 4);
+        this.endZ = Math.min(maxZ, (chunkZ << 4) + 15);
+
+        this.x = startX;
+        this.y = minY;
+        this.z = startZ;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.acronical.region;
+
+/**
+ * A callback receiving the block coordinates of a position, without creating a {@link org.bukkit.block.Block}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@FunctionalInterface
+public interface BlockPositionConsumer {
+
+    /**
+     * Handles a single block position.
+     *
+     * @param x The X block coordinate.
+     * @param y The Y block coordinate.
+     * @param z The Z block coordinate.
+     */
+    void accept(int x, int y, int z);
+}
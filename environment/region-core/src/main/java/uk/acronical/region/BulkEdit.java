@@ -0,0 +1,271 @@
+package uk.acronical.region;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time-budgeted bulk editor for {@link Cuboid} regions.
+ * <p>
+ * Rather than changing every block in a single tick, the edit is spread across as many
+ * ticks as required, spending at most the configured budget on the main thread each tick.
+ * Blocks are visited lazily in chunk order via a {@link BlockCursor}, and a
+ * {@link org.bukkit.block.Block} is only obtained for positions which are actually changed.
+ * Chunks which are not loaded when the edit reaches them are loaded within the tick's budget,
+ * and a plugin chunk ticket keeps the chunk being edited loaded between ticks. Chunks which
+ * have never been generated are not created; their positions are skipped instead.
+ * <p>
+ * Each operation returns a {@link CompletableFuture} completed on the main thread with a
+ * {@link Result} reporting how many blocks were changed and how many positions were skipped.
+ * Cancelling the future stops the edit at the next tick.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class BulkEdit {
+
+    /**
+     * The default time spent editing blocks per tick, in milliseconds.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 10;
+
+    // Reading the clock for every block would cost more than many of the edits themselves.
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private final Plugin plugin;
+    private final Cuboid cuboid;
+    private long budgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET_MILLIS);
+    private boolean applyPhysics = false;
+
+    /**
+     * Initialises a new {@link BulkEdit} for a region.
+     *
+     * @param plugin The plugin instance used to schedule the edit.
+     * @param cuboid The region to edit.
+     */
+    public BulkEdit(@NotNull Plugin plugin, @NotNull Cuboid cuboid) {
+        this.plugin = plugin;
+        this.cuboid = cuboid;
+    }
+
+    /**
+     * Sets the maximum time spent editing blocks per tick.
+     *
+     * @param millis The budget in milliseconds.
+     * @return The current {@link BulkEdit} instance for method chaining.
+     * @throws IllegalArgumentException If the budget is not positive.
+     */
+    public BulkEdit budget(long millis) {
+        if (millis <= 0) throw new IllegalArgumentException("The budget must be positive.");
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        return this;
+    }
+
+    /**
+     * Sets whether block changes should trigger physics updates for neighbouring blocks.
+     * <p>
+     * This is disabled by default, as physics updates are considerably slower and are
+     * rarely wanted when resetting an area.
+     *
+     * @param applyPhysics {@code true} to apply physics.
+     * @return The current {@link BulkEdit} instance for method chaining.
+     */
+    public BulkEdit applyPhysics(boolean applyPhysics) {
+        this.applyPhysics = applyPhysics;
+        return this;
+    }
+
+    /**
+     * Sets every block in the region to a material.
+     *
+     * @param material The material to place.
+     * @return A {@link CompletableFuture} completed with the result of the edit.
+     */
+    @NotNull
+    public CompletableFuture<Result> fill(@NotNull Material material) {
+        return fill(material.createBlockData());
+    }
+
+    /**
+     * Sets every block in the region to a block state.
+     *
+     * @param data The block data to place.
+     * @return A {@link CompletableFuture} completed with the result of the edit.
+     */
+    @NotNull
+    public CompletableFuture<Result> fill(@NotNull BlockData data) {
+        return start(null, data);
+    }
+
+    /**
+     * Replaces every block of one material in the region with another.
+     *
+     * @param from The material to replace.
+     * @param to   The material to place.
+     * @return A {@link CompletableFuture} completed with the result of the edit.
+     */
+    @NotNull
+    public CompletableFuture<Result> replace(@NotNull Material from, @NotNull Material to) {
+        return replace(from, to.createBlockData());
+    }
+
+    /**
+     * Replaces every block of one material in the region with a block state.
+     *
+     * @param from The material to replace.
+     * @param to   The block data to place.
+     * @return A {@link CompletableFuture} completed with the result of the edit.
+     */
+    @NotNull
+    public CompletableFuture<Result> replace(@NotNull Material from, @NotNull BlockData to) {
+        return start(from, to);
+    }
+
+    /**
+     * Schedules the edit to begin on the next tick.
+     *
+     * @param from The material to replace, or {@code null} to replace every block.
+     * @param to   The block data to place.
+     * @return The future tracking the edit.
+     */
+    @NotNull
+    private CompletableFuture<Result> start(@Nullable Material from, @NotNull BlockData to) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        new EditTask(cuboid.cursor(), from, to, future).runTaskTimer(plugin, 1L, 1L);
+        return future;
+    }
+
+    /**
+     * The repeating task that performs a single edit.
+     */
+    private final class EditTask extends BukkitRunnable {
+
+        private final BlockCursor cursor;
+        private final Material from;
+        private final BlockData to;
+        private final boolean isDefaultState;
+        private final CompletableFuture<Result> future;
+        private long changed = 0, skipped = 0;
+
+        private World ticketWorld;
+        private int ticketX, ticketZ;
+
+        EditTask(@NotNull BlockCursor cursor, @Nullable Material from, @NotNull BlockData to, @NotNull CompletableFuture<Result> future) {
+            this.cursor = cursor;
+            this.from = from;
+            this.to = to;
+            this.isDefaultState = to.equals(to.getMaterial().createBlockData());
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                finish();
+                return;
+            }
+
+            World world = cuboid.getWorld();
+            if (world == null) {
+                finish();
+                future.completeExceptionally(new IllegalStateException("The world is either not loaded, or does not exist."));
+                return;
+            }
+
+            long deadline = System.nanoTime() + budgetNanos;
+            int sinceClockCheck = 0;
+            boolean firstBlock = true, chunkLoaded = false;
+
+            try {
+                while (cursor.next()) {
+                    if (firstBlock || cursor.isChunkStart()) {
+                        chunkLoaded = enterChunk(world, cursor.getChunkX(), cursor.getChunkZ());
+                        firstBlock = false;
+                    }
+
+                    if (chunkLoaded) {
+                        Material current = world.getType(cursor.getX(), cursor.getY(), cursor.getZ());
+
+                        // Blocks already in the target state are skipped, avoiding needless lighting and client updates.
+                        boolean matches = from == null ? !(isDefaultState && current == to.getMaterial()) : current == from;
+                        if (matches) {
+                            cursor.getBlock(world).setBlockData(to, applyPhysics);
+                            changed++;
+                        }
+                    } else {
+                        skipped++;
+                    }
+
+                    if (++sinceClockCheck == CLOCK_CHECK_INTERVAL) {
+                        sinceClockCheck = 0;
+                        if (System.nanoTime() >= deadline) return;
+                    }
+                }
+            } catch (RuntimeException exception) {
+                finish();
+                future.completeExceptionally(exception);
+                return;
+            }
+
+            finish();
+            future.complete(new Result(changed, skipped));
+        }
+
+        /**
+         * Ensures the chunk the cursor has moved into is loaded, holding a chunk ticket on it until the edit moves on.
+         *
+         * @param world  The world being edited.
+         * @param chunkX The chunk's X coordinate.
+         * @param chunkZ The chunk's Z coordinate.
+         * @return {@code true} if the chunk is loaded; {@code false} if it has never been generated.
+         */
+        private boolean enterChunk(@NotNull World world, int chunkX, int chunkZ) {
+            if (ticketWorld == world && ticketX == chunkX && ticketZ == chunkZ) return true;
+
+            releaseTicket();
+
+            if (!world.isChunkLoaded(chunkX, chunkZ) && !world.isChunkGenerated(chunkX, chunkZ)) return false;
+
+            // The ticket loads the chunk if needed, counting towards this tick's budget, and stops it unloading between ticks.
+            // If this plugin already holds a ticket on the chunk, that ticket is left alone.
+            if (world.addPluginChunkTicket(chunkX, chunkZ, plugin)) holdTicket(world, chunkX, chunkZ);
+            return true;
+        }
+
+        private void holdTicket(@NotNull World world, int chunkX, int chunkZ) {
+            this.ticketWorld = world;
+            this.ticketX = chunkX;
+            this.ticketZ = chunkZ;
+        }
+
+        private void releaseTicket() {
+            if (ticketWorld == null) return;
+
+            ticketWorld.removePluginChunkTicket(ticketX, ticketZ, plugin);
+            ticketWorld = null;
+        }
+
+        /**
+         * Stops the task and releases any chunk ticket it holds.
+         */
+        private void finish() {
+            cancel();
+            releaseTicket();
+        }
+    }
+
+    /**
+     * Represents the outcome of an edit.
+     *
+     * @param changed The number of blocks changed.
+     * @param skipped The number of positions skipped as their chunks have never been generated.
+     */
+    public record Result(long changed, long skipped) {}
+}
@@ -0,0 +1,165 @@
+package uk.acronical.region;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An open-addressing hash map from packed chunk coordinates to the regions overlapping that chunk.
+ * <p>
+ * Keys are stored as primitive {@code long}s, so lookups never box. Each bucket holds a
+ * small copy-on-write array, keeping queries allocation-free.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+final class ChunkGrid {
+
+    private static final Region[] EMPTY = new Region[0];
+
+    private long[] keys = new long[64];
+    private Region[][] values = new Region[64][];
+    private int size = 0;
+
+    /**
+     * Packs a pair of chunk coordinates into a single key.
+     *
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     * @return The packed key.
+     */
+    static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Retrieves the regions overlapping a chunk.
+     *
+     * @param key The packed chunk key.
+     * @return The regions in the chunk, or an empty array.
+     */
+    @NotNull
+    Region[] get(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+
+        while (values[index] != null) {
+            if (keys[index] == key) return values[index];
+            index = (index + 1) & mask;
+        }
+
+        return EMPTY;
+    }
+
+    /**
+     * Adds a region to a chunk's bucket.
+     *
+     * @param key    The packed chunk key.
+     * @param region The region to add.
+     */
+    void add(long key, @NotNull Region region) {
+        if ((size + 1) * 2 > keys.length) resize(keys.length * 2);
+
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                Region[] current = values[index];
+                Region[] grown = new Region[current.length + 1];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                grown[current.length] = region;
+                values[index] = grown;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = new Region[]{region};
+        size++;
+    }
+
+    /**
+     * Removes a region from a chunk's bucket, dropping the bucket once empty.
+     *
+     * @param key    The packed chunk key.
+     * @param region The region to remove.
+     */
+    void remove(long key, @NotNull Region region) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+
+        while (values[index] != null && keys[index] != key) index = (index + 1) & mask;
+        if (values[index] == null) return;
+
+        Region[] current = values[index];
+        int position = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == region) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) return;
+
+        if (current.length > 1) {
+            Region[] shrunk = new Region[current.length - 1];
+            System.arraycopy(current, 0, shrunk, 0, position);
+            System.arraycopy(current, position + 1, shrunk, position, current.length - position - 1);
+            values[index] = shrunk;
+            return;
+        }
+
+        // Backward-shift deletion keeps every remaining key reachable from its home slot.
+        values[index] = null;
+        size--;
+
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = mix(keys[next]) & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = null;
+                hole = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes every bucket.
+     */
+    void clear() {
+        keys = new long[64];
+        values = new Region[64][];
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Region[][] oldValues = values;
+
+        keys = new long[capacity];
+        values = new Region[capacity][];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            int index = mix(oldKeys[i]) & mask;
+            while (values[index] != null) index = (index + 1) & mask;
+
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,19 @@
+package uk.acronical.region;
+
+/**
+ * A callback receiving the coordinates of a chunk, without loading or creating a {@link org.bukkit.Chunk}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@FunctionalInterface
+public interface ChunkPositionConsumer {
+
+    /**
+     * Handles a single chunk position.
+     *
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     */
+    void accept(int chunkX, int chunkZ);
+}
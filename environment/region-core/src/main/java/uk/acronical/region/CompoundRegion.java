@@ -0,0 +1,173 @@
+package uk.acronical.region;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An immutable region made up of several {@link Cuboid}s in the same world.
+ * <p>
+ * The cuboids are stored as disjoint pieces, so each block belongs to exactly one piece
+ * and {@link #getBlockCount()} never counts a block twice. Lookups test the overall
+ * bounding box first, so points far from the region are rejected immediately.
+ * <p>
+ * A point is inside the region when the block containing it is, which keeps the
+ * boundaries between pieces seamless.
+ * <p>
+ * Instances are created via {@link Cuboid#union(Cuboid)} or {@link #CompoundRegion(Cuboid)}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class CompoundRegion {
+
+    private final UUID worldId;
+    private final Cuboid[] pieces;
+    private final Cuboid bounds;
+
+    /**
+     * Initialises a new {@link CompoundRegion} covering a single cuboid.
+     *
+     * @param cuboid The initial cuboid.
+     */
+    public CompoundRegion(@NotNull Cuboid cuboid) {
+        this(cuboid.getWorldId(), new Cuboid[]{cuboid}, cuboid);
+    }
+
+    private CompoundRegion(@NotNull UUID worldId, @NotNull Cuboid[] pieces, @NotNull Cuboid bounds) {
+        this.worldId = worldId;
+        this.pieces = pieces;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Combines this region with a cuboid.
+     *
+     * @param cuboid The cuboid to add.
+     * @return A new {@link CompoundRegion}, or this instance if the cuboid is already covered.
+     * @throws IllegalArgumentException If the cuboid is in a different world.
+     */
+    @NotNull
+    public CompoundRegion union(@NotNull Cuboid cuboid) {
+        if (!worldId.equals(cuboid.getWorldId())) throw new IllegalArgumentException("Both regions must exist in the same world.");
+
+        // Only the parts of the new cuboid not already covered are kept, preserving disjointness.
+        List<Cuboid> remaining = List.of(cuboid);
+        for (Cuboid piece : pieces) {
+            if (!piece.overlaps(cuboid)) continue;
+
+            List<Cuboid> next = new ArrayList<>();
+            for (Cuboid part : remaining) next.addAll(part.subtract(piece));
+            remaining = next;
+
+            if (remaining.isEmpty()) return this;
+        }
+
+        Cuboid[] combined = Arrays.copyOf(pieces, pieces.length + remaining.size());
+        for (int i = 0; i < remaining.size(); i++) combined[pieces.length + i] = remaining.get(i);
+
+        return new CompoundRegion(worldId, combined, bounds.span(cuboid));
+    }
+
+    /**
+     * Combines this region with another.
+     *
+     * @param other The region to add.
+     * @return A new {@link CompoundRegion} covering both.
+     * @throws IllegalArgumentException If the regions are in different worlds.
+     */
+    @NotNull
+    public CompoundRegion union(@NotNull CompoundRegion other) {
+        CompoundRegion result = this;
+        for (Cuboid piece : other.pieces) result = result.union(piece);
+        return result;
+    }
+
+    /**
+     * Checks if a {@link Location} resides within the region.
+     *
+     * @param location The location to check.
+     * @return {@code true} if any piece contains the location.
+     */
+    public boolean contains(@NotNull Location location) {
+        if (location.getWorld() == null) return false;
+        return contains(location.getWorld().getUID(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Checks if a point in the given world resides within the region.
+     *
+     * @param worldId The {@link UUID} of the point's world.
+     * @param x       The X coordinate.
+     * @param y       The Y coordinate.
+     * @param z       The Z coordinate.
+     * @return {@code true} if any piece contains the point.
+     */
+    public boolean contains(@NotNull UUID worldId, double x, double y, double z) {
+        if (!this.worldId.equals(worldId)) return false;
+
+        int blockX = (int) Math.floor(x), blockY = (int) Math.floor(y), blockZ = (int) Math.floor(z);
+        if (!bounds.containsBlock(blockX, blockY, blockZ)) return false;
+
+        for (Cuboid piece : pieces) if (piece.containsBlock(blockX, blockY, blockZ)) return true;
+        return false;
+    }
+
+    /**
+     * Checks if the region shares at least one block with a cuboid.
+     *
+     * @param cuboid The cuboid to check against.
+     * @return {@code true} if any piece overlaps the cuboid.
+     */
+    public boolean overlaps(@NotNull Cuboid cuboid) {
+        if (!bounds.overlaps(cuboid)) return false;
+
+        for (Cuboid piece : pieces) if (piece.overlaps(cuboid)) return true;
+        return false;
+    }
+
+    /**
+     * Retrieves the disjoint cuboids making up the region.
+     *
+     * @return An unmodifiable list of pieces.
+     */
+    @NotNull
+    public List<Cuboid> getPieces() {
+        return List.of(pieces);
+    }
+
+    /**
+     * Retrieves the smallest cuboid enclosing the whole region.
+     *
+     * @return The bounding {@link Cuboid}.
+     */
+    @NotNull
+    public Cuboid getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Calculates the number of distinct blocks within the region.
+     *
+     * @return The total block count.
+     */
+    public long getBlockCount() {
+        long count = 0;
+        for (Cuboid piece : pieces) count += piece.getBlockCount();
+        return count;
+    }
+
+    /**
+     * Retrieves the {@link UUID} of the world every piece of the region belongs to.
+     *
+     * @return The world identifier.
+     */
+    @NotNull
+    public UUID getWorldId() {
+        return worldId;
+    }
+}
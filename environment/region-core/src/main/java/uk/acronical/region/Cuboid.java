@@ -9,8 +9,14 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A mathematical representation of a 3D rectangular region within a world.
@@ -49,6 +55,33 @@ public class Cuboid {
         this.maxZ = Math.max(startPoint.getBlockZ(), endPoint.getBlockZ());
     }
 
+    /**
+     * Initialises a new {@link Cuboid} from the block coordinates of two opposite corners.
+     * <p>
+     * Unlike the {@link Location} constructor, this does not require the world to be loaded,
+     * making it suitable for regions read from storage at startup.
+     *
+     * @param worldId The {@link UUID} of the world.
+     * @param x1      The X coordinate of the first corner.
+     * @param y1      The Y coordinate of the first corner.
+     * @param z1      The Z coordinate of the first corner.
+     * @param x2      The X coordinate of the opposite corner.
+     * @param y2      The Y coordinate of the opposite corner.
+     * @param z2      The Z coordinate of the opposite corner.
+     * @since 1.0.6
+     */
+    public Cuboid(@NotNull UUID worldId, int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.worldId = worldId;
+
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
     /**
      * Retrieves the {@link World} associated with this cuboid.
      *
@@ -68,7 +101,250 @@ public class Cuboid {
     public boolean contains(@NotNull Location location) {
         if (location.getWorld() == null || !location.getWorld().getUID().equals(worldId)) return false;
 
-        return location.getX() >= minX && location.getX() <= maxX && location.getY() >= minY && location.getY() <= maxY + 1 && location.getZ() >= minZ && location.getZ() <= maxZ + 1;
+        return contains(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Checks if a point in the given world resides within the cuboid boundaries.
+     *
+     * @param worldId The {@link UUID} of the point's world.
+     * @param x       The X coordinate.
+     * @param y       The Y coordinate.
+     * @param z       The Z coordinate.
+     * @return {@code true} if the point is inside; otherwise {@code false}.
+     * @since 1.0.6
+     */
+    public boolean contains(@NotNull UUID worldId, double x, double y, double z) {
+        return this.worldId.equals(worldId) && contains(x, y, z);
+    }
+
+    /**
+     * Checks if a point resides within the cuboid boundaries, ignoring the world.
+     * <p>
+     * This performs no allocation and is intended for callers that have already
+     * matched the world, such as {@link RegionRegistry}.
+     *
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @return {@code true} if the point is inside; otherwise {@code false}.
+     * @since 1.0.6
+     */
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY + 1 && z >= minZ && z <= maxZ + 1;
+    }
+
+    /**
+     * Checks if a block position resides within the cuboid boundaries.
+     *
+     * @param x The X block coordinate.
+     * @param y The Y block coordinate.
+     * @param z The Z block coordinate.
+     * @return {@code true} if the block is inside; otherwise {@code false}.
+     * @since 1.0.6
+     */
+    public boolean containsBlock(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Checks if this cuboid's block range overlaps the given block range.
+     *
+     * @param minX The minimum X block coordinate of the other range.
+     * @param minY The minimum Y block coordinate of the other range.
+     * @param minZ The minimum Z block coordinate of the other range.
+     * @param maxX The maximum X block coordinate of the other range.
+     * @param maxY The maximum Y block coordinate of the other range.
+     * @param maxZ The maximum Z block coordinate of the other range.
+     * @return {@code true} if at least one block is shared.
+     * @since 1.0.6
+     */
+    public boolean intersects(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY && this.minZ <= maxZ && this.maxZ >= minZ;
+    }
+
+    /**
+     * Checks if this cuboid shares at least one block with another.
+     *
+     * @param other The cuboid to check against.
+     * @return {@code true} if both cuboids are in the same world and overlap.
+     * @since 1.0.6
+     */
+    public boolean overlaps(@NotNull Cuboid other) {
+        return worldId.equals(other.worldId) && intersects(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
+    }
+
+    /**
+     * Checks if this cuboid fully encloses another.
+     *
+     * @param other The cuboid to check.
+     * @return {@code true} if every block of {@code other} is inside this cuboid.
+     * @since 1.0.6
+     */
+    public boolean encloses(@NotNull Cuboid other) {
+        return worldId.equals(other.worldId)
+                && minX <= other.minX && maxX >= other.maxX
+                && minY <= other.minY && maxY >= other.maxY
+                && minZ <= other.minZ && maxZ >= other.maxZ;
+    }
+
+    /**
+     * Calculates the blocks shared by this cuboid and another.
+     *
+     * @param other The cuboid to intersect with.
+     * @return A new {@link Cuboid} of the shared blocks, or {@code null} if the cuboids do not overlap.
+     * @since 1.0.6
+     */
+    @Nullable
+    public Cuboid intersection(@NotNull Cuboid other) {
+        if (!overlaps(other)) return null;
+
+        return new Cuboid(worldId,
+                Math.max(minX, other.minX), Math.max(minY, other.minY), Math.max(minZ, other.minZ),
+                Math.min(maxX, other.maxX), Math.min(maxY, other.maxY), Math.min(maxZ, other.maxZ));
+    }
+
+    /**
+     * Combines this cuboid with another into a single region covering exactly the blocks of both.
+     *
+     * @param other The cuboid to combine with.
+     * @return A new {@link CompoundRegion} of both cuboids.
+     * @throws IllegalArgumentException If the cuboids are in different worlds.
+     * @since 1.0.6
+     */
+    @NotNull
+    public CompoundRegion union(@NotNull Cuboid other) {
+        return new CompoundRegion(this).union(other);
+    }
+
+    /**
+     * Calculates the smallest cuboid enclosing both this cuboid and another.
+     *
+     * @param other The cuboid to enclose.
+     * @return A new {@link Cuboid} covering both.
+     * @throws IllegalArgumentException If the cuboids are in different worlds.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Cuboid span(@NotNull Cuboid other) {
+        if (!worldId.equals(other.worldId)) throw new IllegalArgumentException("Both cuboids must exist in the same world.");
+
+        return new Cuboid(worldId,
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ));
+    }
+
+    /**
+     * Calculates the blocks of this cuboid not covered by another.
+     * <p>
+     * The result is split into at most six disjoint cuboids.
+     *
+     * @param other The cuboid to remove.
+     * @return A new list of disjoint cuboids, which is empty if {@code other} encloses this cuboid.
+     * @since 1.0.6
+     */
+    @NotNull
+    public List<Cuboid> subtract(@NotNull Cuboid other) {
+        Cuboid shared = intersection(other);
+        if (shared == null) return List.of(this);
+
+        List<Cuboid> pieces = new ArrayList<>(6);
+
+        // Slabs below and above the shared area span the full X and Z range.
+        if (minY < shared.minY) pieces.add(new Cuboid(worldId, minX, minY, minZ, maxX, shared.minY - 1, maxZ));
+        if (maxY > shared.maxY) pieces.add(new Cuboid(worldId, minX, shared.maxY + 1, minZ, maxX, maxY, maxZ));
+
+        // The remaining pieces are limited to the shared Y range, with the X pieces spanning the full Z range.
+        if (minX < shared.minX) pieces.add(new Cuboid(worldId, minX, shared.minY, minZ, shared.minX - 1, shared.maxY, maxZ));
+        if (maxX > shared.maxX) pieces.add(new Cuboid(worldId, shared.maxX + 1, shared.minY, minZ, maxX, shared.maxY, maxZ));
+
+        if (minZ < shared.minZ) pieces.add(new Cuboid(worldId, shared.minX, shared.minY, minZ, shared.maxX, shared.maxY, shared.minZ - 1));
+        if (maxZ > shared.maxZ) pieces.add(new Cuboid(worldId, shared.minX, shared.minY, shared.maxZ + 1, shared.maxX, shared.maxY, maxZ));
+
+        return pieces;
+    }
+
+    /**
+     * Grows the cuboid by the same amount in every direction.
+     *
+     * @param amount The number of blocks to add to each face.
+     * @return A new, expanded {@link Cuboid}.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Cuboid expand(int amount) {
+        return expand(amount, amount, amount);
+    }
+
+    /**
+     * Grows the cuboid by a separate amount on each axis, applied to both faces of that axis.
+     * <p>
+     * Negative amounts shrink the cuboid, as with {@link #contract(int, int, int)}.
+     *
+     * @param x The number of blocks to add to each X face.
+     * @param y The number of blocks to add to each Y face.
+     * @param z The number of blocks to add to each Z face.
+     * @return A new, resized {@link Cuboid}.
+     * @throws IllegalArgumentException If the cuboid would be shrunk to nothing.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Cuboid expand(int x, int y, int z) {
+        if (minX - x > maxX + x || minY - y > maxY + y || minZ - z > maxZ + z) throw new IllegalArgumentException("The cuboid cannot be contracted past a single block.");
+
+        return new Cuboid(worldId, minX - x, minY - y, minZ - z, maxX + x, maxY + y, maxZ + z);
+    }
+
+    /**
+     * Shrinks the cuboid by the same amount in every direction.
+     *
+     * @param amount The number of blocks to remove from each face.
+     * @return A new, contracted {@link Cuboid}.
+     * @throws IllegalArgumentException If the cuboid would be shrunk to nothing.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Cuboid contract(int amount) {
+        return expand(-amount, -amount, -amount);
+    }
+
+    /**
+     * Shrinks the cuboid by a separate amount on each axis, applied to both faces of that axis.
+     *
+     * @param x The number of blocks to remove from each X face.
+     * @param y The number of blocks to remove from each Y face.
+     * @param z The number of blocks to remove from each Z face.
+     * @return A new, contracted {@link Cuboid}.
+     * @throws IllegalArgumentException If the cuboid would be shrunk to nothing.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Cuboid contract(int x, int y, int z) {
+        return expand(-x, -y, -z);
+    }
+
+    /**
+     * Passes the coordinates of every chunk the cuboid overlaps to a callback.
+     *
+     * @param consumer The callback receiving each chunk's X and Z coordinates.
+     * @since 1.0.6
+     */
+    public void forEachChunk(@NotNull ChunkPositionConsumer consumer) {
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                consumer.accept(chunkX, chunkZ);
+            }
+        }
+    }
+
+    /**
+     * Calculates the number of chunks the cuboid overlaps.
+     *
+     * @return The chunk count.
+     * @since 1.0.6
+     */
+    public int getChunkCount() {
+        return ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1);
     }
 
     /**
@@ -95,7 +371,9 @@ public class Cuboid {
      * Iterates through all blocks within the cuboid.
      * <p>
      * Warning: Utilising this on very large cuboids may result in performance issues
-     * or a {@link OutOfMemoryError}.
+     * or a {@link OutOfMemoryError}, as every {@link Block} is held in memory at once.
+     * Prefer {@link #cursor()}, {@link #forEachPosition(BlockPositionConsumer)} or
+     * {@link #blocks()}, which visit positions lazily.
      *
      * @return A list of all {@link Block} objects within the region.
      */
@@ -116,6 +394,149 @@ public class Cuboid {
         return blocks;
     }
 
+    /**
+     * Creates a cursor over every block position in the cuboid, in chunk order.
+     * <p>
+     * The cursor allocates nothing while advancing, making it suitable for very large regions.
+     *
+     * @return A new {@link BlockCursor} positioned before the first block.
+     * @since 1.0.6
+     */
+    @NotNull
+    public BlockCursor cursor() {
+        return new BlockCursor(this);
+    }
+
+    /**
+     * Passes every block position in the cuboid to a callback, in chunk order.
+     *
+     * @param consumer The callback receiving each position.
+     * @since 1.0.6
+     */
+    public void forEachPosition(@NotNull BlockPositionConsumer consumer) {
+        BlockCursor cursor = cursor();
+        while (cursor.next()) consumer.accept(cursor.getX(), cursor.getY(), cursor.getZ());
+    }
+
+    /**
+     * Creates a lazy iterator over the blocks within the cuboid, in chunk order.
+     * <p>
+     * Each {@link Block} is created only as it is reached, so memory usage does not grow
+     * with the size of the region.
+     *
+     * @return A new {@link Iterator} of blocks.
+     * @throws IllegalStateException If the world is not loaded.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Iterator<Block> blockIterator() {
+        World world = getWorld();
+        if (world == null) throw new IllegalStateException("The world is either not loaded, or does not exist.");
+
+        BlockCursor cursor = cursor();
+        return new Iterator<>() {
+            private boolean hasNext = cursor.next();
+
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            @Override
+            public Block next() {
+                if (!hasNext) throw new NoSuchElementException();
+
+                Block block = cursor.getBlock(world);
+                hasNext = cursor.next();
+                return block;
+            }
+        };
+    }
+
+    /**
+     * Creates a lazy, sequential stream of the blocks within the cuboid, in chunk order.
+     *
+     * @return A new {@link Stream} of blocks.
+     * @throws IllegalStateException If the world is not loaded.
+     * @since 1.0.6
+     */
+    @NotNull
+    public Stream<Block> blocks() {
+        Spliterator<Block> spliterator = Spliterators.spliterator(blockIterator(), getBlockCount(), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Retrieves the {@link UUID} of the world this cuboid belongs to.
+     *
+     * @return The world identifier.
+     * @since 1.0.6
+     */
+    @NotNull
+    public UUID getWorldId() {
+        return worldId;
+    }
+
+    /**
+     * Retrieves the minimum X block coordinate of the cuboid, inclusive.
+     *
+     * @return The minimum X coordinate.
+     * @since 1.0.6
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Retrieves the minimum Y block coordinate of the cuboid, inclusive.
+     *
+     * @return The minimum Y coordinate.
+     * @since 1.0.6
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Retrieves the minimum Z block coordinate of the cuboid, inclusive.
+     *
+     * @return The minimum Z coordinate.
+     * @since 1.0.6
+     */
+    public int getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Retrieves the maximum X block coordinate of the cuboid, inclusive.
+     *
+     * @return The maximum X coordinate.
+     * @since 1.0.6
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Retrieves the maximum Y block coordinate of the cuboid, inclusive.
+     *
+     * @return The maximum Y coordinate.
+     * @since 1.0.6
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Retrieves the maximum Z block coordinate of the cuboid, inclusive.
+     *
+     * @return The maximum Z coordinate.
+     * @since 1.0.6
+     */
+    public int getMaxZ() {
+        return maxZ;
+    }
+
     /**
      * Calculates the total volume of the cuboid in blocks.
      *
@@ -124,4 +545,19 @@ public class Cuboid {
     public int getVolume() {
         return (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
     }
+
+    /**
+     * Calculates the total volume of the cuboid in blocks without risk of overflow.
+     *
+     * @return The total block count.
+     * @since 1.0.6
+     */
+    public long getBlockCount() {
+        return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "Cuboid{" + worldId + ", " + minX + "," + minY + "," + minZ + " -> " + maxX + "," + maxY + "," + maxZ + "}";
+    }
 }
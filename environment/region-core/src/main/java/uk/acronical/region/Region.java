@@ -0,0 +1,65 @@
+package uk.acronical.region;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A named {@link Cuboid} held by a {@link RegionRegistry}.
+ * <p>
+ * Regions are compared by name, so a region that is re-registered with new bounds
+ * is still considered the same region by {@link RegionTracker}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class Region {
+
+    private final String name;
+    private final Cuboid cuboid;
+
+    /**
+     * Initialises a new {@link Region}.
+     *
+     * @param name   The unique name of the region.
+     * @param cuboid The bounds of the region.
+     */
+    public Region(@NotNull String name, @NotNull Cuboid cuboid) {
+        this.name = name;
+        this.cuboid = cuboid;
+    }
+
+    /**
+     * Retrieves the unique name of the region.
+     *
+     * @return The region's name.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the bounds of the region.
+     *
+     * @return The region's {@link Cuboid}.
+     */
+    @NotNull
+    public Cuboid getCuboid() {
+        return cuboid;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        return other instanceof Region region && name.equals(region.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,177 @@
+package uk.acronical.region;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * A static bounding volume hierarchy over a set of regions.
+ * <p>
+ * Nodes are stored in flat arrays and split at the median of their longest axis,
+ * giving logarithmic point and box queries. The hierarchy is
+ * immutable; {@link RegionRegistry} rebuilds it lazily whenever its large regions change.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+final class RegionBvh {
+
+    private static final int LEAF_SIZE = 4;
+    private static final int MAX_DEPTH = 64;
+
+    private final Region[] regions;
+
+    // Node bounds use the same inclusive block ranges as Cuboid.
+    private final int[] minX, minY, minZ, maxX, maxY, maxZ;
+    private final int[] left, right, start, count;
+    private int nodeCount = 0;
+
+    /**
+     * Builds a hierarchy over the given regions.
+     *
+     * @param source The regions to index.
+     */
+    RegionBvh(@NotNull Collection<Region> source) {
+        this.regions = source.toArray(new Region[0]);
+
+        int capacity = Math.max(1, 2 * regions.length);
+        this.minX = new int[capacity];
+        this.minY = new int[capacity];
+        this.minZ = new int[capacity];
+        this.maxX = new int[capacity];
+        this.maxY = new int[capacity];
+        this.maxZ = new int[capacity];
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.start = new int[capacity];
+        this.count = new int[capacity];
+
+        if (regions.length > 0) build(0, regions.length, 0);
+    }
+
+    /**
+     * Collects every region containing a point.
+     *
+     * @param x   The X coordinate.
+     * @param y   The Y coordinate.
+     * @param z   The Z coordinate.
+     * @param out The collection to add matches to.
+     * @return The number of regions added.
+     */
+    int query(double x, double y, double z, @NotNull Collection<? super Region> out) {
+        if (nodeCount == 0) return 0;
+
+        int[] stack = new int[MAX_DEPTH];
+        int depth = 0, added = 0;
+        stack[depth++] = 0;
+
+        while (depth > 0) {
+            int node = stack[--depth];
+            if (x < minX[node] || x > maxX[node] || y < minY[node] || y > maxY[node] + 1 || z < minZ[node] || z > maxZ[node] + 1) continue;
+
+            if (count[node] > 0) {
+                for (int i = start[node]; i < start[node] + count[node]; i++) {
+                    if (regions[i].getCuboid().contains(x, y, z)) {
+                        out.add(regions[i]);
+                        added++;
+                    }
+                }
+            } else {
+                stack[depth++] = left[node];
+                stack[depth++] = right[node];
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Collects every region overlapping a block range.
+     *
+     * @param qMinX The minimum X block coordinate.
+     * @param qMinY The minimum Y block coordinate.
+     * @param qMinZ The minimum Z block coordinate.
+     * @param qMaxX The maximum X block coordinate.
+     * @param qMaxY The maximum Y block coordinate.
+     * @param qMaxZ The maximum Z block coordinate.
+     * @param out   The collection to add matches to.
+     * @return The number of regions added.
+     */
+    int query(int qMinX, int qMinY, int qMinZ, int qMaxX, int qMaxY, int qMaxZ, @NotNull Collection<? super Region> out) {
+        if (nodeCount == 0) return 0;
+
+        int[] stack = new int[MAX_DEPTH];
+        int depth = 0, added = 0;
+        stack[depth++] = 0;
+
+        while (depth > 0) {
+            int node = stack[--depth];
+            if (qMaxX < minX[node] || qMinX > maxX[node] || qMaxY < minY[node] || qMinY > maxY[node] || qMaxZ < minZ[node] || qMinZ > maxZ[node]) continue;
+
+            if (count[node] > 0) {
+                for (int i = start[node]; i < start[node] + count[node]; i++) {
+                    if (regions[i].getCuboid().intersects(qMinX, qMinY, qMinZ, qMaxX, qMaxY, qMaxZ)) {
+                        out.add(regions[i]);
+                        added++;
+                    }
+                }
+            } else {
+                stack[depth++] = left[node];
+                stack[depth++] = right[node];
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Recursively builds the node covering {@code regions[from, to)}.
+     *
+     * @param from  The first region index, inclusive.
+     * @param to    The last region index, exclusive.
+     * @param depth The depth of the node being built.
+     * @return The index of the new node.
+     */
+    private int build(int from, int to, int depth) {
+        int node = nodeCount++;
+
+        minX[node] = minY[node] = minZ[node] = Integer.MAX_VALUE;
+        maxX[node] = maxY[node] = maxZ[node] = Integer.MIN_VALUE;
+
+        for (int i = from; i < to; i++) {
+            Cuboid cuboid = regions[i].getCuboid();
+            minX[node] = Math.min(minX[node], cuboid.getMinX());
+            minY[node] = Math.min(minY[node], cuboid.getMinY());
+            minZ[node] = Math.min(minZ[node], cuboid.getMinZ());
+            maxX[node] = Math.max(maxX[node], cuboid.getMaxX());
+            maxY[node] = Math.max(maxY[node], cuboid.getMaxY());
+            maxZ[node] = Math.max(maxZ[node], cuboid.getMaxZ());
+        }
+
+        // The depth guard keeps the query stack bounded, even for degenerate input.
+        if (to - from <= LEAF_SIZE || depth >= MAX_DEPTH / 2 - 1) {
+            start[node] = from;
+            count[node] = to - from;
+            return node;
+        }
+
+        long spanX = (long) maxX[node] - minX[node];
+        long spanY = (long) maxY[node] - minY[node];
+        long spanZ = (long) maxZ[node] - minZ[node];
+
+        Comparator<Region> order;
+        if (spanX >= spanY && spanX >= spanZ) order = Comparator.comparingLong(region -> (long) region.getCuboid().getMinX() + region.getCuboid().getMaxX());
+        else if (spanY >= spanZ) order = Comparator.comparingLong(region -> (long) region.getCuboid().getMinY() + region.getCuboid().getMaxY());
+        else order = Comparator.comparingLong(region -> (long) region.getCuboid().getMinZ() + region.getCuboid().getMaxZ());
+
+        Arrays.sort(regions, from, to, order);
+
+        int middle = (from + to) >>> 1;
+        count[node] = 0;
+        left[node] = build(from, middle, depth + 1);
+        right[node] = build(middle, to, depth + 1);
+        return node;
+    }
+}
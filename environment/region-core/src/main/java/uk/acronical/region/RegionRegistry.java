@@ -0,0 +1,309 @@
+package uk.acronical.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A spatial index of named {@link Region}s, answering "which regions contain this point?"
+ * without looping over every region.
+ * <p>
+ * Each world keeps a chunk-keyed hash grid for ordinary regions, so a point query only
+ * inspects the regions overlapping a single chunk. Regions spanning more than
+ * {@value #LARGE_REGION_CHUNKS} chunks would bloat the grid, so they are held in a
+ * bounding volume hierarchy instead, which is rebuilt lazily after changes.
+ * <p>
+ * Regions may be added and removed at any time. The registry is not thread-safe and is
+ * intended to be used from the main server thread, where movement events are fired.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class RegionRegistry {
+
+    /**
+     * The number of chunks a region may span before it is indexed by the hierarchy rather than the grid.
+     */
+    public static final int LARGE_REGION_CHUNKS = 256;
+
+    private final Map<String, Region> regions = new HashMap<>();
+    private final Map<UUID, WorldIndex> worlds = new HashMap<>();
+
+    /**
+     * Registers a region, replacing any existing region with the same name.
+     *
+     * @param name   The unique name of the region.
+     * @param cuboid The bounds of the region.
+     * @return The registered {@link Region}.
+     */
+    @NotNull
+    public Region register(@NotNull String name, @NotNull Cuboid cuboid) {
+        unregister(name);
+
+        Region region = new Region(name, cuboid);
+        regions.put(name, region);
+        worlds.computeIfAbsent(cuboid.getWorldId(), id -> new WorldIndex()).add(region);
+        return region;
+    }
+
+    /**
+     * Removes a region from the registry.
+     *
+     * @param name The name of the region.
+     * @return {@code true} if a region was removed.
+     */
+    public boolean unregister(@NotNull String name) {
+        Region region = regions.remove(name);
+        if (region == null) return false;
+
+        WorldIndex index = worlds.get(region.getCuboid().getWorldId());
+        if (index != null) index.remove(region);
+        return true;
+    }
+
+    /**
+     * Retrieves a region by name.
+     *
+     * @param name The name of the region.
+     * @return The {@link Region}, or {@code null} if none is registered.
+     */
+    @Nullable
+    public Region get(@NotNull String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Retrieves every registered region.
+     *
+     * @return An unmodifiable view of the regions.
+     */
+    @NotNull
+    public Collection<Region> getRegions() {
+        return Collections.unmodifiableCollection(regions.values());
+    }
+
+    /**
+     * Retrieves the regions containing a location.
+     *
+     * @param location The location to check.
+     * @return A new list of matching regions, which may be empty.
+     */
+    @NotNull
+    public List<Region> getRegionsAt(@NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return List.of();
+
+        List<Region> found = new ArrayList<>(2);
+        getRegionsAt(world.getUID(), location.getX(), location.getY(), location.getZ(), found);
+        return found;
+    }
+
+    /**
+     * Collects the regions containing a point into an existing collection.
+     * <p>
+     * Reusing the collection between calls avoids allocation on hot paths such as movement checks.
+     *
+     * @param worldId The {@link UUID} of the world.
+     * @param x       The X coordinate.
+     * @param y       The Y coordinate.
+     * @param z       The Z coordinate.
+     * @param out     The collection to add matching regions to.
+     * @return The number of regions added.
+     */
+    public int getRegionsAt(@NotNull UUID worldId, double x, double y, double z, @NotNull Collection<? super Region> out) {
+        WorldIndex index = worlds.get(worldId);
+        if (index == null) return 0;
+        return index.query(x, y, z, out);
+    }
+
+    /**
+     * Checks if a location is inside at least one region.
+     *
+     * @param location The location to check.
+     * @return {@code true} if any region contains the location.
+     */
+    public boolean isInAnyRegion(@NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return false;
+
+        WorldIndex index = worlds.get(world.getUID());
+        return index != null && index.any(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Retrieves the regions overlapping a cuboid.
+     *
+     * @param area The area to check.
+     * @return A new set of overlapping regions, which may be empty.
+     */
+    @NotNull
+    public Set<Region> getRegionsIntersecting(@NotNull Cuboid area) {
+        Set<Region> found = new LinkedHashSet<>();
+        getRegionsIntersecting(area.getWorldId(), area.getMinX(), area.getMinY(), area.getMinZ(), area.getMaxX(), area.getMaxY(), area.getMaxZ(), found);
+        return found;
+    }
+
+    /**
+     * Collects the regions overlapping an inclusive block range into an existing collection.
+     *
+     * @param worldId The {@link UUID} of the world.
+     * @param minX    The minimum X block coordinate.
+     * @param minY    The minimum Y block coordinate.
+     * @param minZ    The minimum Z block coordinate.
+     * @param maxX    The maximum X block coordinate.
+     * @param maxY    The maximum Y block coordinate.
+     * @param maxZ    The maximum Z block coordinate.
+     * @param out     The collection to add overlapping regions to.
+     * @return The number of regions added.
+     */
+    public int getRegionsIntersecting(@NotNull UUID worldId, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Collection<? super Region> out) {
+        WorldIndex index = worlds.get(worldId);
+        if (index == null) return 0;
+        return index.query(minX, minY, minZ, maxX, maxY, maxZ, out);
+    }
+
+    /**
+     * Retrieves the number of registered regions.
+     *
+     * @return The region count.
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Removes every region from the registry.
+     */
+    public void clear() {
+        regions.clear();
+        worlds.clear();
+    }
+
+    /**
+     * The spatial index for the regions of a single world.
+     */
+    private static final class WorldIndex {
+
+        private final ChunkGrid grid = new ChunkGrid();
+        private final List<Region> large = new ArrayList<>();
+        private RegionBvh hierarchy = null;
+
+        void add(@NotNull Region region) {
+            if (isLarge(region.getCuboid())) {
+                large.add(region);
+                hierarchy = null;
+                return;
+            }
+
+            Cuboid cuboid = region.getCuboid();
+            for (int chunkX = minChunkX(cuboid); chunkX <= maxChunkX(cuboid); chunkX++) {
+                for (int chunkZ = minChunkZ(cuboid); chunkZ <= maxChunkZ(cuboid); chunkZ++) {
+                    grid.add(ChunkGrid.key(chunkX, chunkZ), region);
+                }
+            }
+        }
+
+        void remove(@NotNull Region region) {
+            if (isLarge(region.getCuboid())) {
+                large.remove(region);
+                hierarchy = null;
+                return;
+            }
+
+            Cuboid cuboid = region.getCuboid();
+            for (int chunkX = minChunkX(cuboid); chunkX <= maxChunkX(cuboid); chunkX++) {
+                for (int chunkZ = minChunkZ(cuboid); chunkZ <= maxChunkZ(cuboid); chunkZ++) {
+                    grid.remove(ChunkGrid.key(chunkX, chunkZ), region);
+                }
+            }
+        }
+
+        int query(double x, double y, double z, @NotNull Collection<? super Region> out) {
+            int added = 0;
+
+            for (Region region : grid.get(ChunkGrid.key((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4))) {
+                if (region.getCuboid().contains(x, y, z)) {
+                    out.add(region);
+                    added++;
+                }
+            }
+
+            if (!large.isEmpty()) added += hierarchy().query(x, y, z, out);
+            return added;
+        }
+
+        boolean any(double x, double y, double z) {
+            for (Region region : grid.get(ChunkGrid.key((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4))) {
+                if (region.getCuboid().contains(x, y, z)) return true;
+            }
+
+            if (large.isEmpty()) return false;
+
+            // Only large regions remain, of which there are few, so a direct scan is sufficient.
+            for (Region region : large) if (region.getCuboid().contains(x, y, z)) return true;
+            return false;
+        }
+
+        int query(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Collection<? super Region> out) {
+            int added = 0;
+            int queryMinChunkX = minX >> 4, queryMinChunkZ = minZ >> 4;
+
+            for (int chunkX = queryMinChunkX; chunkX <= maxX >> 4; chunkX++) {
+                for (int chunkZ = queryMinChunkZ; chunkZ <= maxZ >> 4; chunkZ++) {
+                    for (Region region : grid.get(ChunkGrid.key(chunkX, chunkZ))) {
+                        Cuboid cuboid = region.getCuboid();
+                        if (!cuboid.intersects(minX, minY, minZ, maxX, maxY, maxZ)) continue;
+
+                        // A region spanning several chunks is reported only from the first chunk both ranges share.
+                        if (chunkX != Math.max(minChunkX(cuboid), queryMinChunkX) || chunkZ != Math.max(minChunkZ(cuboid), queryMinChunkZ)) continue;
+
+                        out.add(region);
+                        added++;
+                    }
+                }
+            }
+
+            if (!large.isEmpty()) added += hierarchy().query(minX, minY, minZ, maxX, maxY, maxZ, out);
+            return added;
+        }
+
+        @NotNull
+        private RegionBvh hierarchy() {
+            if (hierarchy == null) hierarchy = new RegionBvh(large);
+            return hierarchy;
+        }
+
+        private static boolean isLarge(@NotNull Cuboid cuboid) {
+            long chunks = (long) (maxChunkX(cuboid) - minChunkX(cuboid) + 1) * (maxChunkZ(cuboid) - minChunkZ(cuboid) + 1);
+            return chunks > LARGE_REGION_CHUNKS;
+        }
+
+        private static int minChunkX(@NotNull Cuboid cuboid) {
+            return cuboid.getMinX() >> 4;
+        }
+
+        private static int maxChunkX(@NotNull Cuboid cuboid) {
+            return cuboid.getMaxX() >> 4;
+        }
+
+        private static int minChunkZ(@NotNull Cuboid cuboid) {
+            return cuboid.getMinZ() >> 4;
+        }
+
+        // Cuboid#contains accepts points up to maxZ + 1, which may fall in the next chunk.
+        private static int maxChunkZ(@NotNull Cuboid cuboid) {
+            return (cuboid.getMaxZ() + 1) >> 4;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package uk.acronical.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.LoggerUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Tracks which {@link Region}s each online player is standing in.
+ * <p>
+ * Movement is resolved against a {@link RegionRegistry}, and the enter and leave callbacks
+ * are fired only when a player's set of regions actually changes, rather than on every
+ * {@link PlayerMoveEvent}. Head rotation alone never triggers a lookup.
+ * <p>
+ * Changes to the registry are picked up the next time a player moves; call
+ * {@link #refresh(Player)} to apply them immediately.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class RegionTracker implements Listener {
+
+    private static final Region[] NONE = new Region[0];
+
+    private final Plugin plugin;
+    private final RegionRegistry registry;
+    private final Map<UUID, Region[]> current = new HashMap<>();
+    private final List<Region> scratch = new ArrayList<>();
+
+    private BiConsumer<Player, Region> onEnter = (player, region) -> {};
+    private BiConsumer<Player, Region> onLeave = (player, region) -> {};
+    private boolean isInitialised = false;
+
+    /**
+     * Initialises a new {@link RegionTracker}.
+     *
+     * @param plugin   The plugin instance responsible for registration.
+     * @param registry The registry of regions to track.
+     */
+    public RegionTracker(@NotNull Plugin plugin, @NotNull RegionRegistry registry) {
+        this.plugin = plugin;
+        this.registry = registry;
+    }
+
+    /**
+     * Sets the callback fired when a player enters a region.
+     *
+     * @param onEnter The callback receiving the player and the region entered.
+     * @return The current {@link RegionTracker} instance for method chaining.
+     */
+    public RegionTracker onEnter(@NotNull BiConsumer<Player, Region> onEnter) {
+        this.onEnter = onEnter;
+        return this;
+    }
+
+    /**
+     * Sets the callback fired when a player leaves a region.
+     *
+     * @param onLeave The callback receiving the player and the region left.
+     * @return The current {@link RegionTracker} instance for method chaining.
+     */
+    public RegionTracker onLeave(@NotNull BiConsumer<Player, Region> onLeave) {
+        this.onLeave = onLeave;
+        return this;
+    }
+
+    /**
+     * Registers the tracker as a listener and resolves the regions of every online player.
+     */
+    public void init() {
+        if (isInitialised) {
+            LoggerUtils.warn("RegionTracker has already been initialised. Plugin " + plugin.getName() + " has attempted re-initialisation...");
+            return;
+        }
+
+        isInitialised = true;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) refresh(player);
+    }
+
+    /**
+     * Unregisters the tracker and forgets every player's regions without firing callbacks.
+     */
+    public void shutdown() {
+        if (!isInitialised) return;
+
+        isInitialised = false;
+        HandlerList.unregisterAll(this);
+        current.clear();
+    }
+
+    /**
+     * Retrieves the regions a player was last seen in.
+     *
+     * @param player The player to check.
+     * @return A new list of the player's current regions.
+     */
+    @NotNull
+    public List<Region> getRegions(@NotNull Player player) {
+        return List.of(current.getOrDefault(player.getUniqueId(), NONE));
+    }
+
+    /**
+     * Checks if a player was last seen inside a region.
+     *
+     * @param player The player to check.
+     * @param name   The name of the region.
+     * @return {@code true} if the player is inside the region.
+     */
+    public boolean isInside(@NotNull Player player, @NotNull String name) {
+        for (Region region : current.getOrDefault(player.getUniqueId(), NONE)) {
+            if (region.getName().equals(name)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Re-resolves a player's regions from their current location, firing callbacks for any change.
+     *
+     * @param player The player to refresh.
+     */
+    public void refresh(@NotNull Player player) {
+        update(player, player.getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null) return;
+
+        if (from.getX() == to.getX() && from.getY() == to.getY() && from.getZ() == to.getZ() && from.getWorld() == to.getWorld()) return;
+
+        update(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        if (event.getTo() != null) update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        current.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Resolves the regions at a location and fires callbacks if the player's set has changed.
+     *
+     * @param player   The player being updated.
+     * @param location The location the player is now at.
+     */
+    private void update(@NotNull Player player, @NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+
+        scratch.clear();
+        registry.getRegionsAt(world.getUID(), location.getX(), location.getY(), location.getZ(), scratch);
+
+        UUID uuid = player.getUniqueId();
+        Region[] previous = current.getOrDefault(uuid, NONE);
+        if (sameRegions(previous, scratch)) return;
+
+        Region[] next = scratch.toArray(NONE);
+        if (next.length == 0) current.remove(uuid);
+        else current.put(uuid, next);
+
+        // The arrays are used from here on, as a callback may refresh another player and reuse the scratch list.
+        for (Region region : previous) if (!contains(next, region)) onLeave.accept(player, region);
+        for (Region region : next) if (!contains(previous, region)) onEnter.accept(player, region);
+    }
+
+    private static boolean sameRegions(@NotNull Region[] previous, @NotNull List<Region> next) {
+        if (previous.length != next.size()) return false;
+        for (Region region : previous) if (!next.contains(region)) return false;
+        return true;
+    }
+
+    private static boolean contains(@NotNull Region[] regions, @NotNull Region region) {
+        for (Region candidate : regions) if (candidate.equals(region)) return true;
+        return false;
+    }
+}
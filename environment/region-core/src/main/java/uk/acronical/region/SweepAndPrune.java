@@ -0,0 +1,112 @@
+package uk.acronical.region;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A broad-phase overlap finder for large sets of {@link Cuboid}s.
+ * <p>
+ * Rather than testing every pair, the cuboids of each world are sorted by their minimum X
+ * coordinate and swept in order. Each cuboid is only compared against those whose X range
+ * begins before its own ends, so the cost is {@code O(n log n)} plus the number of pairs
+ * overlapping on the X axis, instead of {@code O(n²)}.
+ * <p>
+ * Typical usage, such as validating claims at startup:
+ * <pre>{@code
+ * SweepAndPrune.forEachOverlap(regions, Region::getCuboid, (first, second) ->
+ *         LoggerUtils.warn(first.getName() + " overlaps " + second.getName()));
+ * }</pre>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class SweepAndPrune {
+
+    private SweepAndPrune() {}
+
+    /**
+     * Finds every overlapping pair among a list of cuboids.
+     *
+     * @param cuboids  The cuboids to check.
+     * @param consumer The callback receiving each overlapping pair once.
+     * @return The number of overlapping pairs found.
+     */
+    public static int forEachOverlap(@NotNull List<Cuboid> cuboids, @NotNull BiConsumer<Cuboid, Cuboid> consumer) {
+        return forEachOverlap(cuboids, Function.identity(), consumer);
+    }
+
+    /**
+     * Finds every overlapping pair among a list of objects with cuboid bounds, such as {@link Region}s.
+     * <p>
+     * Each pair is reported once, with the items in an unspecified order.
+     *
+     * @param items    The items to check.
+     * @param bounds   A function retrieving the bounds of an item.
+     * @param consumer The callback receiving each overlapping pair once.
+     * @param <T>      The type of item.
+     * @return The number of overlapping pairs found.
+     */
+    public static <T> int forEachOverlap(@NotNull List<? extends T> items, @NotNull Function<? super T, Cuboid> bounds, @NotNull BiConsumer<? super T, ? super T> consumer) {
+        int size = items.size();
+        int[] minX = new int[size], minY = new int[size], minZ = new int[size];
+        int[] maxX = new int[size], maxY = new int[size], maxZ = new int[size];
+
+        // Indices are grouped by world, as cuboids in different worlds can never overlap.
+        Map<UUID, int[]> worlds = new HashMap<>();
+        Map<UUID, Integer> counts = new HashMap<>();
+        UUID[] worldIds = new UUID[size];
+
+        for (int i = 0; i < size; i++) {
+            Cuboid cuboid = bounds.apply(items.get(i));
+            minX[i] = cuboid.getMinX();
+            minY[i] = cuboid.getMinY();
+            minZ[i] = cuboid.getMinZ();
+            maxX[i] = cuboid.getMaxX();
+            maxY[i] = cuboid.getMaxY();
+            maxZ[i] = cuboid.getMaxZ();
+            worldIds[i] = cuboid.getWorldId();
+            counts.merge(worldIds[i], 1, Integer::sum);
+        }
+
+        for (int i = 0; i < size; i++) {
+            int[] group = worlds.computeIfAbsent(worldIds[i], id -> new int[counts.get(id) + 1]);
+            group[++group[0]] = i;
+        }
+
+        int found = 0;
+        for (int[] group : worlds.values()) {
+            int count = group[0];
+
+            // Packing the minimum X above the index lets a primitive sort order the sweep.
+            long[] order = new long[count];
+            for (int i = 0; i < count; i++) {
+                int index = group[i + 1];
+                order[i] = ((long) minX[index] << 32) | index;
+            }
+            Arrays.sort(order);
+
+            for (int a = 0; a < count; a++) {
+                int i = (int) order[a];
+
+                for (int b = a + 1; b < count; b++) {
+                    int j = (int) order[b];
+                    if (minX[j] > maxX[i]) break;
+
+                    if (minY[i] <= maxY[j] && maxY[i] >= minY[j] && minZ[i] <= maxZ[j] && maxZ[i] >= minZ[j]) {
+                        consumer.accept(items.get(i), items.get(j));
+                        found++;
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+}
@@ -1,8 +1,8 @@
 package uk.acronical.actionbar;
 
 import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import uk.acronical.common.StringUtils;
 import uk.acronical.task.TaskManager;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,19 +23,41 @@ import java.util.function.Function;
  * <p>
  * This utility facilitates both one-time messages and "sticky" persistent bars
  * that update automatically via a provided {@link Function}.
+ * <p>
+ * As of 1.0.6, each persistent bar has its own refresh interval, and its text is only
+ * re-sent when it changes or when the client would otherwise let it fade. Components
+ * are built once per distinct string and reused. Bars are refreshed on the main server
+ * thread, from which persistent bars should also be set.
  *
  * @author Acronical
  * @since 1.0.5
  */
 public class ActionBarService implements Listener {
 
+    /**
+     * The default refresh interval of a persistent bar, in ticks.
+     */
+    public static final long DEFAULT_INTERVAL = 20L;
+
+    // The client fades an action bar after roughly 60 ticks, so unchanged text is re-sent well before then.
+    private static final long KEEP_ALIVE_TICKS = 40L;
+    private static final int COMPONENT_CACHE_SIZE = 512;
+
     private final Plugin plugin;
     private final TaskManager taskManager;
 
-    private final Map<UUID, Function<Player, String>> persistentBars = new ConcurrentHashMap<>();
+    private final Map<UUID, PersistentBar> persistentBars = new ConcurrentHashMap<>();
+    private final Map<String, BaseComponent> components = new LinkedHashMap<>(COMPONENT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BaseComponent> eldest) {
+            return size() > COMPONENT_CACHE_SIZE;
+        }
+    };
+
+    private long tick = 0;
 
     /**
-     * Initialises the {@link ActionBarService} and starts the background refresh task.
+     * Initialises the {@link ActionBarService} and starts the refresh task.
      *
      * @param plugin      The plugin instance.
      * @param taskManager The {@link TaskManager} utilised for the update loop.
@@ -43,15 +66,12 @@ public class ActionBarService implements Listener {
         this.plugin = plugin;
         this.taskManager = taskManager;
 
-        this.taskManager.async(() -> {
-            for (Map.Entry<UUID, Function<Player, String>> entry : persistentBars.entrySet()) {
-                Player player = Bukkit.getPlayer(entry.getKey());
-                if (player != null && player.isOnline()) {
-                    String currentText = entry.getValue().apply(player);
-                    if (currentText != null && !currentText.isEmpty()) send(player, currentText);
-                }
+        this.taskManager.sync(() -> {
+            tick++;
+            for (PersistentBar bar : persistentBars.values()) {
+                if (tick >= bar.nextRefresh) refresh(bar);
             }
-        }, 20L, 20L);
+        }, 1L, 1L);
     }
 
     /**
@@ -61,7 +81,7 @@ public class ActionBarService implements Listener {
      * @param message The text to display (supports colour codes).
      */
     public void send(@NotNull Player player, @NotNull String message) {
-        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacy(StringUtils.colour(message)));
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, getComponent(message));
     }
 
     /**
@@ -71,7 +91,43 @@ public class ActionBarService implements Listener {
      * @param provider A function that generates the current bar text for the player.
      */
     public void setPersistent(@NotNull Player player, @NotNull Function<Player, String> provider) {
-        persistentBars.put(player.getUniqueId(), provider);
+        setPersistent(player, provider, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Sets a persistent action bar for a player that updates at a given interval.
+     *
+     * @param player   The player to receive the persistent bar.
+     * @param provider A function that generates the current bar text for the player.
+     * @param interval The number of ticks between refreshes.
+     * @throws IllegalArgumentException If the interval is not positive.
+     * @since 1.0.6
+     */
+    public void setPersistent(@NotNull Player player, @NotNull Function<Player, String> provider, long interval) {
+        if (interval <= 0) throw new IllegalArgumentException("The interval must be positive.");
+        persistentBars.put(player.getUniqueId(), new PersistentBar(player, provider, interval, tick + 1));
+    }
+
+    /**
+     * Changes the refresh interval of a player's persistent bar, such as when entering or leaving combat.
+     * <p>
+     * The new interval applies from the bar's next refresh.
+     *
+     * @param player   The player whose bar should be adjusted.
+     * @param interval The number of ticks between refreshes.
+     * @return {@code true} if the player has a persistent bar.
+     * @throws IllegalArgumentException If the interval is not positive.
+     * @since 1.0.6
+     */
+    public boolean setInterval(@NotNull Player player, long interval) {
+        if (interval <= 0) throw new IllegalArgumentException("The interval must be positive.");
+
+        PersistentBar bar = persistentBars.get(player.getUniqueId());
+        if (bar == null) return false;
+
+        bar.interval = interval;
+        bar.nextRefresh = Math.min(bar.nextRefresh, tick + interval);
+        return true;
     }
 
     /**
@@ -88,4 +144,69 @@ public class ActionBarService implements Listener {
     public void onQuit(@NotNull PlayerQuitEvent event) {
         persistentBars.remove(event.getPlayer().getUniqueId());
     }
+
+    /**
+     * Regenerates a persistent bar's text and sends it if it has changed or is about to fade.
+     *
+     * @param bar The bar to refresh.
+     */
+    private void refresh(@NotNull PersistentBar bar) {
+        if (!bar.player.isOnline()) {
+            persistentBars.remove(bar.player.getUniqueId(), bar);
+            return;
+        }
+
+        bar.nextRefresh = tick + bar.interval;
+
+        String text = bar.provider.apply(bar.player);
+        if (text == null || text.isEmpty()) return;
+
+        boolean unchanged = text.hashCode() == bar.lastHash && text.equals(bar.lastText);
+        if (unchanged && tick - bar.lastSent < KEEP_ALIVE_TICKS) return;
+
+        send(bar.player, text);
+        bar.lastText = text;
+        bar.lastHash = text.hashCode();
+        bar.lastSent = tick;
+    }
+
+    /**
+     * Retrieves the coloured component for a message, building it on first use.
+     *
+     * @param message The raw text, which may contain colour codes.
+     * @return The cached {@link BaseComponent}.
+     */
+    @NotNull
+    private BaseComponent getComponent(@NotNull String message) {
+        synchronized (components) {
+            BaseComponent component = components.get(message);
+            if (component == null) {
+                component = TextComponent.fromLegacy(StringUtils.colour(message));
+                components.put(message, component);
+            }
+            return component;
+        }
+    }
+
+    /**
+     * The state of a single player's persistent bar.
+     */
+    private static final class PersistentBar {
+
+        private final Player player;
+        private final Function<Player, String> provider;
+        private long interval;
+        private long nextRefresh;
+
+        private String lastText = null;
+        private int lastHash = 0;
+        private long lastSent = Long.MIN_VALUE / 2;
+
+        private PersistentBar(@NotNull Player player, @NotNull Function<Player, String> provider, long interval, long nextRefresh) {
+            this.player = player;
+            this.provider = provider;
+            this.interval = interval;
+            this.nextRefresh = nextRefresh;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+package uk.acronical.animation;
+
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.LoggerUtils;
+import uk.acronical.task.TaskManager;
+import uk.acronical.task.TaskProfiler;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * An engine that advances every running {@link AnimationPlayback} from a single ticking task.
+ * <p>
+ * Rather than scheduling a task for every frame of every playback, each playback keeps a
+ * cursor into its sequence and the engine advances them all once per tick. A sequence of
+ * any length, played for any number of players, therefore occupies one scheduler task,
+ * which is only running while at least one playback is active.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * AnimationEngine engine = new AnimationEngine(taskManager);
+ * AnimationSequence intro = new AnimationSequence(engine)
+ *         .appendFrame(() -> player.sendTitle("3", "", 0, 20, 0), 0)
+ *         .appendFrame(() -> player.sendTitle("2", "", 0, 20, 0), 20);
+ *
+ * AnimationPlayback playback = intro.play().setSpeed(2.0);
+ * playback.pause();
+ * }</pre>
+ * <p>
+ * The engine runs on the main server thread. Playbacks may be started from any thread, and
+ * are picked up by the engine on its next tick.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class AnimationEngine {
+
+    // Engines shared by sequences created with only a TaskManager, dropped once neither is referenced elsewhere.
+    private static final Map<TaskManager, WeakReference<AnimationEngine>> SHARED = new WeakHashMap<>();
+
+    private final TaskManager taskManager;
+    private final List<AnimationPlayback> playbacks = new ArrayList<>();
+    private final Queue<AnimationPlayback> started = new ConcurrentLinkedQueue<>();
+
+    private BukkitTask task;
+
+    /**
+     * Initialises a new {@link AnimationEngine}.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule the engine's task.
+     */
+    public AnimationEngine(@NotNull TaskManager taskManager) {
+        this.taskManager = taskManager;
+    }
+
+    /**
+     * Retrieves the engine shared by every sequence created with a {@link TaskManager}, creating it on first use.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule the engine's task.
+     * @return The shared {@link AnimationEngine}.
+     */
+    @NotNull
+    static synchronized AnimationEngine shared(@NotNull TaskManager taskManager) {
+        WeakReference<AnimationEngine> reference = SHARED.get(taskManager);
+        AnimationEngine engine = reference != null ? reference.get() : null;
+        if (engine != null) return engine;
+
+        engine = new AnimationEngine(taskManager);
+        SHARED.put(taskManager, new WeakReference<>(engine));
+        return engine;
+    }
+
+    /**
+     * Starts a new playback of a sequence, beginning on the next tick.
+     *
+     * @param sequence The sequence to play.
+     * @return The {@link AnimationPlayback} controlling the new playback.
+     */
+    @NotNull
+    public AnimationPlayback play(@NotNull AnimationSequence sequence) {
+        AnimationPlayback playback = sequence.createPlayback();
+
+        // Playbacks started from within a frame or off the main thread are picked up on the next tick, leaving the active list untouched.
+        started.add(playback);
+        start();
+
+        return playback;
+    }
+
+    /**
+     * Retrieves the number of playbacks currently running, including those paused.
+     *
+     * @return The active playback count.
+     */
+    public int getActiveCount() {
+        return playbacks.size() + started.size();
+    }
+
+    /**
+     * Cancels every running playback and stops the engine's task.
+     */
+    public void shutdown() {
+        for (AnimationPlayback playback : playbacks) playback.cancel();
+        playbacks.clear();
+
+        AnimationPlayback playback;
+        while ((playback = started.poll()) != null) playback.cancel();
+        stop();
+    }
+
+    /**
+     * Advances every active playback by one tick, stopping the task once none remain.
+     */
+    private void tick() {
+        AnimationPlayback queued;
+        while ((queued = started.poll()) != null) playbacks.add(queued);
+
+        for (Iterator<AnimationPlayback> iterator = playbacks.iterator(); iterator.hasNext(); ) {
+            AnimationPlayback playback = iterator.next();
+            if (!advance(playback)) iterator.remove();
+        }
+
+        if (playbacks.isEmpty()) {
+            // Checked under the same lock as start(), so a playback queued meanwhile either stops the engine from stopping or restarts it.
+            synchronized (this) {
+                if (started.isEmpty()) stop();
+            }
+        }
+    }
+
+    /**
+     * Advances a playback, cancelling it if a frame fails so it cannot disrupt the others.
+     *
+     * @param playback The playback to advance.
+     * @return {@code true} if the playback is still active.
+     */
+    private boolean advance(@NotNull AnimationPlayback playback) {
+        try {
+            return playback.tick();
+        } catch (Exception exception) {
+            playback.cancel();
+            LoggerUtils.severe("An animation frame threw an exception and its playback has been cancelled: " + exception);
+            return false;
+        }
+    }
+
+    /**
+     * Schedules the engine's task, unless it is already running.
+     * <p>
+     * The task is also rescheduled if it was cancelled elsewhere, such as by {@link TaskManager#cancelAll()}.
+     */
+    private synchronized void start() {
+        if (task == null || task.isCancelled()) task = taskManager.sync(TaskProfiler.named("AnimationEngine", this::tick), 1L, 1L);
+    }
+
+    private synchronized void stop() {
+        if (task == null) return;
+
+        task.cancel();
+        task = null;
+    }
+}
@@ -0,0 +1,191 @@
+package uk.acronical.animation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single running instance of an {@link AnimationSequence}, advanced by an {@link AnimationEngine}.
+ * <p>
+ * Each playback keeps its own cursor into the sequence's frames, so the same sequence may be
+ * played for many players at once, and each playback can be paused, resumed, cancelled, looped
+ * or sped up independently. Playbacks should only be controlled from the main server thread.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class AnimationPlayback {
+
+    private final Runnable[] actions;
+    private final long[] offsets;
+    private final Runnable onStart, onEnd;
+
+    private double position = 0;
+    private int cursor = 0;
+    private double speed = 1.0;
+    private boolean looping = false;
+    private boolean started = false;
+    private boolean paused = false;
+    private boolean cancelled = false;
+    private boolean finished = false;
+
+    /**
+     * Initialises a new playback of a sequence's frames.
+     *
+     * @param actions The action of each frame.
+     * @param offsets The tick at which each frame runs, relative to the start of the sequence.
+     * @param onStart The action run before the first frame, if any.
+     * @param onEnd   The action run after the final frame, if any.
+     */
+    AnimationPlayback(@NotNull Runnable[] actions, @NotNull long[] offsets, @Nullable Runnable onStart, @Nullable Runnable onEnd) {
+        this.actions = actions;
+        this.offsets = offsets;
+        this.onStart = onStart;
+        this.onEnd = onEnd;
+    }
+
+    /**
+     * Pauses the playback, holding it on its current frame until resumed.
+     *
+     * @return The current {@link AnimationPlayback} instance.
+     */
+    public AnimationPlayback pause() {
+        this.paused = true;
+        return this;
+    }
+
+    /**
+     * Resumes a paused playback from where it was paused.
+     *
+     * @return The current {@link AnimationPlayback} instance.
+     */
+    public AnimationPlayback resume() {
+        this.paused = false;
+        return this;
+    }
+
+    /**
+     * Stops the playback without running any further frames or its end action.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Sets whether the playback restarts from its first frame after its last.
+     * <p>
+     * A looping playback never runs its end action, and continues until cancelled.
+     *
+     * @param looping {@code true} to loop the sequence.
+     * @return The current {@link AnimationPlayback} instance.
+     */
+    public AnimationPlayback setLooping(boolean looping) {
+        this.looping = looping;
+        return this;
+    }
+
+    /**
+     * Sets the playback speed, where 2.0 plays the sequence twice as fast and 0.5 half as fast.
+     *
+     * @param speed The speed multiplier.
+     * @return The current {@link AnimationPlayback} instance.
+     * @throws IllegalArgumentException If the speed is not positive.
+     */
+    public AnimationPlayback setSpeed(double speed) {
+        if (speed <= 0) throw new IllegalArgumentException("The speed must be positive.");
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Retrieves the playback speed multiplier.
+     *
+     * @return The speed, where 1.0 is normal speed.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Checks whether the playback restarts from its first frame after its last.
+     *
+     * @return {@code true} if the sequence loops.
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Checks whether the playback is paused.
+     *
+     * @return {@code true} if no frames will run until the playback is resumed.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Checks whether the playback is still running, including while paused.
+     *
+     * @return {@code true} if the playback has neither finished nor been cancelled.
+     */
+    public boolean isActive() {
+        return !cancelled && !finished;
+    }
+
+    /**
+     * Retrieves the index of the next frame to be run.
+     *
+     * @return The frame index.
+     */
+    public int getFrameIndex() {
+        return cursor;
+    }
+
+    /**
+     * Advances the playback by one tick, running every frame that has become due.
+     * <p>
+     * The cost of each tick depends only on the frames run during it, not on the length of the sequence.
+     *
+     * @return {@code true} if the playback is still active afterwards.
+     */
+    boolean tick() {
+        if (!isActive()) return false;
+        if (paused) return true;
+
+        if (!started) {
+            started = true;
+            if (onStart != null) onStart.run();
+        }
+
+        position += speed;
+
+        int frames = actions.length;
+        long duration = frames == 0 ? 0 : offsets[frames - 1];
+
+        while (true) {
+            while (cursor < frames && position >= offsets[cursor]) {
+                actions[cursor++].run();
+                if (cancelled) return false;
+            }
+
+            if (cursor < frames) return true;
+
+            if (!looping) {
+                finished = true;
+                if (onEnd != null) onEnd.run();
+                return false;
+            }
+
+            cursor = 0;
+
+            // A sequence with no duration would loop endlessly within a tick, so it restarts on the next one instead.
+            if (duration == 0) {
+                position = 0;
+                return true;
+            }
+
+            position -= duration;
+            if (position >= duration) position %= duration;
+        }
+    }
+}
@@ -9,27 +9,48 @@ import java.util.List;
 /**
  * Facilitates the scheduling of a linear sequence of actions over time.
  * <p>
- * This class utilise a cumulative delay strategy to schedule all frames
- * immediately upon the {@link #play()} call, ensuring a smooth and
- * predictable execution timeline.
+ * This class utilise a cumulative delay strategy, running each frame at the
+ * sum of the delays before it, ensuring a smooth and predictable execution timeline.
+ * <p>
+ * As of 1.0.6, sequences are played by an {@link AnimationEngine}, which advances every
+ * playback from a single ticking task rather than scheduling a task per frame. Each call
+ * to {@link #play()} returns an {@link AnimationPlayback} which can be paused, resumed,
+ * cancelled, looped or sped up.
  *
  * @author Acronical
  * @since 1.0.5
  */
 public class AnimationSequence {
 
-    private final TaskManager taskManager;
+    private final AnimationEngine engine;
     private final List<AnimationFrame> animationFrames = new ArrayList<>();
 
     private Runnable onStart, onEnd;
 
+    // The frames are flattened on first play and reused by every later playback until a frame is appended.
+    private Runnable[] actions = null;
+    private long[] offsets = null;
+
     /**
      * Initialises the animation sequence.
+     * <p>
+     * The sequence is played by an {@link AnimationEngine} shared by every sequence created
+     * with the same {@link TaskManager}.
      *
      * @param taskManager The {@link TaskManager} used to dispatch the scheduled tasks.
      */
     public AnimationSequence(@NotNull TaskManager taskManager) {
-        this.taskManager = taskManager;
+        this(AnimationEngine.shared(taskManager));
+    }
+
+    /**
+     * Initialises an animation sequence played by a shared engine.
+     *
+     * @param engine The {@link AnimationEngine} which advances the sequence's playbacks.
+     * @since 1.0.6
+     */
+    public AnimationSequence(@NotNull AnimationEngine engine) {
+        this.engine = engine;
     }
 
     /**
@@ -48,6 +69,8 @@ public class AnimationSequence {
      */
     public AnimationSequence appendFrame(@NotNull Runnable action, long delayTicks) {
         this.animationFrames.add(new AnimationFrame(action, delayTicks));
+        this.actions = null;
+        this.offsets = null;
         return this;
     }
 
@@ -60,25 +83,39 @@ public class AnimationSequence {
     }
 
     /**
-     * Schedules the entire sequence on the server's main thread.
+     * Starts a new playback of the sequence on the server's main thread.
+     * <p>
+     * The first frame runs on the next tick, once its delay has elapsed.
+     *
+     * @return The {@link AnimationPlayback} controlling the new playback.
      */
-    public void play() {
-        if (onStart != null) taskManager.sync(onStart);
-
-        long absoluteTickDelay = 0;
+    @NotNull
+    public AnimationPlayback play() {
+        return engine.play(this);
+    }
 
-        for (AnimationFrame animationFrame : animationFrames) {
-            absoluteTickDelay += animationFrame.getDelayTicks();
+    /**
+     * Creates a playback of the sequence's current frames.
+     *
+     * @return A new {@link AnimationPlayback}.
+     */
+    @NotNull
+    AnimationPlayback createPlayback() {
+        if (actions == null) {
+            int size = animationFrames.size();
+            actions = new Runnable[size];
+            offsets = new long[size];
 
-            final Runnable action = animationFrame.getAction();
+            long absoluteTickDelay = 0;
+            for (int i = 0; i < size; i++) {
+                AnimationFrame animationFrame = animationFrames.get(i);
+                absoluteTickDelay += animationFrame.getDelayTicks();
 
-            if (absoluteTickDelay == 0) taskManager.sync(action);
-            else taskManager.sync(action, absoluteTickDelay);
+                actions[i] = animationFrame.getAction();
+                offsets[i] = absoluteTickDelay;
+            }
         }
 
-        if (onEnd != null) {
-            if (absoluteTickDelay == 0) taskManager.sync(onEnd);
-            else taskManager.sync(onEnd, absoluteTickDelay);
-        }
+        return new AnimationPlayback(actions, offsets, onStart, onEnd);
     }
 }
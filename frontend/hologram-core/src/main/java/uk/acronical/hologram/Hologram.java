@@ -11,6 +11,9 @@ import org.joml.AxisAngle4f;
 import org.joml.Vector3f;
 import uk.acronical.common.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,6 +21,10 @@ import java.util.List;
  * <p>
  * This utilises the native Display entity system, providing high-performance
  * billboarding, scaling, and transparency without the overhead of armour stands.
+ * <p>
+ * As of 1.0.6, setting the same lines again is a no-op, and holograms may be pooled,
+ * batched and updated from asynchronous data via {@link HologramManager}. Once released to
+ * a manager's pool, a hologram can no longer be changed, as its entity may be reused by another.
  *
  * @author Acronical
  * @since 1.0.2
@@ -25,6 +32,8 @@ import java.util.List;
 public class Hologram {
 
     private final TextDisplay textDisplay;
+    private List<String> lines = List.of();
+    private boolean isReleased = false;
 
     /**
      * Initialises a new {@link Hologram} at the specified location.
@@ -36,10 +45,17 @@ public class Hologram {
         if (location.getWorld() == null) throw new IllegalArgumentException("Location must have a world");
 
         this.textDisplay = (TextDisplay) location.getWorld().spawnEntity(location, EntityType.TEXT_DISPLAY);
+        reset();
+    }
 
-        this.textDisplay.setBillboard(Display.Billboard.CENTER);
-        this.textDisplay.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
-        this.textDisplay.setShadowed(true);
+    /**
+     * Initialises a {@link Hologram} around an existing display, such as one reused from a pool.
+     *
+     * @param textDisplay The display entity to wrap.
+     */
+    Hologram(@NotNull TextDisplay textDisplay) {
+        this.textDisplay = textDisplay;
+        reset();
     }
 
     /**
@@ -47,8 +63,13 @@ public class Hologram {
      *
      * @param lines A list of strings to be displayed as separate lines.
      * @return The current {@link Hologram} instance.
+     * @throws IllegalStateException If the hologram has been released.
      */
     public Hologram setLines(@NotNull List<String> lines) {
+        checkActive();
+        if (lines.equals(this.lines)) return this;
+
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
         this.textDisplay.setText(StringUtils.colour(String.join("\n", lines)));
         return this;
     }
@@ -58,10 +79,21 @@ public class Hologram {
      *
      * @param lines The lines of text to display.
      * @return The current {@link Hologram} instance.
+     * @throws IllegalStateException If the hologram has been released.
      */
     public Hologram setLines(@NotNull String... lines) {
-        this.textDisplay.setText(StringUtils.colour(String.join("\n", lines)));
-        return this;
+        return setLines(Arrays.asList(lines));
+    }
+
+    /**
+     * Retrieves the lines currently displayed by the hologram, before colouring.
+     *
+     * @return An unmodifiable list of lines.
+     * @since 1.0.6
+     */
+    @NotNull
+    public List<String> getLines() {
+        return lines;
     }
 
     /**
@@ -69,8 +101,10 @@ public class Hologram {
      *
      * @param scale The multiplier for the hologram's size (1.0 is default).
      * @return The current {@link Hologram} instance.
+     * @throws IllegalStateException If the hologram has been released.
      */
     public Hologram setScale(float scale) {
+        checkActive();
         this.textDisplay.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(), new Vector3f(scale, scale, scale), new AxisAngle4f()));
         return this;
     }
@@ -80,8 +114,10 @@ public class Hologram {
      *
      * @param seeThrough {@code true} to enable X-ray visibility.
      * @return The current {@link Hologram} instance.
+     * @throws IllegalStateException If the hologram has been released.
      */
     public Hologram setSeeThrough(boolean seeThrough) {
+        checkActive();
         this.textDisplay.setSeeThrough(seeThrough);
         return this;
     }
@@ -91,16 +127,21 @@ public class Hologram {
      *
      * @param shadowed {@code true} to enable text shadows.
      * @return The current {@link Hologram} instance.
+     * @throws IllegalStateException If the hologram has been released.
      */
     public Hologram setShadowed(boolean shadowed) {
+        checkActive();
         this.textDisplay.setShadowed(shadowed);
         return this;
     }
 
     /**
      * Safely removes the hologram entity from the world.
+     * <p>
+     * A released hologram is left alone, as its entity now belongs to the pool.
      */
     public void remove() {
+        if (isReleased) return;
         if (this.textDisplay != null && !this.textDisplay.isDead()) {
             this.textDisplay.remove();
         }
@@ -115,4 +156,28 @@ public class Hologram {
     public TextDisplay getTextDisplay() {
         return this.textDisplay;
     }
+
+    /**
+     * Marks the hologram as released, so it can no longer change an entity which may be reused by another.
+     */
+    void release() {
+        this.isReleased = true;
+    }
+
+    private void checkActive() {
+        if (isReleased) throw new IllegalStateException("The hologram has been released.");
+    }
+
+    /**
+     * Restores the display's default appearance and clears its text.
+     */
+    void reset() {
+        this.lines = List.of();
+        this.textDisplay.setText("");
+        this.textDisplay.setBillboard(Display.Billboard.CENTER);
+        this.textDisplay.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+        this.textDisplay.setShadowed(true);
+        this.textDisplay.setSeeThrough(false);
+        this.textDisplay.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(), new Vector3f(1, 1, 1), new AxisAngle4f()));
+    }
 }
@@ -0,0 +1,224 @@
+package uk.acronical.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.task.TaskManager;
+import uk.acronical.task.TaskProfiler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A manager for pooling {@link Hologram}s and batching their text updates.
+ * <p>
+ * Text changes made through {@link #setLines(Hologram, List)} are not applied immediately.
+ * Instead, the hologram is marked dirty and its latest lines are applied by a flush task which
+ * runs once per tick, so several changes between flushes cost a single entity update. Updates may be
+ * queued from any thread, making it possible to fetch leaderboard data asynchronously and
+ * have every resulting change applied in one batch on the main thread.
+ * <p>
+ * Released holograms are hidden and kept in a pool rather than removed, so their display
+ * entities can be reused by {@link #create(Location)} without spawning a new entity.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class HologramManager {
+
+    /**
+     * The default maximum number of released holograms kept for reuse.
+     */
+    public static final int DEFAULT_POOL_SIZE = 64;
+
+    private final TaskManager taskManager;
+    private final Map<Hologram, List<String>> pending = new ConcurrentHashMap<>();
+    private final Deque<TextDisplay> pool = new ArrayDeque<>();
+    private final Set<Hologram> active = new LinkedHashSet<>();
+
+    private int maxPoolSize = DEFAULT_POOL_SIZE;
+    private BukkitTask flushTask;
+
+    /**
+     * Initialises a new {@link HologramManager} and starts the per-tick flush.
+     *
+     * @param taskManager The {@link TaskManager} used to schedule flushes and asynchronous fetches.
+     */
+    public HologramManager(@NotNull TaskManager taskManager) {
+        this.taskManager = taskManager;
+        this.flushTask = taskManager.sync(TaskProfiler.named("HologramManager", this::flush), 1L, 1L);
+    }
+
+    /**
+     * Sets the maximum number of released holograms kept for reuse.
+     *
+     * @param maxPoolSize The pool capacity.
+     * @return The current {@link HologramManager} instance for method chaining.
+     */
+    public HologramManager setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = Math.max(0, maxPoolSize);
+        while (pool.size() > this.maxPoolSize) pool.poll().remove();
+        return this;
+    }
+
+    /**
+     * Creates a hologram, reusing a pooled display entity where possible.
+     * <p>
+     * This must be called from the main server thread.
+     *
+     * @param location The world coordinates where the hologram will appear.
+     * @return A blank {@link Hologram} with default appearance.
+     * @throws IllegalArgumentException If the location world is null.
+     */
+    @NotNull
+    public Hologram create(@NotNull Location location) {
+        if (location.getWorld() == null) throw new IllegalArgumentException("Location must have a world");
+
+        Hologram hologram = null;
+        while (hologram == null && !pool.isEmpty()) {
+            TextDisplay display = pool.poll();
+
+            // Pooled displays may have been discarded with their chunk, or belong to another world.
+            if (!display.isValid()) continue;
+            if (!display.getWorld().equals(location.getWorld())) {
+                display.remove();
+                continue;
+            }
+
+            display.teleport(location);
+            display.setPersistent(true);
+            display.setVisibleByDefault(true);
+            hologram = new Hologram(display);
+        }
+
+        if (hologram == null) hologram = new Hologram(location);
+
+        active.add(hologram);
+        return hologram;
+    }
+
+    /**
+     * Queues new lines for a hologram, to be applied by the next flush.
+     * <p>
+     * Only the most recent lines queued before a flush are applied. This may be called from any thread.
+     *
+     * @param hologram The hologram to update.
+     * @param lines    The lines of text to display.
+     */
+    public void setLines(@NotNull Hologram hologram, @NotNull List<String> lines) {
+        pending.put(hologram, List.copyOf(lines));
+    }
+
+    /**
+     * Queues new lines for many holograms at once, to be applied together in a single flush.
+     * <p>
+     * This may be called from any thread. Off the main thread, the updates are handed to the main
+     * thread as one unit, so a flush never applies only part of them.
+     *
+     * @param updates The lines to display, keyed by hologram.
+     */
+    public void setLines(@NotNull Map<Hologram, List<String>> updates) {
+        Map<Hologram, List<String>> copy = new HashMap<>(updates.size());
+        for (Map.Entry<Hologram, List<String>> entry : updates.entrySet()) copy.put(entry.getKey(), List.copyOf(entry.getValue()));
+
+        taskManager.getMainThreadExecutor().execute(() -> pending.putAll(copy));
+    }
+
+    /**
+     * Fetches hologram text asynchronously, then applies every change in a single main-thread batch.
+     * <p>
+     * This suits leaderboards, where one database query produces the text of many holograms.
+     *
+     * @param fetch The logic producing the lines of each hologram, run off the main thread.
+     * @return A {@link CompletableFuture} completed on the main thread once the updates have been queued.
+     */
+    @NotNull
+    public CompletableFuture<Void> updateAsync(@NotNull Callable<Map<Hologram, List<String>>> fetch) {
+        return taskManager.supplyAsync(fetch).thenAcceptAsync(this::setLines, taskManager.getMainThreadExecutor());
+    }
+
+    /**
+     * Releases a hologram, hiding it and returning its entity to the pool for reuse.
+     * <p>
+     * The hologram cannot be changed once released, and its setters throw an
+     * {@link IllegalStateException}. This must be called from the main server thread.
+     *
+     * @param hologram The hologram to release.
+     */
+    public void release(@NotNull Hologram hologram) {
+        pending.remove(hologram);
+        active.remove(hologram);
+
+        TextDisplay display = hologram.getTextDisplay();
+        if (!display.isValid() || pool.size() >= maxPoolSize) {
+            hologram.remove();
+            hologram.release();
+            return;
+        }
+
+        // Pooled displays are hidden and never saved, so an unused pool leaves nothing behind.
+        hologram.reset();
+        hologram.release();
+        display.setVisibleByDefault(false);
+        display.setPersistent(false);
+        pool.push(display);
+    }
+
+    /**
+     * Retrieves every hologram created by this manager and not yet released.
+     *
+     * @return An unmodifiable view of the active holograms.
+     */
+    @NotNull
+    public Collection<Hologram> getHolograms() {
+        return Collections.unmodifiableCollection(active);
+    }
+
+    /**
+     * Retrieves the number of display entities waiting in the pool.
+     *
+     * @return The pool size.
+     */
+    public int getPoolSize() {
+        return pool.size();
+    }
+
+    /**
+     * Stops the flush task, applying any outstanding updates and removing every pooled entity.
+     */
+    public void shutdown() {
+        if (flushTask == null) return;
+
+        flushTask.cancel();
+        flushTask = null;
+        flush();
+
+        for (TextDisplay display : pool) display.remove();
+        pool.clear();
+    }
+
+    /**
+     * Applies the latest queued lines of every dirty hologram.
+     */
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        for (Hologram hologram : pending.keySet()) {
+            List<String> lines = pending.remove(hologram);
+
+            // Updates queued for a hologram after its release are dropped, as its entity may now belong to another.
+            if (lines != null && active.contains(hologram)) hologram.setLines(lines);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package uk.acronical.hologram.client;
+
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+import uk.acronical.common.StringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A hologram that exists only for the players currently viewing it.
+ * <p>
+ * Unlike {@link uk.acronical.hologram.Hologram}, no entity exists while nobody is in range.
+ * Once a viewer approaches, a non-persistent {@link TextDisplay} is spawned hidden from
+ * everyone and shown only to its viewers, so it is never saved with the chunk and never
+ * sent to players outside the {@link ClientHologramService}'s range.
+ * <p>
+ * Viewers may be given their own text via {@link #setText(Player, List)}. Every viewer
+ * shares the hologram's single entity; the service's packet listener replaces the text in
+ * the entity's metadata as it is sent to each viewer with text of their own, so per-viewer
+ * text costs no additional entities.
+ * <p>
+ * Instances are created via {@link ClientHologramService#create(Location, List)} and
+ * should only be used from the main server thread.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class ClientHologram {
+
+    private final ClientHologramService service;
+    private final HologramTextListener textListener;
+    private final Plugin plugin;
+    private Location location;
+
+    private String text;
+    private float scale = 1.0f;
+    private boolean seeThrough = false;
+    private boolean shadowed = true;
+
+    private TextDisplay entity;
+
+    // Read by the packet listener on network threads.
+    private final Map<UUID, String> overrides = new ConcurrentHashMap<>();
+
+    // The entity most recently shown to each viewer, so a respawned entity is shown again.
+    private final Map<UUID, TextDisplay> shown = new HashMap<>();
+
+    /**
+     * Initialises a new {@link ClientHologram}.
+     *
+     * @param service      The service tracking the hologram's viewers.
+     * @param textListener The packet listener giving viewers their own text.
+     * @param plugin       The plugin responsible for entity visibility.
+     * @param location     The location of the hologram.
+     * @param lines        The default lines shown to every viewer.
+     */
+    ClientHologram(@NotNull ClientHologramService service, @NotNull HologramTextListener textListener, @NotNull Plugin plugin, @NotNull Location location, @NotNull List<String> lines) {
+        this.service = service;
+        this.textListener = textListener;
+        this.plugin = plugin;
+        this.location = location.clone();
+        this.text = join(lines);
+    }
+
+    /**
+     * Updates the default text shown to viewers without text of their own.
+     * <p>
+     * The entity is updated once, with viewers who have their own text continuing to see it.
+     *
+     * @param lines The lines of text to display.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setLines(@NotNull List<String> lines) {
+        String updated = join(lines);
+        if (updated.equals(text)) return this;
+
+        this.text = updated;
+        if (entity != null) entity.setText(updated);
+        return this;
+    }
+
+    /**
+     * Updates the default text using varargs.
+     *
+     * @param lines The lines of text to display.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setLines(@NotNull String... lines) {
+        return setLines(List.of(lines));
+    }
+
+    /**
+     * Sets the text shown to a single viewer, replacing the default text for them.
+     *
+     * @param player The viewer.
+     * @param lines  The lines of text to display to the viewer.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setText(@NotNull Player player, @NotNull List<String> lines) {
+        String updated = join(lines);
+        String previous = overrides.put(player.getUniqueId(), updated);
+        if (updated.equals(previous)) return this;
+        if (previous == null) service.setOverridden(player.getUniqueId(), this, true);
+
+        resend(player);
+        return this;
+    }
+
+    /**
+     * Removes a viewer's own text, returning them to the default text.
+     *
+     * @param player The viewer.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram resetText(@NotNull Player player) {
+        if (overrides.remove(player.getUniqueId()) == null) return this;
+        service.setOverridden(player.getUniqueId(), this, false);
+
+        resend(player);
+        return this;
+    }
+
+    /**
+     * Moves the hologram, updating its position in the service's index.
+     *
+     * @param location The new location.
+     * @return The current {@link ClientHologram} instance.
+     * @throws IllegalArgumentException If the location is in a different world.
+     */
+    public ClientHologram teleport(@NotNull Location location) {
+        if (location.getWorld() == null || !location.getWorld().equals(this.location.getWorld())) throw new IllegalArgumentException("Holograms cannot be moved between worlds.");
+
+        Location previous = this.location;
+        this.location = location.clone();
+        service.reindex(this, previous);
+
+        if (entity != null) entity.teleport(location);
+        return this;
+    }
+
+    /**
+     * Adjusts the size of the hologram.
+     *
+     * @param scale The multiplier for the hologram's size (1.0 is default).
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setScale(float scale) {
+        this.scale = scale;
+        if (entity != null) applyScale(entity);
+        return this;
+    }
+
+    /**
+     * Toggles whether the hologram is visible through solid blocks.
+     *
+     * @param seeThrough {@code true} to enable X-ray visibility.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setSeeThrough(boolean seeThrough) {
+        this.seeThrough = seeThrough;
+        if (entity != null) entity.setSeeThrough(seeThrough);
+        return this;
+    }
+
+    /**
+     * Toggles the drop shadow effect on the text.
+     *
+     * @param shadowed {@code true} to enable text shadows.
+     * @return The current {@link ClientHologram} instance.
+     */
+    public ClientHologram setShadowed(boolean shadowed) {
+        this.shadowed = shadowed;
+        if (entity != null) entity.setShadowed(shadowed);
+        return this;
+    }
+
+    /**
+     * Checks if a player is currently being shown the hologram.
+     *
+     * @param player The player to check.
+     * @return {@code true} if the player is a viewer.
+     */
+    public boolean isViewing(@NotNull Player player) {
+        return shown.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Retrieves the number of players currently viewing the hologram.
+     *
+     * @return The viewer count.
+     */
+    public int getViewerCount() {
+        return shown.size();
+    }
+
+    /**
+     * Retrieves the number of entities currently spawned for the hologram.
+     *
+     * @return 1 while anyone is viewing the hologram; otherwise 0.
+     */
+    public int getEntityCount() {
+        return entity != null ? 1 : 0;
+    }
+
+    /**
+     * Retrieves the location of the hologram.
+     *
+     * @return A copy of the hologram's location.
+     */
+    @NotNull
+    public Location getLocation() {
+        return location.clone();
+    }
+
+    /**
+     * Removes the hologram from its service, despawning its entity.
+     */
+    public void remove() {
+        service.remove(this);
+    }
+
+    /**
+     * Shows the hologram to a viewer, spawning its entity if required.
+     * <p>
+     * If the entity has been discarded, such as by its chunk unloading, it is replaced.
+     *
+     * @param player The viewer.
+     */
+    void show(@NotNull Player player) {
+        if (entity == null || !entity.isValid()) {
+            despawn();
+            entity = spawn();
+        }
+
+        // A respawned entity is new to every viewer, so each is shown it on their next update.
+        if (shown.put(player.getUniqueId(), entity) != entity) player.showEntity(plugin, entity);
+    }
+
+    /**
+     * Hides the hologram from a viewer, despawning its entity if nobody else is viewing it.
+     *
+     * @param player The viewer.
+     */
+    void hide(@NotNull Player player) {
+        TextDisplay previous = shown.remove(player.getUniqueId());
+        if (previous == null) return;
+
+        if (previous.isValid()) player.hideEntity(plugin, previous);
+        if (shown.isEmpty()) despawn();
+    }
+
+    /**
+     * Forgets a viewer who has disconnected, without sending anything to them.
+     *
+     * @param uuid The {@link UUID} of the viewer.
+     */
+    void forget(@NotNull UUID uuid) {
+        overrides.remove(uuid);
+        if (shown.remove(uuid) != null && shown.isEmpty()) despawn();
+    }
+
+    /**
+     * Despawns the entity and forgets every viewer.
+     */
+    void destroy() {
+        despawn();
+        shown.clear();
+        overrides.clear();
+    }
+
+    @NotNull
+    Location getRawLocation() {
+        return location;
+    }
+
+    /**
+     * Retrieves the text of a viewer's own, for the packet listener to send in place of the default text.
+     * <p>
+     * This may be called from any thread.
+     *
+     * @param uuid The {@link UUID} of the viewer.
+     * @return The viewer's own text, or {@code null} if they see the default text.
+     */
+    @Nullable
+    String getText(@NotNull UUID uuid) {
+        return overrides.get(uuid);
+    }
+
+    /**
+     * Shows the entity to a viewer again, so that its metadata is resent with their current text.
+     */
+    private void resend(@NotNull Player player) {
+        TextDisplay current = shown.get(player.getUniqueId());
+        if (current == null || !current.isValid()) return;
+
+        player.hideEntity(plugin, current);
+        player.showEntity(plugin, current);
+    }
+
+    /**
+     * Spawns a display that is hidden from every player until explicitly shown.
+     */
+    @NotNull
+    private TextDisplay spawn() {
+        World world = location.getWorld();
+        if (world == null) throw new IllegalStateException("The hologram's world is no longer loaded.");
+
+        // The display is configured before it is added to the world, so it is never sent to other players.
+        Consumer<TextDisplay> configure = display -> {
+            display.setVisibleByDefault(false);
+            display.setPersistent(false);
+            display.setBillboard(Display.Billboard.CENTER);
+            display.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+            display.setShadowed(shadowed);
+            display.setSeeThrough(seeThrough);
+            display.setText(text);
+            applyScale(display);
+        };
+
+        TextDisplay display = world.spawn(location, TextDisplay.class, configure);
+        textListener.track(display.getEntityId(), this);
+        return display;
+    }
+
+    private void despawn() {
+        if (entity == null) return;
+
+        textListener.untrack(entity.getEntityId());
+        entity.remove();
+        entity = null;
+    }
+
+    private void applyScale(@NotNull TextDisplay display) {
+        display.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(), new Vector3f(scale, scale, scale), new AxisAngle4f()));
+    }
+
+    @NotNull
+    private static String join(@NotNull List<String> lines) {
+        return StringUtils.colour(String.join("\n", lines));
+    }
+}
@@ -0,0 +1,364 @@
+package uk.acronical.hologram.client;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.common.LoggerUtils;
+import uk.acronical.packet.PacketService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A service managing {@link ClientHologram}s and the players able to see them.
+ * <p>
+ * Holograms are indexed by chunk, so when a player moves only the holograms in the
+ * chunks around them are checked, rather than every hologram in the world. Each player
+ * is shown the holograms within the configured range and hidden those that leave it.
+ * Visibility is re-evaluated once a player has moved a few blocks, as well as on
+ * joining, teleporting, respawning and changing world.
+ * <p>
+ * Per-viewer text is written into each hologram's outgoing metadata by a listener
+ * registered with the supplied {@link PacketService}, which must itself be registered
+ * so that players' connections are injected.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * ClientHologramService holograms = new ClientHologramService(plugin, packetService).setRange(32);
+ * holograms.init();
+ *
+ * ClientHologram leaderboard = holograms.create(location, List.of("&6Top Kills"));
+ * leaderboard.setText(player, List.of("&6Top Kills", "&7You are #12"));
+ * }</pre>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class ClientHologramService implements Listener {
+
+    /**
+     * The default distance, in blocks, within which holograms are shown.
+     */
+    public static final double DEFAULT_RANGE = 48.0;
+
+    // Players must move this far, squared, before their visible holograms are recalculated.
+    private static final double UPDATE_DISTANCE_SQUARED = 4.0;
+
+    private final Plugin plugin;
+    private final PacketService packetService;
+    private final HologramTextListener textListener;
+    private final Set<ClientHologram> holograms = new LinkedHashSet<>();
+    private final Map<UUID, Map<Long, List<ClientHologram>>> index = new HashMap<>();
+    private final Map<UUID, Viewer> viewers = new HashMap<>();
+
+    // Holograms with text of a player's own, which must be cleaned up when they leave even if out of range.
+    private final Map<UUID, Set<ClientHologram>> overridden = new HashMap<>();
+
+    private double range = DEFAULT_RANGE;
+    private boolean isInitialised = false;
+
+    /**
+     * Initialises a new {@link ClientHologramService}.
+     *
+     * @param plugin        The plugin instance responsible for registration and entity visibility.
+     * @param packetService The {@link PacketService} used to give viewers their own text.
+     */
+    public ClientHologramService(@NotNull Plugin plugin, @NotNull PacketService packetService) {
+        this.plugin = plugin;
+        this.packetService = packetService;
+        this.textListener = new HologramTextListener(plugin.getLogger());
+    }
+
+    /**
+     * Sets the distance within which holograms are shown to a player.
+     *
+     * @param range The range in blocks.
+     * @return The current {@link ClientHologramService} instance for method chaining.
+     * @throws IllegalArgumentException If the range is not positive.
+     */
+    public ClientHologramService setRange(double range) {
+        if (range <= 0) throw new IllegalArgumentException("The range must be positive.");
+        this.range = range;
+        return this;
+    }
+
+    /**
+     * Registers the service and its packet listener, and shows nearby holograms to every online player.
+     */
+    public void init() {
+        if (isInitialised) {
+            LoggerUtils.warn("ClientHologramService has already been initialised. Plugin " + plugin.getName() + " has attempted re-initialisation...");
+            return;
+        }
+
+        isInitialised = true;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        packetService.registerListener(textListener);
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) update(player, player.getLocation());
+    }
+
+    /**
+     * Unregisters the service and its packet listener, and despawns every hologram.
+     */
+    public void shutdown() {
+        if (!isInitialised) return;
+
+        isInitialised = false;
+        HandlerList.unregisterAll(this);
+        packetService.unregisterListener(textListener);
+
+        for (ClientHologram hologram : holograms) hologram.destroy();
+        holograms.clear();
+        index.clear();
+        viewers.clear();
+        overridden.clear();
+    }
+
+    /**
+     * Creates a hologram, showing it to any players already in range.
+     *
+     * @param location The location of the hologram.
+     * @param lines    The default lines shown to every viewer.
+     * @return The new {@link ClientHologram}.
+     * @throws IllegalArgumentException If the location world is null.
+     */
+    @NotNull
+    public ClientHologram create(@NotNull Location location, @NotNull List<String> lines) {
+        if (location.getWorld() == null) throw new IllegalArgumentException("Location must have a world");
+
+        ClientHologram hologram = new ClientHologram(this, textListener, plugin, location, lines);
+        holograms.add(hologram);
+        bucket(location, true).add(hologram);
+
+        for (Player player : location.getWorld().getPlayers()) {
+            if (isInRange(player.getLocation(), location)) show(player, hologram);
+        }
+
+        return hologram;
+    }
+
+    /**
+     * Removes a hologram, despawning its entity.
+     *
+     * @param hologram The hologram to remove.
+     */
+    public void remove(@NotNull ClientHologram hologram) {
+        if (!holograms.remove(hologram)) return;
+
+        List<ClientHologram> bucket = bucket(hologram.getRawLocation(), false);
+        if (bucket != null) bucket.remove(hologram);
+
+        for (Viewer viewer : viewers.values()) viewer.visible.remove(hologram);
+        overridden.values().removeIf(set -> set.remove(hologram) && set.isEmpty());
+        hologram.destroy();
+    }
+
+    /**
+     * Retrieves every hologram managed by the service.
+     *
+     * @return An unmodifiable view of the holograms.
+     */
+    @NotNull
+    public Collection<ClientHologram> getHolograms() {
+        return Collections.unmodifiableCollection(holograms);
+    }
+
+    /**
+     * Recalculates which holograms a player can see.
+     *
+     * @param player The player to refresh.
+     */
+    public void refresh(@NotNull Player player) {
+        update(player, player.getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        if (to == null) return;
+
+        Viewer viewer = viewers.get(event.getPlayer().getUniqueId());
+        if (viewer != null && viewer.world == to.getWorld() && square(to.getX() - viewer.x) + square(to.getZ() - viewer.z) < UPDATE_DISTANCE_SQUARED) return;
+
+        update(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        if (event.getTo() != null) update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        Viewer viewer = viewers.remove(uuid);
+        Set<ClientHologram> withText = overridden.remove(uuid);
+
+        if (viewer != null) for (ClientHologram hologram : viewer.visible) hologram.forget(uuid);
+        if (withText != null) for (ClientHologram hologram : withText) hologram.forget(uuid);
+    }
+
+    /**
+     * Records whether a player has text of their own on a hologram.
+     *
+     * @param uuid        The {@link UUID} of the player.
+     * @param hologram    The hologram.
+     * @param hasOverride {@code true} if the player now has their own text.
+     */
+    void setOverridden(@NotNull UUID uuid, @NotNull ClientHologram hologram, boolean hasOverride) {
+        if (hasOverride) {
+            overridden.computeIfAbsent(uuid, key -> new HashSet<>()).add(hologram);
+            return;
+        }
+
+        Set<ClientHologram> withText = overridden.get(uuid);
+        if (withText != null && withText.remove(hologram) && withText.isEmpty()) overridden.remove(uuid);
+    }
+
+    /**
+     * Updates a hologram's position in the chunk index after it has moved.
+     *
+     * @param hologram The hologram that has moved.
+     * @param previous The hologram's previous location.
+     */
+    void reindex(@NotNull ClientHologram hologram, @NotNull Location previous) {
+        if (!holograms.contains(hologram)) return;
+
+        List<ClientHologram> bucket = bucket(previous, false);
+        if (bucket != null) bucket.remove(hologram);
+        bucket(hologram.getRawLocation(), true).add(hologram);
+
+        for (Player player : previous.getWorld().getPlayers()) {
+            boolean inRange = isInRange(player.getLocation(), hologram.getRawLocation());
+            if (inRange) show(player, hologram);
+            else hide(player, hologram);
+        }
+    }
+
+    /**
+     * Shows the holograms in range of a location to a player, and hides those now out of range.
+     *
+     * @param player   The player being updated.
+     * @param location The location the player is now at.
+     */
+    private void update(@NotNull Player player, @NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+
+        Viewer viewer = viewers.computeIfAbsent(player.getUniqueId(), uuid -> new Viewer());
+        viewer.world = world;
+        viewer.x = location.getX();
+        viewer.z = location.getZ();
+
+        for (Iterator<ClientHologram> iterator = viewer.visible.iterator(); iterator.hasNext(); ) {
+            ClientHologram hologram = iterator.next();
+            if (isInRange(location, hologram.getRawLocation())) continue;
+
+            iterator.remove();
+            hologram.hide(player);
+        }
+
+        Map<Long, List<ClientHologram>> chunks = index.get(world.getUID());
+        if (chunks == null) return;
+
+        int radius = (int) Math.ceil(range / 16.0);
+        int centreX = location.getBlockX() >> 4, centreZ = location.getBlockZ() >> 4;
+
+        for (int chunkX = centreX - radius; chunkX <= centreX + radius; chunkX++) {
+            for (int chunkZ = centreZ - radius; chunkZ <= centreZ + radius; chunkZ++) {
+                List<ClientHologram> bucket = chunks.get(key(chunkX, chunkZ));
+                if (bucket == null) continue;
+
+                for (ClientHologram hologram : bucket) {
+                    // Showing is repeated for visible holograms, so any discarded entity is replaced.
+                    if (isInRange(location, hologram.getRawLocation())) show(player, hologram);
+                }
+            }
+        }
+    }
+
+    private void show(@NotNull Player player, @NotNull ClientHologram hologram) {
+        Viewer viewer = viewers.computeIfAbsent(player.getUniqueId(), uuid -> new Viewer());
+        viewer.visible.add(hologram);
+        hologram.show(player);
+    }
+
+    private void hide(@NotNull Player player, @NotNull ClientHologram hologram) {
+        Viewer viewer = viewers.get(player.getUniqueId());
+        if (viewer != null && viewer.visible.remove(hologram)) hologram.hide(player);
+    }
+
+    private boolean isInRange(@NotNull Location viewer, @NotNull Location hologram) {
+        if (viewer.getWorld() != hologram.getWorld()) return false;
+        return square(viewer.getX() - hologram.getX()) + square(viewer.getY() - hologram.getY()) + square(viewer.getZ() - hologram.getZ()) <= range * range;
+    }
+
+    @Nullable
+    private List<ClientHologram> bucket(@NotNull Location location, boolean create) {
+        long key = key(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        UUID worldId = location.getWorld().getUID();
+
+        if (!create) {
+            Map<Long, List<ClientHologram>> chunks = index.get(worldId);
+            return chunks == null ? null : chunks.get(key);
+        }
+
+        return index.computeIfAbsent(worldId, id -> new HashMap<>()).computeIfAbsent(key, chunk -> new ArrayList<>(2));
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    /**
+     * The holograms a player can see, and where they were when this was last calculated.
+     */
+    private static final class Viewer {
+
+        private final Set<ClientHologram> visible = new HashSet<>();
+        private World world;
+        private double x, z;
+    }
+}
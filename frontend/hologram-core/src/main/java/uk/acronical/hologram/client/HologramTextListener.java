@@ -0,0 +1,270 @@
+package uk.acronical.hologram.client;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.packet.PacketEvent;
+import uk.acronical.packet.PacketListener;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link PacketListener} giving viewers of a {@link ClientHologram} text of their own.
+ * <p>
+ * Every hologram is backed by a single entity. Whenever that entity's metadata is sent to a
+ * viewer with their own text, including as part of the bundle sent when the entity is first
+ * shown, the text value in the outgoing packet is replaced with theirs. Personalised text
+ * therefore costs no additional entities.
+ * <p>
+ * Packets are read through their record components rather than by field or method name,
+ * so the listener does not depend on the server's mappings. The accessors and constructors
+ * of each packet class are resolved once, on the first packet of that class. If a packet
+ * cannot be rewritten, the failure is logged and that packet is sent with the default text.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+final class HologramTextListener implements PacketListener {
+
+    private final Logger logger;
+    private final Map<Integer, ClientHologram> holograms = new ConcurrentHashMap<>();
+
+    private final ClassValue<PacketType> packetTypes = new ClassValue<>() {
+        @Override
+        protected PacketType computeValue(@NotNull Class<?> type) {
+            return switch (type.getSimpleName()) {
+                case "ClientboundBundlePacket" -> PacketType.BUNDLE;
+                case "ClientboundSetEntityDataPacket", "PacketPlayOutEntityMetadata" -> PacketType.DATA;
+                default -> PacketType.OTHER;
+            };
+        }
+    };
+
+    private final ClassValue<RecordAccess> records = new ClassValue<>() {
+        @Override
+        protected RecordAccess computeValue(@NotNull Class<?> type) {
+            return RecordAccess.of(type);
+        }
+    };
+
+    private final ClassValue<BundleAccess> bundles = new ClassValue<>() {
+        @Override
+        protected BundleAccess computeValue(@NotNull Class<?> type) {
+            return BundleAccess.of(type);
+        }
+    };
+
+    private volatile Method fromString;
+    private volatile Class<?> componentClass;
+
+    /**
+     * Initialises a new {@link HologramTextListener}.
+     *
+     * @param logger The logger failures to rewrite a packet are reported to.
+     */
+    HologramTextListener(@NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts rewriting the metadata of a hologram's entity.
+     *
+     * @param entityId The ID of the hologram's entity.
+     * @param hologram The hologram owning the entity.
+     */
+    void track(int entityId, @NotNull ClientHologram hologram) {
+        holograms.put(entityId, hologram);
+    }
+
+    /**
+     * Stops rewriting the metadata of an entity, once it has been removed.
+     *
+     * @param entityId The ID of the removed entity.
+     */
+    void untrack(int entityId) {
+        holograms.remove(entityId);
+    }
+
+    @Override
+    public void onPacketSend(@NotNull PacketEvent event) {
+        if (holograms.isEmpty()) return;
+
+        Object packet = event.getPacket();
+        try {
+            Object rewritten = rewrite(event.getPlayer().getUniqueId(), packet);
+            if (rewritten != packet) event.setPacket(rewritten);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Failed to rewrite hologram text in " + packet.getClass().getName() + ". The viewer will be shown the default text instead.", e);
+        }
+    }
+
+    @NotNull
+    private Object rewrite(@NotNull UUID viewer, @NotNull Object packet) throws ReflectiveOperationException {
+        return switch (packetTypes.get(packet.getClass())) {
+            case BUNDLE -> rewriteBundle(viewer, packet);
+            case DATA -> rewriteData(viewer, packet);
+            case OTHER -> packet;
+        };
+    }
+
+    /**
+     * Rewrites any metadata packets within a bundle, such as the one sent when an entity is first shown.
+     */
+    @NotNull
+    private Object rewriteBundle(@NotNull UUID viewer, @NotNull Object bundle) throws ReflectiveOperationException {
+        BundleAccess access = bundles.get(bundle.getClass());
+        Iterable<?> packets = (Iterable<?>) access.packets().get(bundle);
+
+        List<Object> rewritten = new ArrayList<>();
+        boolean isChanged = false;
+        for (Object packet : packets) {
+            Object result = rewrite(viewer, packet);
+            isChanged |= result != packet;
+            rewritten.add(result);
+        }
+
+        if (!isChanged) return bundle;
+        return access.constructor().newInstance(rewritten);
+    }
+
+    /**
+     * Replaces the text value of a hologram's metadata packet if the viewer has text of their own.
+     */
+    @NotNull
+    private Object rewriteData(@NotNull UUID viewer, @NotNull Object packet) throws ReflectiveOperationException {
+        RecordAccess access = records.get(packet.getClass());
+        if (access.size() != 2) return packet;
+
+        int entityId = (int) access.get(0, packet);
+        ClientHologram hologram = holograms.get(entityId);
+        if (hologram == null) return packet;
+
+        String text = hologram.getText(viewer);
+        if (text == null) return packet;
+
+        List<?> values = (List<?>) access.get(1, packet);
+        List<Object> rewritten = new ArrayList<>(values.size());
+        boolean isChanged = false;
+
+        for (Object value : values) {
+            RecordAccess parts = records.get(value.getClass());
+
+            // A text display's only component-typed value is its text; the custom name is wrapped in an Optional.
+            if (parts.size() == 3 && componentClass().isInstance(parts.get(2, value))) {
+                value = parts.constructor().newInstance(parts.get(0, value), parts.get(1, value), toComponent(text));
+                isChanged = true;
+            }
+
+            rewritten.add(value);
+        }
+
+        if (!isChanged) return packet;
+        return access.constructor().newInstance(entityId, rewritten);
+    }
+
+    /**
+     * Converts legacy colour-coded text to a server chat component, keeping line breaks as a text display does.
+     */
+    @NotNull
+    private Object toComponent(@NotNull String text) throws ReflectiveOperationException {
+        componentClass();
+        return ((Object[]) fromString.invoke(null, text, true))[0];
+    }
+
+    @NotNull
+    private Class<?> componentClass() throws ReflectiveOperationException {
+        Class<?> type = componentClass;
+        if (type != null) return type;
+
+        synchronized (this) {
+            if (componentClass != null) return componentClass;
+
+            String craftPackage = Bukkit.getServer().getClass().getPackageName();
+            fromString = Class.forName(craftPackage + ".util.CraftChatMessage").getMethod("fromString", String.class, boolean.class);
+            componentClass = fromString.getReturnType().getComponentType();
+            return componentClass;
+        }
+    }
+
+    /**
+     * The packets the listener rewrites, classified once per packet class.
+     */
+    private enum PacketType {
+        BUNDLE, DATA, OTHER
+    }
+
+    /**
+     * The component accessors and canonical constructor of a record class, or none if the class is not a record.
+     */
+    private record RecordAccess(@NotNull Method[] accessors, @Nullable Constructor<?> constructor) {
+
+        private static final RecordAccess NONE = new RecordAccess(new Method[0], null);
+
+        @NotNull
+        static RecordAccess of(@NotNull Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            if (components == null) return NONE;
+
+            Method[] accessors = new Method[components.length];
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = components[i].getAccessor();
+                accessors[i].setAccessible(true);
+                types[i] = components[i].getType();
+            }
+
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor(types);
+                constructor.setAccessible(true);
+                return new RecordAccess(accessors, constructor);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Could not find the canonical constructor of " + type.getName(), e);
+            }
+        }
+
+        int size() {
+            return accessors.length;
+        }
+
+        @Nullable
+        Object get(int index, @NotNull Object record) throws ReflectiveOperationException {
+            return accessors[index].invoke(record);
+        }
+    }
+
+    /**
+     * The packets field and constructor of a bundle packet class.
+     */
+    private record BundleAccess(@NotNull Field packets, @NotNull Constructor<?> constructor) {
+
+        @NotNull
+        static BundleAccess of(@NotNull Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getConstructor(Iterable.class);
+
+                for (Class<?> owner = type; owner != null; owner = owner.getSuperclass()) {
+                    for (Field candidate : owner.getDeclaredFields()) {
+                        if (candidate.getType() != Iterable.class) continue;
+
+                        candidate.setAccessible(true);
+                        return new BundleAccess(candidate, constructor);
+                    }
+                }
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Could not find the constructor of " + type.getName(), e);
+            }
+
+            throw new IllegalStateException("Could not find the packets of " + type.getName());
+        }
+    }
+}
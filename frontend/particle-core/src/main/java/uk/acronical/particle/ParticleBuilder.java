@@ -2,6 +2,7 @@ package uk.acronical.particle;
 
 import org.bukkit.Location;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,6 +14,9 @@ import java.util.Collection;
  * <p>
  * This class simplifies the interaction with Bukkit's particle API, allowing for
  * easy configuration of offsets, counts, and specialised particle data.
+ * <p>
+ * As of 1.0.6, a builder can draw a cached {@link Shape} directly. Because the builder
+ * reuses an internal coordinate buffer, each instance should only be used from one thread.
  *
  * @author Acronical
  * @since 1.0.2
@@ -24,6 +28,9 @@ public class ParticleBuilder {
     private double offsetX, offsetY, offsetZ, extra = 0;
     private Object data = null;
 
+    // Reused between shape spawns, so drawing a shape allocates nothing once the buffer is large enough.
+    private double[] buffer = null;
+
     /**
      * Initialises a new {@link ParticleBuilder} for a specific particle type.
      *
@@ -120,4 +127,72 @@ public class ParticleBuilder {
     public void spawn(@NotNull Player player, @NotNull Collection<Location> locations) {
         for (Location location : locations) spawn(player, location);
     }
+
+    /**
+     * Spawns the particle at every point of a shape for everyone nearby.
+     *
+     * @param centre The centre of the shape.
+     * @param shape  The {@link Shape} to draw.
+     * @throws IllegalArgumentException If the location world is null.
+     * @since 1.0.6
+     */
+    public void spawn(@NotNull Location centre, @NotNull Shape shape) {
+        spawn(centre, shape, 0.0f);
+    }
+
+    /**
+     * Spawns the particle at every point of a rotated shape for everyone nearby.
+     *
+     * @param centre The centre of the shape.
+     * @param shape  The {@link Shape} to draw.
+     * @param yaw    The rotation of the shape about the Y-axis, in degrees.
+     * @throws IllegalArgumentException If the location world is null.
+     * @since 1.0.6
+     */
+    public void spawn(@NotNull Location centre, @NotNull Shape shape, float yaw) {
+        World world = centre.getWorld();
+        if (world == null) throw new IllegalArgumentException("Location must have a world to spawn particles.");
+
+        buffer = shape.transform(centre.getX(), centre.getY(), centre.getZ(), yaw, buffer);
+        for (int i = 0, j = 0; i < shape.size(); i++, j += 3) {
+            world.spawnParticle(particle, buffer[j], buffer[j + 1], buffer[j + 2], count, offsetX, offsetY, offsetZ, extra, data);
+        }
+    }
+
+    /**
+     * Spawns the particle at every point of a rotated shape exclusively for one player.
+     *
+     * @param player The {@link Player} who should see the particles.
+     * @param centre The centre of the shape.
+     * @param shape  The {@link Shape} to draw.
+     * @param yaw    The rotation of the shape about the Y-axis, in degrees.
+     * @since 1.0.6
+     */
+    public void spawn(@NotNull Player player, @NotNull Location centre, @NotNull Shape shape, float yaw) {
+        buffer = shape.transform(centre.getX(), centre.getY(), centre.getZ(), yaw, buffer);
+        for (int i = 0, j = 0; i < shape.size(); i++, j += 3) {
+            spawn(player, buffer[j], buffer[j + 1], buffer[j + 2]);
+        }
+    }
+
+    /**
+     * Retrieves the number of particles a single spawn of this builder sends to each viewer.
+     *
+     * @return The particle cost, counting directional particles as one.
+     */
+    int getCost() {
+        return Math.max(1, count);
+    }
+
+    /**
+     * Spawns the particle at raw coordinates exclusively for one player.
+     *
+     * @param player The {@link Player} who should see the particle.
+     * @param x      The X coordinate.
+     * @param y      The Y coordinate.
+     * @param z      The Z coordinate.
+     */
+    void spawn(@NotNull Player player, double x, double y, double z) {
+        player.spawnParticle(particle, x, y, z, count, offsetX, offsetY, offsetZ, extra, data);
+    }
 }
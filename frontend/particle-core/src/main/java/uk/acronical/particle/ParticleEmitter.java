@@ -0,0 +1,26 @@
+package uk.acronical.particle;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A continuous particle effect driven by a {@link ParticleEngine}.
+ * <p>
+ * Emitters are registered via {@link ParticleEngine#register(ParticleEmitter, long)} and
+ * queue their particles through the engine each time they run, so their output is subject
+ * to the engine's culling and budgets.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+@FunctionalInterface
+public interface ParticleEmitter {
+
+    /**
+     * Queues the emitter's particles for the current tick.
+     *
+     * @param engine The engine to queue particles with.
+     * @param tick   The number of ticks the engine has run for.
+     * @return {@code false} to unregister the emitter, otherwise {@code true}.
+     */
+    boolean emit(@NotNull ParticleEngine engine, long tick);
+}
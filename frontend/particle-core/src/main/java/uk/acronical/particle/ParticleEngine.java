@@ -0,0 +1,555 @@
+package uk.acronical.particle;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.common.LoggerUtils;
+import uk.acronical.task.TaskManager;
+import uk.acronical.task.TaskProfiler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A central scheduler through which particles are queued, culled and sent once per tick.
+ * <p>
+ * Rather than being sent to every nearby player as they are requested, particles are queued
+ * and sent together at the end of the tick. Each particle is only sent to players within the
+ * view distance and, beyond a short radius, within their field of view. A global budget caps
+ * the particles sent each tick, and a per-player budget caps those sent to each player. Queued
+ * particles are sent in {@link ParticlePriority} order, so cosmetic effects are dropped before
+ * important ones once a budget is exhausted. Dropped particles are discarded rather than
+ * delayed, as a late particle is worse than a missing one.
+ * <p>
+ * Continuous effects are registered as {@link ParticleEmitter}s, which run from the engine's
+ * single task instead of each scheduling a repeating task of their own.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * ParticleEngine engine = new ParticleEngine(taskManager).setPlayerBudget(300);
+ * ParticleBuilder flame = new ParticleBuilder(Particle.FLAME);
+ *
+ * engine.register((particles, tick) -> {
+ *     if (!player.isOnline()) return false;
+ *     particles.spawn(flame, player.getLocation(), Shape.circle(1.0, 16), tick * 6.0f, ParticlePriority.LOW);
+ *     return true;
+ * }, 2L);
+ * }</pre>
+ * <p>
+ * Particles may be queued, and emitters registered, from any thread. Queued builders and shapes are read when the
+ * queue is flushed, so builders should not be modified until then.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class ParticleEngine {
+
+    /**
+     * The default distance, in blocks, within which particles are sent to a player.
+     */
+    public static final double DEFAULT_VIEW_DISTANCE = 32.0;
+
+    /**
+     * The default field of view, in degrees, within which distant particles are sent to a player.
+     */
+    public static final double DEFAULT_FIELD_OF_VIEW = 140.0;
+
+    /**
+     * The default maximum number of particles sent each tick, across every player.
+     */
+    public static final int DEFAULT_GLOBAL_BUDGET = 5000;
+
+    /**
+     * The default maximum number of particles sent to a single player each tick.
+     */
+    public static final int DEFAULT_PLAYER_BUDGET = 400;
+
+    // Particles this close to a player are always sent, so effects around them never vanish as they turn.
+    private static final double NEAR_DISTANCE_SQUARED = 16.0;
+
+    private final Queue<Request>[] queues;
+    private final List<Registration> emitters = new CopyOnWriteArrayList<>();
+    private final List<Viewer> viewers = new ArrayList<>();
+
+    private double viewDistanceSquared = DEFAULT_VIEW_DISTANCE * DEFAULT_VIEW_DISTANCE;
+    private double fieldOfViewCosine = Math.cos(Math.toRadians(DEFAULT_FIELD_OF_VIEW / 2));
+    private int globalBudget = DEFAULT_GLOBAL_BUDGET;
+    private int playerBudget = DEFAULT_PLAYER_BUDGET;
+
+    private BukkitTask task;
+    private double[] buffer = null;
+    private int[] candidates = new int[0];
+    private long tick = 0;
+    private int sent = 0, culled = 0, dropped = 0;
+
+    /**
+     * Initialises a new {@link ParticleEngine} and starts its per-tick task.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule the engine.
+     */
+    @SuppressWarnings("unchecked")
+    public ParticleEngine(@NotNull TaskManager taskManager) {
+        this.queues = new Queue[ParticlePriority.values().length];
+        for (int i = 0; i < queues.length; i++) queues[i] = new ConcurrentLinkedQueue<>();
+
+        this.task = taskManager.sync(TaskProfiler.named("ParticleEngine", this::tick), 1L, 1L);
+    }
+
+    /**
+     * Sets the distance within which particles are sent to a player.
+     *
+     * @param viewDistance The view distance in blocks.
+     * @return The current {@link ParticleEngine} instance for method chaining.
+     * @throws IllegalArgumentException If the distance is not positive.
+     */
+    public ParticleEngine setViewDistance(double viewDistance) {
+        if (viewDistance <= 0) throw new IllegalArgumentException("The view distance must be positive.");
+        this.viewDistanceSquared = viewDistance * viewDistance;
+        return this;
+    }
+
+    /**
+     * Sets the field of view within which particles beyond a few blocks are sent to a player.
+     * <p>
+     * This should be somewhat wider than the client's own field of view, so particles at the
+     * edge of the screen are not lost as the player turns.
+     *
+     * @param degrees The field of view in degrees, where 360 disables view cone culling.
+     * @return The current {@link ParticleEngine} instance for method chaining.
+     * @throws IllegalArgumentException If the field of view is not between 0 and 360 degrees.
+     */
+    public ParticleEngine setFieldOfView(double degrees) {
+        if (degrees <= 0 || degrees > 360) throw new IllegalArgumentException("The field of view must be between 0 and 360 degrees.");
+        this.fieldOfViewCosine = Math.cos(Math.toRadians(degrees / 2));
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of particles sent each tick, across every player.
+     *
+     * @param globalBudget The global budget.
+     * @return The current {@link ParticleEngine} instance for method chaining.
+     */
+    public ParticleEngine setGlobalBudget(int globalBudget) {
+        this.globalBudget = Math.max(0, globalBudget);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of particles sent to a single player each tick.
+     *
+     * @param playerBudget The per-player budget.
+     * @return The current {@link ParticleEngine} instance for method chaining.
+     */
+    public ParticleEngine setPlayerBudget(int playerBudget) {
+        this.playerBudget = Math.max(0, playerBudget);
+        return this;
+    }
+
+    /**
+     * Queues a particle at a single location.
+     *
+     * @param builder  The configured particle to send.
+     * @param location The location to spawn at.
+     * @param priority The priority of the particle.
+     * @throws IllegalArgumentException If the location world is null.
+     */
+    public void spawn(@NotNull ParticleBuilder builder, @NotNull Location location, @NotNull ParticlePriority priority) {
+        queues[priority.ordinal()].add(new Request(world(location), builder, null, null, location.getX(), location.getY(), location.getZ(), 0.0f));
+    }
+
+    /**
+     * Queues a particle at every point of a rotated shape.
+     *
+     * @param builder  The configured particle to send.
+     * @param centre   The centre of the shape.
+     * @param shape    The {@link Shape} to draw.
+     * @param yaw      The rotation of the shape about the Y-axis, in degrees.
+     * @param priority The priority of the particles.
+     * @throws IllegalArgumentException If the location world is null.
+     */
+    public void spawn(@NotNull ParticleBuilder builder, @NotNull Location centre, @NotNull Shape shape, float yaw, @NotNull ParticlePriority priority) {
+        queues[priority.ordinal()].add(new Request(world(centre), builder, shape, null, centre.getX(), centre.getY(), centre.getZ(), yaw));
+    }
+
+    /**
+     * Queues a particle at each of several locations in the same world.
+     *
+     * @param builder   The configured particle to send.
+     * @param locations The locations to spawn at.
+     * @param priority  The priority of the particles.
+     * @throws IllegalArgumentException If the locations span several worlds, or have no world.
+     */
+    public void spawn(@NotNull ParticleBuilder builder, @NotNull Collection<Location> locations, @NotNull ParticlePriority priority) {
+        if (locations.isEmpty()) return;
+
+        World world = null;
+        double[] coordinates = new double[locations.size() * 3];
+        int index = 0;
+
+        for (Location location : locations) {
+            if (world == null) world = world(location);
+            else if (location.getWorld() != world) throw new IllegalArgumentException("Locations must all be in the same world.");
+
+            coordinates[index++] = location.getX();
+            coordinates[index++] = location.getY();
+            coordinates[index++] = location.getZ();
+        }
+
+        queues[priority.ordinal()].add(new Request(world, builder, null, coordinates, 0, 0, 0, 0.0f));
+    }
+
+    /**
+     * Registers a continuous effect, run every given number of ticks until it returns {@code false} or is cancelled.
+     * <p>
+     * Emitters may be registered from any thread, and first run on the engine's next tick.
+     *
+     * @param emitter  The emitter to run.
+     * @param interval The number of ticks between runs.
+     * @return A {@link Registration} which can be used to cancel the emitter.
+     * @throws IllegalArgumentException If the interval is not positive.
+     */
+    @NotNull
+    public Registration register(@NotNull ParticleEmitter emitter, long interval) {
+        if (interval <= 0) throw new IllegalArgumentException("The interval must be positive.");
+
+        // The first run is left to the engine's next tick, which schedules the runs after it from its own tick count.
+        Registration registration = new Registration(emitter, interval, 0);
+        emitters.add(registration);
+        return registration;
+    }
+
+    /**
+     * Retrieves the number of emitters currently registered.
+     *
+     * @return The emitter count.
+     */
+    public int getEmitterCount() {
+        return emitters.size();
+    }
+
+    /**
+     * Retrieves the number of particles sent to players during the last tick.
+     *
+     * @return The number of particles sent.
+     */
+    public int getSentLastTick() {
+        return sent;
+    }
+
+    /**
+     * Retrieves the number of particles skipped during the last tick for being out of range or out of view.
+     *
+     * @return The number of particles culled.
+     */
+    public int getCulledLastTick() {
+        return culled;
+    }
+
+    /**
+     * Retrieves the number of particles discarded during the last tick because a budget had been exhausted.
+     *
+     * @return The number of particles dropped.
+     */
+    public int getDroppedLastTick() {
+        return dropped;
+    }
+
+    /**
+     * Stops the engine, discarding every queued particle and registered emitter.
+     */
+    public void shutdown() {
+        if (task == null) return;
+
+        task.cancel();
+        task = null;
+
+        for (Registration registration : emitters) registration.cancel();
+        emitters.clear();
+        for (Queue<Request> queue : queues) queue.clear();
+    }
+
+    /**
+     * Runs any due emitters, then sends the queued particles to the players able to see them.
+     */
+    private void tick() {
+        tick++;
+
+        for (Registration registration : emitters) {
+            if (!registration.active) {
+                emitters.remove(registration);
+            } else if (tick >= registration.nextRun) {
+                registration.nextRun = tick + registration.interval;
+                run(registration);
+            }
+        }
+
+        sent = 0;
+        culled = 0;
+        dropped = 0;
+
+        int viewerCount = captureViewers();
+        int remaining = globalBudget;
+
+        for (Queue<Request> queue : queues) {
+            Request request;
+            while ((request = queue.poll()) != null) {
+                if (viewerCount == 0) {
+                    culled += request.size() * request.builder.getCost();
+                    continue;
+                }
+
+                if (remaining <= 0) {
+                    dropped += request.size() * request.builder.getCost();
+                    continue;
+                }
+
+                remaining = send(request, viewerCount, remaining);
+            }
+        }
+    }
+
+    /**
+     * Runs an emitter, cancelling it if it finishes or fails, so one faulty effect cannot stall the others.
+     *
+     * @param registration The emitter's registration.
+     */
+    private void run(@NotNull Registration registration) {
+        try {
+            if (!registration.emitter.emit(this, tick)) registration.cancel();
+        } catch (Exception exception) {
+            registration.cancel();
+            LoggerUtils.severe("A particle emitter threw an exception and has been cancelled: " + exception);
+        }
+    }
+
+    /**
+     * Records the eye position, direction and budget of every online player for this tick.
+     *
+     * @return The number of viewers captured.
+     */
+    private int captureViewers() {
+        int count = 0;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (count == viewers.size()) viewers.add(new Viewer());
+
+            // Viewer objects are reused between ticks, so capturing them allocates only the eye location.
+            Location eye = player.getEyeLocation();
+            double pitch = Math.toRadians(eye.getPitch()), yaw = Math.toRadians(eye.getYaw());
+
+            Viewer viewer = viewers.get(count++);
+            viewer.player = player;
+            viewer.world = eye.getWorld();
+            viewer.x = eye.getX();
+            viewer.y = eye.getY();
+            viewer.z = eye.getZ();
+            viewer.directionX = -Math.sin(yaw) * Math.cos(pitch);
+            viewer.directionY = -Math.sin(pitch);
+            viewer.directionZ = Math.cos(yaw) * Math.cos(pitch);
+            viewer.remaining = playerBudget;
+        }
+
+        // Players who have left are released, so they are not retained until the player count recovers.
+        for (int i = count; i < viewers.size(); i++) viewers.get(i).player = null;
+        return count;
+    }
+
+    /**
+     * Sends every point of a request to the viewers able to see it.
+     * <p>
+     * Viewers in another world, or too far from every point of the request, are rejected once
+     * for the whole request rather than for each point.
+     *
+     * @param request     The queued request.
+     * @param viewerCount The number of viewers captured this tick.
+     * @param remaining   The global budget remaining.
+     * @return The global budget remaining afterwards.
+     */
+    private int send(@NotNull Request request, int viewerCount, int remaining) {
+        double[] coordinates = request.coordinates;
+        int points = request.size();
+
+        if (request.shape != null) {
+            buffer = request.shape.transform(request.x, request.y, request.z, request.yaw, buffer);
+            coordinates = buffer;
+        } else if (coordinates == null) {
+            if (buffer == null) buffer = new double[3];
+            buffer[0] = request.x;
+            buffer[1] = request.y;
+            buffer[2] = request.z;
+            coordinates = buffer;
+        }
+
+        int cost = request.builder.getCost();
+        int candidateCount = candidates(request.world, coordinates, points, viewerCount, cost);
+        if (candidateCount == 0) return remaining;
+
+        for (int i = 0, j = 0; i < points; i++, j += 3) {
+            double x = coordinates[j], y = coordinates[j + 1], z = coordinates[j + 2];
+
+            for (int c = 0; c < candidateCount; c++) {
+                Viewer viewer = viewers.get(candidates[c]);
+
+                if (!canSee(viewer, x, y, z)) {
+                    culled += cost;
+                    continue;
+                }
+
+                if (viewer.remaining < cost || remaining < cost) {
+                    dropped += cost;
+                    continue;
+                }
+
+                request.builder.spawn(viewer.player, x, y, z);
+                viewer.remaining -= cost;
+                remaining -= cost;
+                sent += cost;
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * Collects the viewers in a request's world within view distance of its bounding sphere, counting the rest as culled.
+     *
+     * @param world       The request's world.
+     * @param coordinates The request's points.
+     * @param points      The number of points.
+     * @param viewerCount The number of viewers captured this tick.
+     * @param cost        The cost of a single point.
+     * @return The number of candidate viewers, whose indices are held in {@code candidates}.
+     */
+    private int candidates(@NotNull World world, double[] coordinates, int points, int viewerCount, int cost) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0, j = 0; i < points; i++, j += 3) {
+            minX = Math.min(minX, coordinates[j]);
+            minY = Math.min(minY, coordinates[j + 1]);
+            minZ = Math.min(minZ, coordinates[j + 2]);
+            maxX = Math.max(maxX, coordinates[j]);
+            maxY = Math.max(maxY, coordinates[j + 1]);
+            maxZ = Math.max(maxZ, coordinates[j + 2]);
+        }
+
+        double centreX = (minX + maxX) / 2, centreY = (minY + maxY) / 2, centreZ = (minZ + maxZ) / 2;
+        double radius = Math.sqrt((maxX - centreX) * (maxX - centreX) + (maxY - centreY) * (maxY - centreY) + (maxZ - centreZ) * (maxZ - centreZ));
+        double reach = Math.sqrt(viewDistanceSquared) + radius;
+
+        if (candidates.length < viewerCount) candidates = new int[viewers.size()];
+        int count = 0;
+
+        for (int v = 0; v < viewerCount; v++) {
+            Viewer viewer = viewers.get(v);
+            if (viewer.world != world) continue;
+
+            double deltaX = centreX - viewer.x, deltaY = centreY - viewer.y, deltaZ = centreZ - viewer.z;
+            if (deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ > reach * reach) {
+                culled += points * cost;
+                continue;
+            }
+
+            candidates[count++] = v;
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks whether a point is within a viewer's view distance and field of view.
+     */
+    private boolean canSee(@NotNull Viewer viewer, double x, double y, double z) {
+        double deltaX = x - viewer.x, deltaY = y - viewer.y, deltaZ = z - viewer.z;
+        double distanceSquared = deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
+
+        if (distanceSquared > viewDistanceSquared) return false;
+        if (distanceSquared <= NEAR_DISTANCE_SQUARED || fieldOfViewCosine <= -1.0) return true;
+
+        double dot = deltaX * viewer.directionX + deltaY * viewer.directionY + deltaZ * viewer.directionZ;
+        return dot >= fieldOfViewCosine * Math.sqrt(distanceSquared);
+    }
+
+    @NotNull
+    private static World world(@NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) throw new IllegalArgumentException("Location must have a world to spawn particles.");
+        return world;
+    }
+
+    /**
+     * A handle to a registered {@link ParticleEmitter}.
+     */
+    public static final class Registration {
+
+        private final ParticleEmitter emitter;
+        private volatile long interval;
+        private volatile long nextRun;
+        private volatile boolean active = true;
+
+        private Registration(@NotNull ParticleEmitter emitter, long interval, long nextRun) {
+            this.emitter = emitter;
+            this.interval = interval;
+            this.nextRun = nextRun;
+        }
+
+        /**
+         * Changes the number of ticks between runs of the emitter, from its next run.
+         *
+         * @param interval The number of ticks between runs.
+         * @throws IllegalArgumentException If the interval is not positive.
+         */
+        public void setInterval(long interval) {
+            if (interval <= 0) throw new IllegalArgumentException("The interval must be positive.");
+            this.interval = interval;
+        }
+
+        /**
+         * Stops the emitter from running again.
+         */
+        public void cancel() {
+            this.active = false;
+        }
+
+        /**
+         * Checks whether the emitter will run again.
+         *
+         * @return {@code true} if the registration has not been cancelled.
+         */
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    /**
+     * A queued spawn of one or more particles.
+     */
+    private record Request(@NotNull World world, @NotNull ParticleBuilder builder, @Nullable Shape shape, @Nullable double[] coordinates, double x, double y, double z, float yaw) {
+
+        private int size() {
+            if (shape != null) return shape.size();
+            return coordinates != null ? coordinates.length / 3 : 1;
+        }
+    }
+
+    /**
+     * A player's view for the current tick, and the particles they may still be sent.
+     */
+    private static final class Viewer {
+
+        private Player player;
+        private World world;
+        private double x, y, z;
+        private double directionX, directionY, directionZ;
+        private int remaining;
+    }
+}
@@ -0,0 +1,28 @@
+package uk.acronical.particle;
+
+/**
+ * Determines which particles a {@link ParticleEngine} sends first once its budgets run low.
+ * <p>
+ * Each tick, queued particles are sent in priority order, so lower priorities are only
+ * dropped after every higher priority particle has been considered.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public enum ParticlePriority {
+
+    /**
+     * Gameplay-critical particles, such as ability telegraphs, sent before anything else.
+     */
+    HIGH,
+
+    /**
+     * Ordinary effects.
+     */
+    NORMAL,
+
+    /**
+     * Purely cosmetic particles, such as auras and trails, dropped first under load.
+     */
+    LOW
+}
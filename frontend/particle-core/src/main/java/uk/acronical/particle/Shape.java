@@ -0,0 +1,286 @@
+package uk.acronical.particle;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An immutable set of points forming a geometric shape, stored as offsets from its centre.
+ * <p>
+ * Unlike {@link ShapeGenerator}, a shape's trigonometry is computed once and its offsets are
+ * kept in primitive arrays. Shapes other than lines are cached by their type and dimensions,
+ * so requesting the same shape repeatedly, such as an aura redrawn every tick, returns the
+ * same instance.
+ * <p>
+ * At spawn time the offsets are rotated and translated into a reusable buffer via
+ * {@link #transform(double, double, double, float, double[])}, without allocating a
+ * {@link Location} per point.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class Shape {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<Key, Shape> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Shape> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    private Shape(int points) {
+        // A negative point count gives an empty shape, as the generators it replaced returned an empty list.
+        int size = Math.max(0, points);
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    /**
+     * Retrieves a circle on the XZ plane.
+     *
+     * @param radius The distance from the centre to the edge.
+     * @param points The number of points in the circle.
+     * @return The cached {@link Shape}.
+     */
+    @NotNull
+    public static Shape circle(double radius, int points) {
+        return cached(new Key(Type.CIRCLE, radius, 0, points), () -> {
+            Shape shape = new Shape(points);
+            double increment = (2 * Math.PI) / points;
+
+            for (int i = 0; i < points; i++) {
+                double angle = i * increment;
+                shape.x[i] = radius * Math.cos(angle);
+                shape.z[i] = radius * Math.sin(angle);
+            }
+
+            return shape;
+        });
+    }
+
+    /**
+     * Retrieves a uniform sphere distributed using the Fibonacci Spiral algorithm.
+     *
+     * @param radius The radius of the sphere.
+     * @param points The total number of points across the surface.
+     * @return The cached {@link Shape}.
+     */
+    @NotNull
+    public static Shape sphere(double radius, int points) {
+        return cached(new Key(Type.SPHERE, radius, 0, points), () -> {
+            Shape shape = new Shape(points);
+            double increment = Math.PI * (3 - Math.sqrt(5));
+
+            for (int i = 0; i < points; i++) {
+                double height = 1 - (i / (double) points) * 2;
+                double radiusAtHeight = Math.sqrt(1 - height * height);
+                double angle = i * increment;
+
+                shape.x[i] = radius * radiusAtHeight * Math.cos(angle);
+                shape.y[i] = radius * height;
+                shape.z[i] = radius * radiusAtHeight * Math.sin(angle);
+            }
+
+            return shape;
+        });
+    }
+
+    /**
+     * Retrieves a helix rising upwards from its base centre.
+     *
+     * @param radius The horizontal radius of the spiral.
+     * @param height The vertical height of the helix.
+     * @param points The number of points in the helix.
+     * @return The cached {@link Shape}.
+     */
+    @NotNull
+    public static Shape helix(double radius, double height, int points) {
+        return cached(new Key(Type.HELIX, radius, height, points), () -> {
+            Shape shape = new Shape(points);
+            double increment = (2 * Math.PI) / points;
+
+            for (int i = 0; i < points; i++) {
+                double angle = i * increment;
+                shape.x[i] = radius * Math.cos(angle);
+                shape.y[i] = (height / points) * i;
+                shape.z[i] = radius * Math.sin(angle);
+            }
+
+            return shape;
+        });
+    }
+
+    /**
+     * Creates a straight line from its origin to the given offset.
+     * <p>
+     * Unlike the other shapes, lines are not cached, as lines between moving points
+     * rarely repeat and would only evict shapes which do.
+     *
+     * @param x      The offset of the line's end on the X-axis.
+     * @param y      The offset of the line's end on the Y-axis.
+     * @param z      The offset of the line's end on the Z-axis.
+     * @param points The number of points along the line, including both ends.
+     * @return A new {@link Shape}.
+     */
+    @NotNull
+    public static Shape line(double x, double y, double z, int points) {
+        Shape shape = new Shape(points);
+
+        for (int i = 0; i < points; i++) {
+            shape.x[i] = x / (points - 1) * i;
+            shape.y[i] = y / (points - 1) * i;
+            shape.z[i] = z / (points - 1) * i;
+        }
+
+        return shape;
+    }
+
+    /**
+     * Retrieves the corners of a rectangle on the XY plane, as generated by {@link ShapeGenerator#rectangle}.
+     *
+     * @param width  The total width (X-axis).
+     * @param height The total height (Y-axis).
+     * @param points The number of points to generate.
+     * @return The cached {@link Shape}.
+     */
+    @NotNull
+    public static Shape rectangle(double width, double height, int points) {
+        return cached(new Key(Type.RECTANGLE, width, height, points), () -> {
+            Shape shape = new Shape(points);
+
+            for (int i = 0; i < points; i++) {
+                shape.x[i] = i % 2 == 0 ? -width / 2 : width / 2;
+                shape.y[i] = i / 2 == 0 ? -height / 2 : height / 2;
+            }
+
+            return shape;
+        });
+    }
+
+    /**
+     * Retrieves the number of points in the shape.
+     *
+     * @return The point count.
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Retrieves the X offset of a point from the shape's centre.
+     *
+     * @param index The index of the point.
+     * @return The point's X offset.
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Retrieves the Y offset of a point from the shape's centre.
+     *
+     * @param index The index of the point.
+     * @return The point's Y offset.
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Retrieves the Z offset of a point from the shape's centre.
+     *
+     * @param index The index of the point.
+     * @return The point's Z offset.
+     */
+    public double getZ(int index) {
+        return z[index];
+    }
+
+    /**
+     * Rotates the shape about the Y-axis and translates it to a centre, writing the results to a buffer.
+     * <p>
+     * Coordinates are written in {@code x, y, z} triples, so point {@code i} occupies indices
+     * {@code 3i} to {@code 3i + 2}. The buffer is reused if it is large enough, otherwise a new
+     * one is allocated, so callers should keep the returned array for their next call.
+     *
+     * @param centreX The X coordinate of the centre.
+     * @param centreY The Y coordinate of the centre.
+     * @param centreZ The Z coordinate of the centre.
+     * @param yaw     The rotation about the Y-axis, in degrees.
+     * @param buffer  The buffer to write into, or {@code null} to allocate one.
+     * @return The buffer holding the transformed coordinates.
+     */
+    @NotNull
+    public double[] transform(double centreX, double centreY, double centreZ, float yaw, @Nullable double[] buffer) {
+        int points = x.length;
+        if (buffer == null || buffer.length < points * 3) buffer = new double[points * 3];
+
+        if (yaw == 0) {
+            for (int i = 0, j = 0; i < points; i++, j += 3) {
+                buffer[j] = centreX + x[i];
+                buffer[j + 1] = centreY + y[i];
+                buffer[j + 2] = centreZ + z[i];
+            }
+            return buffer;
+        }
+
+        // The rotation is computed once, rather than once per point.
+        double radians = Math.toRadians(yaw);
+        double cos = Math.cos(radians), sin = Math.sin(radians);
+
+        for (int i = 0, j = 0; i < points; i++, j += 3) {
+            buffer[j] = centreX + x[i] * cos - z[i] * sin;
+            buffer[j + 1] = centreY + y[i];
+            buffer[j + 2] = centreZ + x[i] * sin + z[i] * cos;
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Creates a {@link Location} for each point of the shape around a centre.
+     *
+     * @param centre The centre of the shape.
+     * @return A list of locations forming the shape.
+     */
+    @NotNull
+    public List<Location> toLocations(@NotNull Location centre) {
+        List<Location> locations = new ArrayList<>(x.length);
+        for (int i = 0; i < x.length; i++) {
+            locations.add(new Location(centre.getWorld(), centre.getX() + x[i], centre.getY() + y[i], centre.getZ() + z[i]));
+        }
+        return locations;
+    }
+
+    @NotNull
+    private static Shape cached(@NotNull Key key, @NotNull Supplier<Shape> generator) {
+        synchronized (CACHE) {
+            Shape shape = CACHE.get(key);
+            if (shape == null) {
+                shape = generator.get();
+                CACHE.put(key, shape);
+            }
+            return shape;
+        }
+    }
+
+    private enum Type {
+        CIRCLE, SPHERE, HELIX, RECTANGLE
+    }
+
+    private record Key(@NotNull Type type, double a, double b, int points) {
+    }
+}
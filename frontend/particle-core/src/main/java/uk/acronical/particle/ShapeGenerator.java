@@ -3,7 +3,6 @@ package uk.acronical.particle;
 import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,6 +11,10 @@ import java.util.List;
  * This class provides mathematical algorithms to generate lists of {@link Location}
  * objects, which can be utilised for particle effects, hologram placement,
  * or hitbox visualisation.
+ * <p>
+ * As of 1.0.6, the geometry is taken from the cached {@link Shape} offsets, so only the
+ * returned locations are allocated. Effects redrawn frequently should use a {@link Shape}
+ * directly with {@link ParticleBuilder#spawn(Location, Shape, float)} to avoid those too.
  *
  * @author Acronical
  * @since 1.0.2
@@ -28,18 +31,7 @@ public class ShapeGenerator {
      */
     @NotNull
     public static List<Location> circle(@NotNull Location centre, double radius, int points) {
-        List<Location> locations = new ArrayList<>();
-
-        double increment = (2 * Math.PI) / points;
-
-        for (int i = 0; i < points; i++) {
-            double angle = i * increment;
-            double x = centre.getX() + radius * Math.cos(angle);
-            double z = centre.getZ() + radius * Math.sin(angle);
-            locations.add(new Location(centre.getWorld(), x, centre.getY(), z));
-        }
-
-        return locations;
+        return Shape.circle(radius, points).toLocations(centre);
     }
 
     /**
@@ -52,24 +44,7 @@ public class ShapeGenerator {
      */
     @NotNull
     public static List<Location> sphere(@NotNull Location centre, double radius, int points) {
-        List<Location> locations = new ArrayList<>();
-
-        double increment = Math.PI * (3 - Math.sqrt(5));
-
-        for (int i = 0; i < points; i++) {
-            double y = 1 - (i / (double) points) * 2;
-            double radiusAtY = Math.sqrt(1 - y * y);
-
-            double angle = i * increment;
-
-            double x = centre.getX() + radius * radiusAtY * Math.cos(angle);
-            double z = centre.getZ() + radius * radiusAtY * Math.sin(angle);
-            double finalY = centre.getY() + radius * y;
-
-            locations.add(new Location(centre.getWorld(), x, finalY, z));
-        }
-
-        return locations;
+        return Shape.sphere(radius, points).toLocations(centre);
     }
 
     /**
@@ -83,19 +58,7 @@ public class ShapeGenerator {
      */
     @NotNull
     public static List<Location> helix(@NotNull Location centre, double radius, double height, int points) {
-        List<Location> locations = new ArrayList<>();
-
-        double increment = (2 * Math.PI) / points;
-
-        for (int i = 0; i < points; i++) {
-            double angle = i * increment;
-            double x = centre.getX() + radius * Math.cos(angle);
-            double z = centre.getZ() + radius * Math.sin(angle);
-            double y = centre.getY() + (height / points) * i;
-            locations.add(new Location(centre.getWorld(), x, y, z));
-        }
-
-        return locations;
+        return Shape.helix(radius, height, points).toLocations(centre);
     }
 
     /**
@@ -108,17 +71,7 @@ public class ShapeGenerator {
      */
     @NotNull
     public static List<Location> line(@NotNull Location start, @NotNull Location end, int points) {
-        List<Location> locations = new ArrayList<>();
-
-        double incrementX = (end.getX() - start.getX()) / (points - 1);
-        double incrementY = (end.getY() - start.getY()) / (points - 1);
-        double incrementZ = (end.getZ() - start.getZ()) / (points - 1);
-
-        for (int i = 0; i < points; i++) {
-            locations.add(new Location(start.getWorld(), start.getX() + incrementX * i, start.getY() + incrementY * i, start.getZ() + incrementZ * i));
-        }
-
-        return locations;
+        return Shape.line(end.getX() - start.getX(), end.getY() - start.getY(), end.getZ() - start.getZ(), points).toLocations(start);
     }
 
     /**
@@ -132,17 +85,6 @@ public class ShapeGenerator {
      */
     @NotNull
     public static List<Location> rectangle(@NotNull Location centre, double width, double height, int points) {
-        List<Location> locations = new ArrayList<>();
-
-        double halfWidth = width / 2;
-        double halfHeight = height / 2;
-
-        for (int i = 0; i < points; i++) {
-            double x = centre.getX() + (i % 2 == 0 ? -halfWidth : halfWidth);
-            double y = centre.getY() + (i / 2 == 0 ? -halfHeight : halfHeight);
-            locations.add(new Location(centre.getWorld(), x, y, centre.getZ()));
-        }
-
-        return locations;
+        return Shape.rectangle(width, height, points).toLocations(centre);
     }
 }
\ No newline at end of file
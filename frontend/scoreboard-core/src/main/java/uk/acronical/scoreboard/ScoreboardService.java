@@ -3,10 +3,16 @@ package uk.acronical.scoreboard;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.PlaceholderRegistry;
+import uk.acronical.common.TextTemplate;
 import uk.acronical.task.TaskManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -15,14 +21,25 @@ import java.util.function.Function;
  * A service for managing and synchronising dynamic sidebars for online players.
  * <p>
  * This service utilises a provider-based system to supply titles and lines
- * on a per-player basis, refreshed via a repeating background task.
+ * on a per-player basis, refreshed once per second on the main server thread,
+ * as the Bukkit scoreboard API is not thread-safe.
+ * <p>
+ * As of 1.0.6, players are spread evenly across the ticks of each second rather
+ * than all being refreshed at once, and each {@link Sidebar} only sends the lines
+ * that have changed since its previous update.
  *
  * @author Acronical
  * @since 1.0.1
  */
 public class ScoreboardService {
 
+    private static final int UPDATE_INTERVAL = 20;
+
     private final Map<UUID, Sidebar> boards = new ConcurrentHashMap<>();
+    private Set<PlaceholderRegistry> registries = Set.of();
+    private PlaceholderRegistry titleRegistry = null;
+    private Set<PlaceholderRegistry> lineRegistries = Set.of();
+    private int tick = 0;
     private Function<Player, String> titleProvider;
     private Function<Player, List<String>> lineProvider;
 
@@ -33,11 +50,17 @@ public class ScoreboardService {
      * @param taskManager The {@link TaskManager} used to schedule updates.
      */
     public ScoreboardService(@NotNull Plugin plugin, @NotNull TaskManager taskManager) {
-        taskManager.async(() -> {
+        taskManager.sync(() -> {
+            int slot = tick;
+            tick = (tick + 1) % UPDATE_INTERVAL;
+
+            // Shared placeholders are recomputed once per second, however many players are refreshed.
+            if (slot == 0) for (PlaceholderRegistry registry : registries) registry.nextCycle(UPDATE_INTERVAL * 50L);
+
             for (Player player : plugin.getServer().getOnlinePlayers()) {
-                update(player);
+                if (Math.floorMod(player.getUniqueId().hashCode(), UPDATE_INTERVAL) == slot) update(player);
             }
-        }, 20L, 20L);
+        }, 1L, 1L);
     }
 
     /**
@@ -47,6 +70,8 @@ public class ScoreboardService {
      */
     public void setTitleProvider(@NotNull Function<Player, String> titleProvider) {
         this.titleProvider = titleProvider;
+        this.titleRegistry = null;
+        updateRegistries();
     }
 
     /**
@@ -56,6 +81,49 @@ public class ScoreboardService {
      */
     public void setLineProvider(@NotNull Function<Player, List<String>> lineProvider) {
         this.lineProvider = lineProvider;
+        this.lineRegistries = Set.of();
+        updateRegistries();
+    }
+
+    /**
+     * Sets the templates used to generate the sidebar title and lines for every player.
+     * <p>
+     * This replaces any existing title and line providers. Static text and shared
+     * placeholders are built once per refresh cycle, leaving only per-player
+     * placeholders to be resolved for each viewer.
+     *
+     * @param title The template for the title.
+     * @param lines The templates for each line, limited to 15.
+     * @throws IllegalArgumentException If more than 15 line templates are given.
+     * @since 1.0.6
+     */
+    public void setTemplates(@NotNull TextTemplate title, @NotNull List<TextTemplate> lines) {
+        if (lines.size() > 15) throw new IllegalArgumentException("Cannot have more than 15 lines in the sidebar");
+
+        List<TextTemplate> templates = List.copyOf(lines);
+        Set<PlaceholderRegistry> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TextTemplate template : templates) used.add(template.getRegistry());
+
+        this.titleRegistry = title.getRegistry();
+        this.lineRegistries = used;
+        updateRegistries();
+
+        this.titleProvider = title::render;
+        this.lineProvider = player -> {
+            List<String> rendered = new ArrayList<>(templates.size());
+            for (TextTemplate template : templates) rendered.add(template.render(player));
+            return rendered;
+        };
+    }
+
+    /**
+     * Rebuilds the set of registries advanced by this service from the current templates.
+     */
+    private void updateRegistries() {
+        Set<PlaceholderRegistry> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (titleRegistry != null) used.add(titleRegistry);
+        used.addAll(lineRegistries);
+        this.registries = used;
     }
 
     /**
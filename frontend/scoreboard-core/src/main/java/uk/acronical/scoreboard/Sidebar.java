@@ -9,7 +9,6 @@ import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,22 +16,32 @@ import java.util.List;
  * <p>
  * This class utilises a team-based approach for updating lines, which prevents
  * the "flicker" effect commonly seen when resetting scores frequently.
+ * <p>
+ * As of 1.0.6, the previous frame is kept and only the lines that have changed are
+ * sent to the client. Each line's team is registered once and reused, so a sidebar
+ * whose content has not changed costs no packets at all.
  *
  * @author Acronical
  * @since 1.0.1
  */
 public class Sidebar {
 
+    private static final int MAX_LINES = 15;
+
     private final Player player;
     private final Scoreboard scoreboard;
     private final Objective objective;
-    private final List<String> currentLines = new ArrayList<>();
 
-    private static final String[] lineIDs = new String[15];
+    private final Team[] teams = new Team[MAX_LINES];
+    private final String[] lines = new String[MAX_LINES];
+    private int lineCount = 0;
+    private String title = "Title";
+
+    private static final String[] lineIDs = new String[MAX_LINES];
 
     static {
         String codes = "0123456789abcdef";
-        for (int i = 0; i < 15; i++) {
+        for (int i = 0; i < MAX_LINES; i++) {
             lineIDs[i] = ChatColor.COLOR_CHAR + "" + codes.charAt(i) + ChatColor.RESET;
         }
     }
@@ -47,7 +56,7 @@ public class Sidebar {
         this.player = player;
         if (Bukkit.getScoreboardManager() == null) throw new IllegalStateException("ScoreboardManager is not available");
         this.scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        this.objective = scoreboard.registerNewObjective("sidebar", Criteria.DUMMY, "Title");
+        this.objective = scoreboard.registerNewObjective("sidebar", Criteria.DUMMY, title);
         this.objective.setDisplaySlot(org.bukkit.scoreboard.DisplaySlot.SIDEBAR);
         player.setScoreboard(scoreboard);
     }
@@ -58,7 +67,10 @@ public class Sidebar {
      * @param title The new title string.
      */
     public void setTitle(@NotNull String title) {
-        if (!objective.getDisplayName().equals(title)) objective.setDisplayName(title);
+        if (this.title.equals(title)) return;
+
+        this.title = title;
+        objective.setDisplayName(title);
     }
 
     /**
@@ -66,38 +78,37 @@ public class Sidebar {
      * <p>
      * This method maps the provided strings to team prefixes associated with unique
      * colour codes. This allows for duplicate lines and dynamic updates without
-     * visual artifacts.
+     * visual artifacts. Lines identical to those already shown are skipped, and
+     * scores are only rewritten when the number of lines changes.
      *
      * @param lines A list of strings to display, limited to 15 lines.
      * @throws IllegalArgumentException If the provided list exceeds 15 lines.
      */
     public void updateLines(List<String> lines) {
-        if (lines.size() > 15) throw new IllegalArgumentException("Cannot have more than 15 lines in the sidebar");
+        if (lines.size() > MAX_LINES) throw new IllegalArgumentException("Cannot have more than 15 lines in the sidebar");
 
-        for (int i = 0; i < lines.size(); i++) {
+        int size = lines.size();
+        boolean resized = size != lineCount;
+
+        for (int i = 0; i < size; i++) {
             String text = lines.get(i);
-            String lineID = lineIDs[i];
 
-            Team team = scoreboard.getTeam(lineID);
-            if (team == null) {
-                team = scoreboard.registerNewTeam(lineID);
-                team.addEntry(lineID);
+            if (!text.equals(this.lines[i])) {
+                getTeam(i).setPrefix(text);
+                this.lines[i] = text;
             }
 
-            if (!team.getPrefix().equals(text)) team.setPrefix(text);
-
-            objective.getScore(lineID).setScore(lines.size() - i);
+            // Scores count down from the line count, so every visible score moves when the count changes.
+            if (resized) objective.getScore(lineIDs[i]).setScore(size - i);
         }
 
-        for (int i = lines.size(); i < 15; i++) {
-            String lineID = lineIDs[i];
-            scoreboard.resetScores(lineID);
-            Team team = scoreboard.getTeam(lineID);
-            if (team != null) team.unregister();
+        // Teams of hidden lines stay registered, ready to be reused when the sidebar grows again.
+        for (int i = size; i < lineCount; i++) {
+            scoreboard.resetScores(lineIDs[i]);
+            this.lines[i] = null;
         }
 
-        this.currentLines.clear();
-        this.currentLines.addAll(lines);
+        this.lineCount = size;
     }
 
     /**
@@ -109,4 +120,26 @@ public class Sidebar {
     public Player getPlayer() {
         return player;
     }
+
+    /**
+     * Retrieves the team for a line, registering it on first use.
+     *
+     * @param index The line index.
+     * @return The {@link Team} whose prefix holds the line's text.
+     */
+    @NotNull
+    private Team getTeam(int index) {
+        Team team = teams[index];
+        if (team != null) return team;
+
+        String lineID = lineIDs[index];
+        team = scoreboard.getTeam(lineID);
+        if (team == null) {
+            team = scoreboard.registerNewTeam(lineID);
+            team.addEntry(lineID);
+        }
+
+        teams[index] = team;
+        return team;
+    }
 }
@@ -7,9 +7,13 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.common.PlaceholderRegistry;
 import uk.acronical.common.StringUtils;
+import uk.acronical.common.TextTemplate;
 import uk.acronical.task.TaskManager;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +25,10 @@ import java.util.function.Function;
  * This utility facilitates the use of persistent, auto-refreshing text at the
  * top and bottom of the tab menu, utilised to display server information
  * or player-specific statistics.
+ * <p>
+ * As of 1.0.6, headers and footers may be given as {@link TextTemplate}s, whose shared
+ * placeholders are computed once per refresh rather than once per player. Updates are
+ * performed on the main server thread, and are only sent when the text has changed.
  *
  * @author Acronical
  * @since 1.0.5
@@ -30,11 +38,23 @@ public class TabListService implements Listener {
     private final Plugin plugin;
     private final TaskManager taskManager;
 
+    // Providers are stored in their coloured form, ready to be sent as-is.
     private final Map<UUID, Function<Player, String>> headers = new ConcurrentHashMap<>();
     private final Map<UUID, Function<Player, String>> footers = new ConcurrentHashMap<>();
+    private final Map<UUID, String[]> sent = new ConcurrentHashMap<>();
+
+    // Registries are counted by the number of headers and footers using them, so each stops being advanced once unused.
+    private final Map<PlaceholderRegistry, Integer> registries = new IdentityHashMap<>();
+    private final Map<UUID, PlaceholderRegistry> headerRegistries = new ConcurrentHashMap<>();
+    private final Map<UUID, PlaceholderRegistry> footerRegistries = new ConcurrentHashMap<>();
+    private PlaceholderRegistry defaultHeaderRegistry = null;
+    private PlaceholderRegistry defaultFooterRegistry = null;
+
+    private Function<Player, String> defaultHeader = null;
+    private Function<Player, String> defaultFooter = null;
 
     /**
-     * Initialises the {@link TabListService} and starts the background update loop.
+     * Initialises the {@link TabListService} and starts the update loop.
      *
      * @param plugin      The plugin instance.
      * @param taskManager The {@link TaskManager} utilised for periodic synchronisation.
@@ -43,8 +63,11 @@ public class TabListService implements Listener {
         this.plugin = plugin;
         this.taskManager = taskManager;
 
-        this.taskManager.async(() -> {
-           for (Player player : Bukkit.getOnlinePlayers()) updateTabList(player);
+        this.taskManager.sync(() -> {
+            synchronized (registries) {
+                for (PlaceholderRegistry registry : registries.keySet()) registry.nextCycle(1000L);
+            }
+            for (Player player : Bukkit.getOnlinePlayers()) updateTabList(player);
         }, 20L, 20L);
     }
 
@@ -55,7 +78,23 @@ public class TabListService implements Listener {
      * @param headerProvider A function generating the header text (supports colour codes).
      */
     public void setHeader(@NotNull Player player, @NotNull Function<Player, String> headerProvider) {
-        headers.put(player.getUniqueId(), headerProvider);
+        headers.put(player.getUniqueId(), viewer -> StringUtils.colour(headerProvider.apply(viewer)));
+        track(headerRegistries, player.getUniqueId(), null);
+        updateTabList(player);
+    }
+
+    /**
+     * Sets a header template for a specific player.
+     * <p>
+     * The same template instance may be given to many players, sharing its cached text.
+     *
+     * @param player   The recipient player.
+     * @param template The template generating the header text.
+     * @since 1.0.6
+     */
+    public void setHeader(@NotNull Player player, @NotNull TextTemplate template) {
+        headers.put(player.getUniqueId(), template::render);
+        track(headerRegistries, player.getUniqueId(), template.getRegistry());
         updateTabList(player);
     }
 
@@ -66,10 +105,42 @@ public class TabListService implements Listener {
      * @param footerProvider A function generating the footer text.
      */
     public void setFooter(@NotNull Player player, @NotNull Function<Player, String> footerProvider) {
-        footers.put(player.getUniqueId(), footerProvider);
+        footers.put(player.getUniqueId(), viewer -> StringUtils.colour(footerProvider.apply(viewer)));
+        track(footerRegistries, player.getUniqueId(), null);
+        updateTabList(player);
+    }
+
+    /**
+     * Sets a footer template for a specific player.
+     *
+     * @param player   The recipient player.
+     * @param template The template generating the footer text.
+     * @since 1.0.6
+     */
+    public void setFooter(@NotNull Player player, @NotNull TextTemplate template) {
+        footers.put(player.getUniqueId(), template::render);
+        track(footerRegistries, player.getUniqueId(), template.getRegistry());
         updateTabList(player);
     }
 
+    /**
+     * Sets the templates shown to every player without their own header or footer.
+     *
+     * @param header The header template, or {@code null} for none.
+     * @param footer The footer template, or {@code null} for none.
+     * @since 1.0.6
+     */
+    public void setDefaults(@Nullable TextTemplate header, @Nullable TextTemplate footer) {
+        PlaceholderRegistry previousHeader = defaultHeaderRegistry, previousFooter = defaultFooterRegistry;
+        this.defaultHeaderRegistry = header != null ? retain(header.getRegistry()) : null;
+        this.defaultFooterRegistry = footer != null ? retain(footer.getRegistry()) : null;
+        if (previousHeader != null) release(previousHeader);
+        if (previousFooter != null) release(previousFooter);
+
+        this.defaultHeader = header != null ? header::render : null;
+        this.defaultFooter = footer != null ? footer::render : null;
+    }
+
     /**
      * Removes all dynamic providers and clears the tab list display for a player.
      *
@@ -79,22 +150,55 @@ public class TabListService implements Listener {
         UUID uuid = player.getUniqueId();
         headers.remove(uuid);
         footers.remove(uuid);
+        sent.remove(uuid);
+        track(headerRegistries, uuid, null);
+        track(footerRegistries, uuid, null);
         player.setPlayerListHeaderFooter(null, null);
     }
 
+    /**
+     * Records the registry behind a player's header or footer, releasing the one it replaces.
+     *
+     * @param tracked  The player registries for headers or footers.
+     * @param uuid     The player's unique ID.
+     * @param registry The registry of the new template, or {@code null} if it is not a template.
+     */
+    private void track(@NotNull Map<UUID, PlaceholderRegistry> tracked, @NotNull UUID uuid, @Nullable PlaceholderRegistry registry) {
+        PlaceholderRegistry previous = registry != null ? tracked.put(uuid, retain(registry)) : tracked.remove(uuid);
+        if (previous != null) release(previous);
+    }
+
+    @NotNull
+    private PlaceholderRegistry retain(@NotNull PlaceholderRegistry registry) {
+        synchronized (registries) {
+            registries.merge(registry, 1, Integer::sum);
+        }
+        return registry;
+    }
+
+    private void release(@NotNull PlaceholderRegistry registry) {
+        synchronized (registries) {
+            if (registries.merge(registry, -1, Integer::sum) <= 0) registries.remove(registry);
+        }
+    }
+
     /**
      * Internal method to resolve provider functions and push updates to the client.
      */
     private void updateTabList(@NotNull Player player) {
         UUID uuid = player.getUniqueId();
 
-        Function<Player, String> headerFunction = headers.get(uuid);
-        Function<Player, String> footerFunction = footers.get(uuid);
+        Function<Player, String> headerFunction = headers.getOrDefault(uuid, defaultHeader);
+        Function<Player, String> footerFunction = footers.getOrDefault(uuid, defaultFooter);
 
         String header = headerFunction != null ? headerFunction.apply(player) : "";
         String footer = footerFunction != null ? footerFunction.apply(player) : "";
 
-        player.setPlayerListHeaderFooter(StringUtils.colour(header), StringUtils.colour(footer));
+        String[] previous = sent.get(uuid);
+        if (previous != null && previous[0].equals(header) && previous[1].equals(footer)) return;
+
+        sent.put(uuid, new String[]{header, footer});
+        player.setPlayerListHeaderFooter(header, footer);
     }
 
     /**
@@ -107,5 +211,8 @@ public class TabListService implements Listener {
         UUID uuid = event.getPlayer().getUniqueId();
         headers.remove(uuid);
         footers.remove(uuid);
+        sent.remove(uuid);
+        track(headerRegistries, uuid, null);
+        track(footerRegistries, uuid, null);
     }
 }
@@ -0,0 +1,165 @@
+package uk.acronical.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single-pass translator for legacy and Hexadecimal colour codes.
+ * <p>
+ * Legacy codes ({@code &a}, {@code &l}, ...) and Hex codes ({@code &#RRGGBB}) are
+ * translated in one scan over a {@code char[]}, producing the same output as the
+ * regex and {@code ChatColor.translateAlternateColorCodes} approach without the
+ * intermediate {@link java.util.regex.Matcher} and {@link StringBuffer} allocations.
+ * <p>
+ * Results for short strings are held in a bounded LRU cache, as the same static text
+ * is typically re-coloured every second for every player by scoreboards, tablists and
+ * action bars. Strings without an {@code &} are returned as-is and never cached.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class ColourTranslator {
+
+    private static final char ALT_CHAR = '&';
+    private static final char COLOUR_CHAR = '§';
+
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 256;
+
+    private static final Map<String, String> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private ColourTranslator() {}
+
+    /**
+     * Translates the colour codes in a message, utilising the cache where possible.
+     *
+     * @param message The raw string to translate.
+     * @return The formatted string.
+     */
+    @NotNull
+    public static String translate(@NotNull String message) {
+        if (message.indexOf(ALT_CHAR) < 0) return message;
+        if (message.length() > MAX_CACHED_LENGTH) return translateUncached(message);
+
+        synchronized (cache) {
+            String cached = cache.get(message);
+            if (cached != null) return cached;
+        }
+
+        String translated = translateUncached(message);
+
+        synchronized (cache) {
+            cache.put(message, translated);
+        }
+
+        return translated;
+    }
+
+    /**
+     * Translates the colour codes in a message without consulting the cache.
+     * <p>
+     * This is preferable for text that changes on every call, such as messages
+     * containing timers or coordinates, as it avoids evicting reusable entries.
+     *
+     * @param message The raw string to translate.
+     * @return The formatted string.
+     */
+    @NotNull
+    public static String translateUncached(@NotNull String message) {
+        int first = message.indexOf(ALT_CHAR);
+        if (first < 0) return message;
+
+        int length = message.length();
+        char[] input = message.toCharArray();
+
+        // A Hex code grows from 8 to 14 characters; size for the worst case up front.
+        char[] output = new char[length + (length / 8 + 1) * 6];
+        System.arraycopy(input, 0, output, 0, first);
+        int out = first;
+
+        for (int i = first; i < length; i++) {
+            char c = input[i];
+
+            if (c != ALT_CHAR || i + 1 >= length) {
+                output[out++] = c;
+                continue;
+            }
+
+            char next = input[i + 1];
+
+            if (next == '#' && isHex(input, i + 2, length)) {
+                output[out++] = COLOUR_CHAR;
+                output[out++] = 'x';
+                for (int j = i + 2; j < i + 8; j++) {
+                    output[out++] = COLOUR_CHAR;
+                    output[out++] = input[j];
+                }
+                i += 7;
+            } else if (isLegacyCode(next)) {
+                output[out++] = COLOUR_CHAR;
+                output[out++] = toLowerAscii(next);
+                i++;
+            } else {
+                output[out++] = c;
+            }
+        }
+
+        return new String(output, 0, out);
+    }
+
+    /**
+     * Clears all cached translations.
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Checks whether six Hexadecimal digits start at the given index.
+     *
+     * @param chars  The input characters.
+     * @param start  The index of the first digit.
+     * @param length The length of the input.
+     * @return {@code true} if a complete Hex colour is present.
+     */
+    private static boolean isHex(char[] chars, int start, int length) {
+        if (start + 6 > length) return false;
+
+        for (int i = start; i < start + 6; i++) {
+            char c = chars[i];
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Lower-cases an ASCII letter, leaving every other character untouched.
+     *
+     * @param c The character to convert.
+     * @return The lower-case character.
+     */
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Checks whether a character is a legacy colour or format code.
+     *
+     * @param c The character following the {@code &}.
+     * @return {@code true} if the character is one of {@code 0-9}, {@code a-f}, {@code k-o}, {@code r} or {@code x}.
+     */
+    private static boolean isLegacyCode(char c) {
+        char lower = toLowerAscii(c);
+        return (lower >= '0' && lower <= '9') || (lower >= 'a' && lower <= 'f') || (lower >= 'k' && lower <= 'o') || lower == 'r' || lower == 'x';
+    }
+}
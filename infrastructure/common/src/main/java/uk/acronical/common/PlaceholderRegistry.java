@@ -0,0 +1,146 @@
+package uk.acronical.common;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A registry of named placeholders used by {@link TextTemplate}s.
+ * <p>
+ * Placeholders come in two kinds:
+ * <ul>
+ *     <li><b>Shared</b> placeholders have the same value for every viewer, such as the
+ *     server name or player count. They are computed at most once per refresh cycle.</li>
+ *     <li><b>Player</b> placeholders depend on the viewer, such as their balance or ping,
+ *     and are resolved for each player on every render.</li>
+ * </ul>
+ * A refresh cycle is started with {@link #nextCycle()}. Services such as the scoreboard
+ * and tab list instead call {@link #nextCycle(long)} before each round of updates, which
+ * only starts a new cycle once the current one is old enough. A registry shared between
+ * several services is therefore advanced once per interval rather than once per service,
+ * and keeps advancing however many of those services are later stopped. All values are
+ * coloured via {@link StringUtils#colour(String)}.
+ * <p>
+ * Templates resolve their placeholders when compiled, so placeholders should be
+ * registered before the templates that use them. The registry is intended to be used
+ * from the main server thread.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class PlaceholderRegistry {
+
+    private final Map<String, Placeholder> placeholders = new HashMap<>();
+    // Scheduled refreshes may run up to a tick late, which must not cause a cycle to be skipped.
+    private static final long JITTER_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private long cycle = 0;
+    private long cycleStarted = System.nanoTime();
+
+    /**
+     * Registers a placeholder whose value is the same for every viewer.
+     *
+     * @param key      The name used within templates, without braces.
+     * @param supplier The logic producing the value.
+     * @return The current {@link PlaceholderRegistry} instance for method chaining.
+     */
+    public PlaceholderRegistry shared(@NotNull String key, @NotNull Supplier<String> supplier) {
+        placeholders.put(key, new Placeholder(supplier, null));
+        return this;
+    }
+
+    /**
+     * Registers a placeholder whose value depends on the viewing player.
+     *
+     * @param key      The name used within templates, without braces.
+     * @param resolver The logic producing the value for a player.
+     * @return The current {@link PlaceholderRegistry} instance for method chaining.
+     */
+    public PlaceholderRegistry player(@NotNull String key, @NotNull Function<Player, String> resolver) {
+        placeholders.put(key, new Placeholder(null, resolver));
+        return this;
+    }
+
+    /**
+     * Starts a new refresh cycle, causing shared values to be recomputed on their next use.
+     */
+    public void nextCycle() {
+        cycle++;
+        cycleStarted = System.nanoTime();
+    }
+
+    /**
+     * Starts a new refresh cycle if the current one is at least a given age.
+     * <p>
+     * Services sharing this registry each call this with their own refresh interval, so
+     * shared values are recomputed once per interval however many services use them.
+     * Up to one server tick of scheduling delay is tolerated.
+     *
+     * @param intervalMillis The minimum age, in milliseconds, of the current cycle.
+     * @since 1.0.6
+     */
+    public void nextCycle(long intervalMillis) {
+        if (System.nanoTime() - cycleStarted >= TimeUnit.MILLISECONDS.toNanos(intervalMillis) - JITTER_NANOS) nextCycle();
+    }
+
+    /**
+     * Retrieves the current refresh cycle.
+     *
+     * @return The cycle counter.
+     */
+    long getCycle() {
+        return cycle;
+    }
+
+    /**
+     * Retrieves a placeholder by name.
+     *
+     * @param key The name of the placeholder.
+     * @return The {@link Placeholder}, or {@code null} if none is registered.
+     */
+    @Nullable
+    Placeholder get(@NotNull String key) {
+        return placeholders.get(key);
+    }
+
+    /**
+     * A single registered placeholder, holding the cached value of a shared placeholder.
+     */
+    final class Placeholder {
+
+        private final Supplier<String> shared;
+        private final Function<Player, String> resolver;
+
+        private String cached;
+        private long cachedCycle = -1;
+
+        private Placeholder(@Nullable Supplier<String> shared, @Nullable Function<Player, String> resolver) {
+            this.shared = shared;
+            this.resolver = resolver;
+        }
+
+        boolean isShared() {
+            return shared != null;
+        }
+
+        @NotNull
+        String resolve() {
+            if (cachedCycle != cycle) {
+                cached = StringUtils.colour(shared.get());
+                cachedCycle = cycle;
+            }
+            return cached;
+        }
+
+        @NotNull
+        String resolve(@NotNull Player player) {
+            return StringUtils.colour(resolver.apply(player));
+        }
+    }
+}
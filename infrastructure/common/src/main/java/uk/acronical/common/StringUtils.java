@@ -1,10 +1,7 @@
 package uk.acronical.common;
 
-import net.md_5.bungee.api.ChatColor;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -19,13 +16,12 @@ import java.util.stream.Stream;
  */
 public class StringUtils {
 
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
-
     /**
      * Colours a message by translating legacy colour codes and Hexadecimal codes.
      * <p>
      * Supports legacy codes using the {@code &} symbol and Hex codes in the
-     * {@code &#RRGGBB} format.
+     * {@code &#RRGGBB} format. As of 1.0.6, translation is performed in a single
+     * pass by {@link ColourTranslator}, with repeated strings served from its cache.
      *
      * @param message The raw string to translate.
      * @return The formatted string, or an empty string if the input is null.
@@ -33,15 +29,7 @@ public class StringUtils {
     @NotNull
     public static String colour(String message) {
         if (message == null || message.isEmpty()) return "";
-
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        StringBuffer buffer = new StringBuffer();
-        while (matcher.find()) {
-            matcher.appendReplacement(buffer, ChatColor.of("#" + matcher.group(1)).toString());
-        }
-        matcher.appendTail(buffer);
-
-        return ChatColor.translateAlternateColorCodes('&', buffer.toString());
+        return ColourTranslator.translate(message);
     }
 
     /**
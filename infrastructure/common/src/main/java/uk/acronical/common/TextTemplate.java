@@ -0,0 +1,163 @@
+package uk.acronical.common;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pre-parsed line of text containing {@code {placeholder}} tokens.
+ * <p>
+ * Templates are split into static text, shared placeholders and per-player placeholders
+ * when compiled. On each refresh cycle of the {@link PlaceholderRegistry}, every run of
+ * static text and shared values between two per-player placeholders is joined into a single
+ * string, so rendering for a viewer only resolves that viewer's own placeholders. A template
+ * with no per-player placeholders renders the same cached string for everyone.
+ * <p>
+ * Colour codes are translated once the line has been rendered, so a code may be split across
+ * a placeholder, such as {@code &{rank_colour}}. A template with no per-player placeholders
+ * is only coloured once per refresh cycle.
+ * <p>
+ * Unknown placeholders are left in the text as written. For example:
+ * <pre>{@code
+ * PlaceholderRegistry placeholders = new PlaceholderRegistry()
+ *         .shared("online", () -> String.valueOf(Bukkit.getOnlinePlayers().size()))
+ *         .player("name", Player::getName);
+ *
+ * TextTemplate line = TextTemplate.compile("&7Online: &a{online} &8| &f{name}", placeholders);
+ * }</pre>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class TextTemplate {
+
+    private final PlaceholderRegistry registry;
+
+    // Each run holds static text and shared placeholders; runs.length == perPlayer.length + 1.
+    private final Object[][] runs;
+    private final PlaceholderRegistry.Placeholder[] perPlayer;
+
+    private final String[] joined;
+    private long joinedCycle = -1;
+
+    private TextTemplate(@NotNull PlaceholderRegistry registry, @NotNull Object[][] runs, @NotNull PlaceholderRegistry.Placeholder[] perPlayer) {
+        this.registry = registry;
+        this.runs = runs;
+        this.perPlayer = perPlayer;
+        this.joined = new String[runs.length];
+    }
+
+    /**
+     * Parses a template against a registry of placeholders.
+     *
+     * @param source   The raw template text, which may contain colour codes.
+     * @param registry The registry providing placeholder values.
+     * @return A new {@link TextTemplate}.
+     */
+    @NotNull
+    public static TextTemplate compile(@NotNull String source, @NotNull PlaceholderRegistry registry) {
+        List<Object[]> runs = new ArrayList<>();
+        List<PlaceholderRegistry.Placeholder> perPlayer = new ArrayList<>();
+
+        List<Object> run = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int index = 0;
+
+        while (index < source.length()) {
+            int open = source.indexOf('{', index);
+            int close = open < 0 ? -1 : source.indexOf('}', open + 1);
+            if (close < 0) break;
+
+            PlaceholderRegistry.Placeholder placeholder = registry.get(source.substring(open + 1, close));
+            if (placeholder == null) {
+                text.append(source, index, open + 1);
+                index = open + 1;
+                continue;
+            }
+
+            text.append(source, index, open);
+            index = close + 1;
+
+            if (!text.isEmpty()) run.add(text.toString());
+            text.setLength(0);
+
+            if (placeholder.isShared()) {
+                run.add(placeholder);
+                continue;
+            }
+
+            runs.add(run.toArray());
+            run.clear();
+            perPlayer.add(placeholder);
+        }
+
+        text.append(source, index, source.length());
+        if (!text.isEmpty()) run.add(text.toString());
+        runs.add(run.toArray());
+
+        return new TextTemplate(registry, runs.toArray(new Object[0][]), perPlayer.toArray(new PlaceholderRegistry.Placeholder[0]));
+    }
+
+    /**
+     * Renders the template for a viewer.
+     *
+     * @param player The player viewing the text.
+     * @return The coloured text.
+     */
+    @NotNull
+    public String render(@NotNull Player player) {
+        refresh();
+        if (perPlayer.length == 0) return joined[0];
+
+        // Colours are translated over the whole line, as a code may be split across a placeholder.
+
+        StringBuilder builder = new StringBuilder(64);
+        for (int i = 0; i < perPlayer.length; i++) {
+            builder.append(joined[i]).append(perPlayer[i].resolve(player));
+        }
+
+        return StringUtils.colour(builder.append(joined[perPlayer.length]).toString());
+    }
+
+    /**
+     * Checks if the rendered text can differ between viewers.
+     *
+     * @return {@code true} if the template contains per-player placeholders.
+     */
+    public boolean isPerPlayer() {
+        return perPlayer.length > 0;
+    }
+
+    @NotNull
+    public PlaceholderRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Rebuilds the joined runs if a new refresh cycle has started.
+     */
+    private void refresh() {
+        long cycle = registry.getCycle();
+        if (joinedCycle == cycle) return;
+
+        for (int i = 0; i < runs.length; i++) {
+            Object[] run = runs[i];
+            if (run.length == 1 && run[0] instanceof String text) {
+                joined[i] = text;
+                continue;
+            }
+
+            StringBuilder builder = new StringBuilder();
+            for (Object part : run) {
+                builder.append(part instanceof PlaceholderRegistry.Placeholder placeholder ? placeholder.resolve() : (String) part);
+            }
+            joined[i] = builder.toString();
+        }
+
+        if (perPlayer.length == 0) joined[0] = StringUtils.colour(joined[0]);
+
+        joinedCycle = cycle;
+    }
+}
@@ -0,0 +1,139 @@
+package uk.acronical.task;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link Executor} behind {@link TaskManager#async(Runnable)} and {@link TaskManager#supplyAsync(java.util.concurrent.Callable)}.
+ * <p>
+ * By default, asynchronous work is handed to the Bukkit scheduler, whose pool is shared with
+ * every other plugin and only starts tasks on the next tick. The other backends submit work
+ * immediately, without waiting for a tick:
+ * <ul>
+ *     <li>{@link #virtual(String)} starts a virtual thread per task, suited to blocking I/O.</li>
+ *     <li>{@link #platform(String, int)} runs tasks on a fixed pool of threads, suited to CPU work.</li>
+ *     <li>{@link #of(String, ExecutorService)} wraps an existing executor.</li>
+ * </ul>
+ * Backends other than {@link #bukkit(Plugin)} own their threads, and should be shut down
+ * via {@link #shutdown()} when the plugin disables.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class AsyncBackend implements Executor {
+
+    private final String name;
+    private final Plugin plugin;
+    private final ExecutorService delegate;
+
+    private AsyncBackend(@NotNull String name, @Nullable Plugin plugin, @Nullable ExecutorService delegate) {
+        this.name = name;
+        this.plugin = plugin;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a backend which hands tasks to the Bukkit scheduler's asynchronous pool.
+     *
+     * @param plugin The plugin instance used to schedule tasks.
+     * @return A new {@link AsyncBackend} instance.
+     */
+    @NotNull
+    public static AsyncBackend bukkit(@NotNull Plugin plugin) {
+        return new AsyncBackend("bukkit", plugin, null);
+    }
+
+    /**
+     * Creates a backend which starts a virtual thread for every task.
+     * <p>
+     * Virtual threads are cheap to block, so this suits database and HTTP calls. Concurrency
+     * is unbounded, so work needing a limit, such as a connection pool, should limit itself.
+     *
+     * @param name The prefix used when naming virtual threads.
+     * @return A new {@link AsyncBackend} instance.
+     */
+    @NotNull
+    public static AsyncBackend virtual(@NotNull String name) {
+        return new AsyncBackend(name, null, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory()));
+    }
+
+    /**
+     * Creates a backend which runs tasks on a fixed pool of daemon platform threads.
+     * <p>
+     * Tasks beyond the pool size wait in an unbounded queue, so CPU work is never rejected.
+     *
+     * @param name    The prefix used when naming worker threads.
+     * @param threads The number of worker threads, typically no more than the available processors.
+     * @return A new {@link AsyncBackend} instance.
+     * @throws IllegalArgumentException If the thread count is not positive.
+     */
+    @NotNull
+    public static AsyncBackend platform(@NotNull String name, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("The thread count must be greater than zero.");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        return new AsyncBackend(name, null, Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a backend wrapping an existing executor.
+     *
+     * @param name     A name identifying the backend.
+     * @param executor The executor to submit tasks to, shut down along with the backend.
+     * @return A new {@link AsyncBackend} instance.
+     */
+    @NotNull
+    public static AsyncBackend of(@NotNull String name, @NotNull ExecutorService executor) {
+        return new AsyncBackend(name, null, executor);
+    }
+
+    /**
+     * Submits a task for execution.
+     *
+     * @param task The task to run.
+     * @throws java.util.concurrent.RejectedExecutionException If the backend has been shut down.
+     */
+    @Override
+    public void execute(@NotNull Runnable task) {
+        if (delegate != null) delegate.execute(task);
+        else plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    /**
+     * Checks whether tasks are handed to the Bukkit scheduler.
+     *
+     * @return {@code true} if this is a {@link #bukkit(Plugin)} backend.
+     */
+    public boolean isBukkit() {
+        return delegate == null;
+    }
+
+    /**
+     * Retrieves the name identifying the backend, such as {@code "bukkit"}.
+     *
+     * @return The backend name.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Stops accepting tasks, allowing those already submitted to finish.
+     * <p>
+     * This has no effect on a {@link #bukkit(Plugin)} backend.
+     */
+    public void shutdown() {
+        if (delegate != null) delegate.shutdown();
+    }
+}
@@ -12,6 +12,9 @@ import java.util.function.BooleanSupplier;
  * <p>
  * This task will repeat until the provided {@link BooleanSupplier} returns {@code false},
  * at which point it will optionally execute a termination task and cancel itself.
+ * <p>
+ * As of 1.0.6, the task may be run on a {@link TimerService} via {@link #start(TimerService, long, long)}
+ * rather than as its own Bukkit task, which suits plugins running many checks at once.
  *
  * @author Acronical
  * @since 1.0.0
@@ -21,6 +24,8 @@ public class ConditionalTask extends BukkitRunnable {
     private final Runnable task;
     private final BooleanSupplier condition;
     private final Runnable onStop;
+    private TimerHandle timer;
+    private Runnable profiled;
 
     /**
      * Initialises a new {@link ConditionalTask}.
@@ -35,6 +40,18 @@ public class ConditionalTask extends BukkitRunnable {
         this.onStop = onStop;
     }
 
+    /**
+     * Times each run of the task, including its condition check, with a {@link TaskProfiler}.
+     *
+     * @param profiler The profiler to record runs with.
+     * @return The current {@link ConditionalTask} instance.
+     */
+    @NotNull
+    ConditionalTask profiled(@NotNull TaskProfiler profiler) {
+        this.profiled = profiler.wrap(profiler.source(task), this::step, true);
+        return this;
+    }
+
     /**
      * Executes the task logic.
      * <p>
@@ -43,6 +60,11 @@ public class ConditionalTask extends BukkitRunnable {
      */
     @Override
     public void run() {
+        if (profiled != null) profiled.run();
+        else step();
+    }
+
+    private void step() {
         if (!condition.getAsBoolean()) {
             if (onStop != null) onStop.run();
             this.cancel();
@@ -66,4 +88,32 @@ public class ConditionalTask extends BukkitRunnable {
     public void start(@NotNull Plugin plugin, @NotNull Runnable action, @NotNull BooleanSupplier loopCondition, long period) {
         new ConditionalTask(action, loopCondition, null).runTaskTimer(plugin, 0, period);
     }
+
+    /**
+     * Starts the task on a {@link TimerService}.
+     *
+     * @param timers The {@link TimerService} to run the task on.
+     * @param delay  The delay before the first run, measured in server ticks.
+     * @param period The time to wait between runs, measured in server ticks.
+     * @return The current {@link ConditionalTask} instance.
+     * @throws IllegalStateException If the task has already been started.
+     * @since 1.0.6
+     */
+    @NotNull
+    public synchronized ConditionalTask start(@NotNull TimerService timers, long delay, long period) {
+        if (timer != null) throw new IllegalStateException("The task has already been started.");
+        this.timer = timers.schedule(this, delay, period);
+        return this;
+    }
+
+    @Override
+    public synchronized void cancel() {
+        if (timer != null) timer.cancel();
+        else super.cancel();
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return timer != null ? timer.isCancelled() : super.isCancelled();
+    }
 }
@@ -11,6 +11,9 @@ import java.util.function.Consumer;
  * <p>
  * This utility simplifies the creation of timed countdowns by allowing
  * method chaining for tick actions, termination logic, and cancellation hooks.
+ * <p>
+ * As of 1.0.6, builders given a {@link TimerService} start their countdowns on it,
+ * rather than scheduling a Bukkit task for each one.
  *
  * @author Acronical
  * @since 1.0.0
@@ -18,6 +21,8 @@ import java.util.function.Consumer;
 public class CountdownBuilder {
 
     private final Plugin plugin;
+    private final TimerService timers;
+    private TaskProfiler profiler;
     private int seconds = 10;
     private Consumer<Integer> onTick;
     private Runnable onFinish;
@@ -29,7 +34,30 @@ public class CountdownBuilder {
      * @param plugin The plugin instance responsible for running the countdown.
      */
     public CountdownBuilder(@NotNull Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * Initialises a new {@link CountdownBuilder} which starts countdowns on a {@link TimerService}.
+     *
+     * @param plugin The plugin instance responsible for running the countdown.
+     * @param timers The {@link TimerService} to run countdowns on, or {@code null} to schedule Bukkit tasks.
+     * @since 1.0.6
+     */
+    public CountdownBuilder(@NotNull Plugin plugin, @Nullable TimerService timers) {
         this.plugin = plugin;
+        this.timers = timers;
+    }
+
+    /**
+     * Sets the {@link TaskProfiler} used to time the countdowns this builder starts.
+     *
+     * @param profiler The profiler to record runs with.
+     * @return The current {@link CountdownBuilder} instance for method chaining.
+     */
+    CountdownBuilder profiled(@NotNull TaskProfiler profiler) {
+        this.profiler = profiler;
+        return this;
     }
 
     /**
@@ -86,6 +114,9 @@ public class CountdownBuilder {
     @NotNull
     public CountdownTask start() {
         CountdownTask task = new CountdownTask(seconds, onTick, onFinish, onCancel);
+        if (profiler != null) task.profiled(profiler);
+        if (timers != null) return task.start(timers);
+
         task.runTaskTimer(plugin, 0L, 20L);
         return task;
     }
@@ -1,6 +1,7 @@
 package uk.acronical.task;
 
 import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Consumer;
@@ -11,6 +12,9 @@ import java.util.function.Consumer;
  * This task decrements its internal counter on every run, triggering a tick
  * consumer until it reaches zero, at which point it executes the finish logic
  * and terminates.
+ * <p>
+ * As of 1.0.6, a countdown may be run on a {@link TimerService} via {@link #start(TimerService)}
+ * rather than as its own Bukkit task, which suits plugins running many countdowns at once.
  *
  * @author Acronical
  * @since 1.0.0
@@ -21,6 +25,8 @@ public class CountdownTask extends BukkitRunnable {
     private final Consumer<Integer> tick;
     private final Runnable finish;
     private final Runnable cancel;
+    private TimerHandle timer;
+    private Runnable profiled;
 
     /**
      * Initialises a new {@link CountdownTask}.
@@ -37,6 +43,36 @@ public class CountdownTask extends BukkitRunnable {
         this.cancel = cancel;
     }
 
+    /**
+     * Starts the countdown on a {@link TimerService}, running once every 20 server ticks (1 second).
+     * <p>
+     * The countdown is not scheduled with Bukkit, so {@link #getTaskId()} throws
+     * {@link IllegalStateException}; it should be stopped via {@link #cancel()} instead.
+     *
+     * @param timers The {@link TimerService} to run the countdown on.
+     * @return The current {@link CountdownTask} instance.
+     * @throws IllegalStateException If the countdown has already been started.
+     * @since 1.0.6
+     */
+    @NotNull
+    public synchronized CountdownTask start(@NotNull TimerService timers) {
+        if (timer != null) throw new IllegalStateException("The countdown has already been started.");
+        this.timer = timers.schedule(this, 0L, 20L);
+        return this;
+    }
+
+    /**
+     * Times each run of the countdown with a {@link TaskProfiler}, under the name of its tick logic.
+     *
+     * @param profiler The profiler to record runs with.
+     * @return The current {@link CountdownTask} instance.
+     */
+    @NotNull
+    CountdownTask profiled(@NotNull TaskProfiler profiler) {
+        this.profiled = profiler.wrap(profiler.source(tick != null ? tick : this), this::step, true);
+        return this;
+    }
+
     /**
      * Executes the countdown logic.
      * <p>
@@ -46,6 +82,11 @@ public class CountdownTask extends BukkitRunnable {
      */
     @Override
     public void run() {
+        if (profiled != null) profiled.run();
+        else step();
+    }
+
+    private void step() {
         if (current <= 0) {
             if (finish != null) finish.run();
             this.cancel();
@@ -63,10 +104,17 @@ public class CountdownTask extends BukkitRunnable {
      * is triggered before the task is stopped.
      */
     @Override
-    public void cancel() {
-        super.cancel();
+    public synchronized void cancel() {
+        if (timer != null) timer.cancel();
+        else super.cancel();
+
         if (this.current > 0 && cancel != null) {
             cancel.run();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return timer != null ? timer.isCancelled() : super.isCancelled();
+    }
+}
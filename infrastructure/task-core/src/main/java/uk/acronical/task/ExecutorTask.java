@@ -0,0 +1,69 @@
+package uk.acronical.task;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Future;
+
+/**
+ * A {@link BukkitTask} representing work submitted to an {@link AsyncBackend} rather than the Bukkit scheduler.
+ * <p>
+ * This allows {@link TaskManager#async(Runnable)} to keep its return type whichever backend is in use.
+ * The task is given a negative ID by the {@link TaskManager}, distinct from the scheduler's, so it
+ * may be cancelled via {@link TaskManager#cancel(int)} as well as {@link #cancel()}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+final class ExecutorTask implements BukkitTask {
+
+    private final Plugin plugin;
+    private final int taskId;
+    private final Future<?> future;
+
+    /**
+     * Initialises a new {@link ExecutorTask}.
+     *
+     * @param plugin The plugin which submitted the work.
+     * @param taskId The ID assigned to the work by the {@link TaskManager}.
+     * @param future The {@link Future} of the submitted work.
+     */
+    ExecutorTask(@NotNull Plugin plugin, int taskId, @NotNull Future<?> future) {
+        this.plugin = plugin;
+        this.taskId = taskId;
+        this.future = future;
+    }
+
+    @Override
+    public int getTaskId() {
+        return taskId;
+    }
+
+    @NotNull
+    @Override
+    public Plugin getOwner() {
+        return plugin;
+    }
+
+    @Override
+    public boolean isSync() {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    /**
+     * Cancels the work if it has not yet started.
+     * <p>
+     * Like Bukkit's asynchronous tasks, work which is already running is left to finish rather
+     * than interrupted, so in-flight I/O such as a final save is never aborted part way.
+     */
+    @Override
+    public void cancel() {
+        future.cancel(false);
+    }
+}
@@ -3,6 +3,7 @@ package uk.acronical.task;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import uk.acronical.common.LoggerUtils;
 
 import java.util.LinkedList;
@@ -13,6 +14,10 @@ import java.util.Queue;
  * <p>
  * This class facilitates a "fluent" approach to task scheduling, allowing
  * developers to chain operations together without nested callbacks.
+ * <p>
+ * As of 1.0.6, consecutive links in the same context are run together in a single
+ * scheduled execution. For chains passing values between links, see {@link TypedChain}.
+ * Chains created via {@link TaskManager#newChain()} time each link with the manager's {@link TaskProfiler}.
  *
  * @author Acronical
  * @since 1.0.0
@@ -22,6 +27,7 @@ public class TaskChain {
     private final Plugin plugin;
     private final Queue<ChainLink> chainLink = new LinkedList<>();
     private final BukkitScheduler scheduler;
+    private final TaskProfiler profiler;
 
     /**
      * Initialises a new {@link TaskChain} for the specified {@link Plugin}.
@@ -29,8 +35,19 @@ public class TaskChain {
      * @param plugin The plugin instance used to schedule tasks.
      */
     public TaskChain(@NotNull Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * Initialises a new {@link TaskChain} whose links are timed by a {@link TaskProfiler}.
+     *
+     * @param plugin   The plugin instance used to schedule tasks.
+     * @param profiler The profiler timing each link, or {@code null} to run links untimed.
+     */
+    TaskChain(@NotNull Plugin plugin, @Nullable TaskProfiler profiler) {
         this.plugin = plugin;
         this.scheduler = plugin.getServer().getScheduler();
+        this.profiler = profiler;
     }
 
     /**
@@ -43,7 +60,7 @@ public class TaskChain {
      * @return The current {@link TaskChain} instance for method chaining.
      */
     public TaskChain sync(@NotNull Runnable task) {
-        chainLink.add(new ChainLink(task, true, 0));
+        chainLink.add(new ChainLink(profile(task, true), true, 0));
         return this;
     }
 
@@ -57,7 +74,7 @@ public class TaskChain {
      * @return The current {@link TaskChain} instance for method chaining.
      */
     public TaskChain async(@NotNull Runnable task) {
-        chainLink.add(new ChainLink(task, false, 0));
+        chainLink.add(new ChainLink(profile(task, false), false, 0));
         return this;
     }
 
@@ -72,6 +89,13 @@ public class TaskChain {
         return this;
     }
 
+    /**
+     * Wraps a link's task for timing, if the chain has a profiler.
+     */
+    private Runnable profile(@NotNull Runnable task, boolean sync) {
+        return profiler != null ? profiler.wrap(task, sync) : task;
+    }
+
     /**
      * Starts the execution of the chain.
      * <p>
@@ -95,7 +119,7 @@ public class TaskChain {
     }
 
     /**
-     * Processes a single {@link ChainLink}, handling thread context and error catching.
+     * Processes a {@link ChainLink} and any consecutive links sharing its context, handling thread context and error catching.
      *
      * @param link The link to process.
      */
@@ -106,13 +130,22 @@ public class TaskChain {
         }
 
         Runnable execution = () -> {
-            try {
-                link.task.run();
-            } catch (Exception e) {
-                LoggerUtils.severe("[TaskChain] Error in chain: " + e.getMessage());
-            } finally {
-                runNextLink();
+            ChainLink current = link;
+
+            // Consecutive links in the same context run within this execution, rather than waiting for another tick.
+            while (true) {
+                try {
+                    current.task.run();
+                } catch (Exception e) {
+                    LoggerUtils.severe("[TaskChain] Error in chain: " + e.getMessage());
+                }
+
+                ChainLink next = chainLink.peek();
+                if (next == null || next.task == null || next.delay > 0 || next.sync != current.sync) break;
+                current = chainLink.poll();
             }
+
+            runNextLink();
         };
 
         if (link.sync) scheduler.runTask(plugin, execution);
@@ -4,8 +4,14 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -15,6 +21,12 @@ import java.util.function.Consumer;
  * This class acts as a wrapper for the {@link org.bukkit.scheduler.BukkitScheduler},
  * providing a simplified API for synchronous and asynchronous execution, as well
  * as access to specialised utilities like {@link TaskChain} and {@link CountdownBuilder}.
+ * <p>
+ * As of 1.0.6, bulk main-thread work can be spread across ticks via {@link #getWorkQueue()},
+ * asynchronous work can be given its own {@link AsyncBackend}, and futures can be bridged
+ * back onto the main thread via {@link #getMainThreadExecutor()}. Short timers, including
+ * countdowns created via {@link #newTimerCountdown()}, can share a single task via {@link #getTimerService()}, and every task submitted through
+ * the manager can be timed via {@link #getProfiler()}.
  *
  * @author Acronical
  * @since 1.0.0
@@ -22,6 +34,13 @@ import java.util.function.Consumer;
 public class TaskManager {
 
     private final Plugin plugin;
+    private final Executor mainThreadExecutor;
+    private final TaskProfiler profiler = new TaskProfiler();
+    private final Map<Integer, ExecutorTask> executorTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger executorTaskCount = new AtomicInteger();
+    private volatile AsyncBackend asyncBackend;
+    private WorkQueue workQueue;
+    private TimerService timerService;
 
     /**
      * Initialises a new {@link TaskManager} for the specified {@link Plugin}.
@@ -30,6 +49,62 @@ public class TaskManager {
      */
     public TaskManager(@NotNull Plugin plugin) {
         this.plugin = plugin;
+        this.asyncBackend = plugin != null ? AsyncBackend.bukkit(plugin) : null;
+        this.mainThreadExecutor = runnable -> {
+            if (plugin.getServer().isPrimaryThread()) runnable.run();
+            else sync(runnable);
+        };
+    }
+
+    /**
+     * Sets the backend used by {@link #async(Runnable)} and {@link #supplyAsync(Callable)}.
+     * <p>
+     * Delayed and repeating asynchronous tasks are always scheduled through Bukkit, as their
+     * timing is measured in ticks.
+     *
+     * @param asyncBackend The {@link AsyncBackend} to submit asynchronous work to.
+     * @return The current {@link TaskManager} instance for method chaining.
+     * @since 1.0.6
+     */
+    public TaskManager setAsyncBackend(@NotNull AsyncBackend asyncBackend) {
+        this.asyncBackend = asyncBackend;
+        return this;
+    }
+
+    /**
+     * Retrieves the backend used for asynchronous work.
+     *
+     * @return The current {@link AsyncBackend}.
+     * @since 1.0.6
+     */
+    public AsyncBackend getAsyncBackend() {
+        return asyncBackend;
+    }
+
+    /**
+     * Retrieves an {@link Executor} which runs tasks on the main server thread.
+     * <p>
+     * Tasks submitted from the main thread run immediately, and those submitted from any
+     * other thread run on the next tick. This suits {@link CompletableFuture} stages which
+     * must touch the Bukkit API, such as {@code future.thenAcceptAsync(action, executor)}.
+     *
+     * @return The main-thread {@link Executor}.
+     * @since 1.0.6
+     */
+    public Executor getMainThreadExecutor() {
+        return mainThreadExecutor;
+    }
+
+    /**
+     * Retrieves the {@link TaskProfiler} timing tasks submitted through this manager.
+     * <p>
+     * Profiling is disabled until {@link TaskProfiler#setEnabled(boolean)} is called.
+     *
+     * @return The {@link TaskProfiler} for this manager.
+     * @since 1.0.6
+     */
+    public TaskProfiler getProfiler() {
+        return profiler;
     }
 
     /**
@@ -50,7 +125,7 @@ public class TaskManager {
      */
     public BukkitTask sync(@NotNull Runnable runnable) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTask(plugin, runnable);
+        return plugin.getServer().getScheduler().runTask(plugin, profiler.wrap(runnable, true));
     }
 
     /**
@@ -63,7 +138,7 @@ public class TaskManager {
      */
     public BukkitTask sync(@NotNull Runnable runnable, long delay) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTaskLater(plugin, runnable, delay);
+        return plugin.getServer().getScheduler().runTaskLater(plugin, profiler.wrap(runnable, true), delay);
     }
 
     /**
@@ -77,11 +152,15 @@ public class TaskManager {
      */
     public BukkitTask sync(@NotNull Runnable runnable, long delay, long period) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTaskTimer(plugin, runnable, delay, period);
+        return plugin.getServer().getScheduler().runTaskTimer(plugin, profiler.wrap(runnable, true), delay, period);
     }
 
     /**
      * Executes a task asynchronously on a separate thread pool.
+     * <p>
+     * As of 1.0.6, the task is submitted to the configured {@link AsyncBackend}. Tasks submitted
+     * to a backend other than Bukkit's are given a negative ID, so they may still be cancelled
+     * via {@link #cancel(int)} and {@link #cancelAll()}.
      *
      * @param runnable The logic to execute.
      * @return The resulting {@link BukkitTask}.
@@ -89,7 +168,45 @@ public class TaskManager {
      */
     public BukkitTask async(@NotNull Runnable runnable) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTaskAsynchronously(plugin, runnable);
+
+        Runnable task = profiler.wrap(runnable, false);
+        AsyncBackend backend = asyncBackend;
+        if (backend.isBukkit()) return plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+
+        return submit(task, backend, null);
+    }
+
+    /**
+     * Submits work to an executor other than Bukkit's scheduler, tracking it so that it may be cancelled.
+     *
+     * @param task     The logic to execute.
+     * @param executor The executor to run the task on.
+     * @param result   A future to cancel alongside the work (may be {@code null}).
+     * @return The {@link ExecutorTask} representing the work.
+     * @throws RejectedExecutionException If the executor refuses the work.
+     */
+    private ExecutorTask submit(@NotNull Runnable task, @NotNull Executor executor, CompletableFuture<?> result) {
+        // Negative IDs cannot collide with the scheduler's, which count up from 1.
+        int taskId = -1 - (executorTaskCount.getAndIncrement() & Integer.MAX_VALUE);
+        FutureTask<Void> future = new FutureTask<>(task, null) {
+            @Override
+            protected void done() {
+                executorTasks.remove(taskId);
+                if (result != null && isCancelled()) result.cancel(false);
+            }
+        };
+
+        ExecutorTask executorTask = new ExecutorTask(plugin, taskId, future);
+        executorTasks.put(taskId, executorTask);
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            executorTasks.remove(taskId);
+            throw e;
+        }
+
+        return executorTask;
     }
 
     /**
@@ -102,7 +219,7 @@ public class TaskManager {
      */
     public BukkitTask async(@NotNull Runnable runnable, long delay) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTaskLaterAsynchronously(plugin, runnable, delay);
+        return plugin.getServer().getScheduler().runTaskLaterAsynchronously(plugin, profiler.wrap(runnable, false), delay);
     }
 
     /**
@@ -116,7 +233,7 @@ public class TaskManager {
      */
     public BukkitTask async(@NotNull Runnable runnable, long delay, long period) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, runnable, delay, period);
+        return plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, profiler.wrap(runnable, false), delay, period);
     }
 
     /**
@@ -127,17 +244,36 @@ public class TaskManager {
      */
     public void cancel(int taskId) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+
+        if (taskId < 0) {
+            ExecutorTask task = executorTasks.get(taskId);
+            if (task != null) task.cancel();
+            return;
+        }
+
         plugin.getServer().getScheduler().cancelTask(taskId);
     }
 
     /**
      * Cancels all tasks associated with this plugin.
+     * <p>
+     * As of 1.0.6, this also discards every timer held by the shared {@link TimerService}, cancels
+     * every job waiting in the shared {@link WorkQueue}, and cancels tasks submitted via
+     * {@link #async(Runnable)} or {@link #supplyAsync(Callable, Executor)} to an executor other than
+     * Bukkit's. As with Bukkit's own asynchronous tasks, work which is already running is not interrupted.
      *
      * @throws IllegalStateException If the manager is not initialised.
      */
     public void cancelAll() {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+
+        synchronized (this) {
+            if (timerService != null) timerService.shutdown();
+            if (workQueue != null) workQueue.shutdown();
+        }
+
         plugin.getServer().getScheduler().cancelTasks(plugin);
+        executorTasks.values().forEach(ExecutorTask::cancel);
     }
 
     /**
@@ -148,7 +284,23 @@ public class TaskManager {
      */
     public CountdownBuilder newCountdown() {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return new CountdownBuilder(plugin);
+        return new CountdownBuilder(plugin).profiled(profiler);
+    }
+
+    /**
+     * Creates a new {@link CountdownBuilder} instance which starts countdowns on the shared {@link TimerService}.
+     * <p>
+     * This suits plugins running many countdowns at once. Countdowns started this way are
+     * not scheduled with Bukkit, so they have no task ID and must be cancelled via
+     * {@link CountdownTask#cancel()} rather than {@link #cancel(int)}.
+     *
+     * @return A fresh builder for timer-backed countdowns.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public CountdownBuilder newTimerCountdown() {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        return new CountdownBuilder(plugin, getTimerService()).profiled(profiler);
     }
 
     /**
@@ -159,7 +311,65 @@ public class TaskManager {
      */
     public TaskChain newChain() {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return new TaskChain(plugin);
+        return new TaskChain(plugin, profiler);
+    }
+
+    /**
+     * Creates a new {@link TypedChain} whose first value is supplied asynchronously.
+     *
+     * @param <T>      The type of the first value.
+     * @param supplier The logic producing the first value, such as a database query.
+     * @return A fresh chain passing values between its links.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public <T> TypedChain<T> chainAsync(@NotNull Callable<T> supplier) {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        return new TypedChain<>(this, supplier, false);
+    }
+
+    /**
+     * Creates a new {@link TypedChain} whose first value is supplied on the main server thread.
+     *
+     * @param <T>      The type of the first value.
+     * @param supplier The logic producing the first value, such as reading a player's state.
+     * @return A fresh chain passing values between its links.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public <T> TypedChain<T> chainSync(@NotNull Callable<T> supplier) {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        return new TypedChain<>(this, supplier, true);
+    }
+
+    /**
+     * Retrieves the shared {@link WorkQueue}, creating it on first use.
+     * <p>
+     * The queue spreads bulk main-thread work across ticks within a time budget.
+     *
+     * @return The {@link WorkQueue} for this manager.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public synchronized WorkQueue getWorkQueue() {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        if (workQueue == null) workQueue = new WorkQueue(this);
+        return workQueue;
+    }
+
+    /**
+     * Retrieves the shared {@link TimerService}, creating it on first use.
+     * <p>
+     * The service runs any number of tick-based timers from a single Bukkit task.
+     *
+     * @return The {@link TimerService} for this manager.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public synchronized TimerService getTimerService() {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        if (timerService == null) timerService = new TimerService(this);
+        return timerService;
     }
 
     /**
@@ -173,7 +383,22 @@ public class TaskManager {
      */
     public ConditionalTask conditional(@NotNull Runnable task, @NotNull BooleanSupplier condition, Runnable onStop) {
         if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
-        return new ConditionalTask(task, condition, onStop);
+        return new ConditionalTask(task, condition, onStop).profiled(profiler);
+    }
+
+    /**
+     * Initialises a {@link ConditionalTask} and starts it on the shared {@link TimerService}.
+     *
+     * @param task      The logic to run while the condition is met.
+     * @param condition The requirement to check before each run.
+     * @param onStop    The termination logic (may be {@code null}).
+     * @param period    The time to wait between runs, measured in server ticks.
+     * @return The started {@link ConditionalTask} instance.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public ConditionalTask conditional(@NotNull Runnable task, @NotNull BooleanSupplier condition, Runnable onStop, long period) {
+        return conditional(task, condition, onStop).start(getTimerService(), 0L, period);
     }
 
     /**
@@ -181,21 +406,89 @@ public class TaskManager {
      * <p>
      * This utility bridges {@link Callable} logic with asynchronous execution,
      * handling errors and completing the future exceptionally if the task fails.
+     * As of 1.0.6, the task is submitted to the configured {@link AsyncBackend}.
      *
      * @param <T>  The type of result produced.
      * @param task The logic to execute.
      * @return A future that will complete with the task's result.
      */
     public <T> CompletableFuture<T> supplyAsync(@NotNull Callable<T> task) {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        return supplyAsync(task, asyncBackend);
+    }
+
+    /**
+     * Executes a task on a specific executor and returns its result via a {@link CompletableFuture}.
+     * <p>
+     * This allows individual calls to choose a backend, such as virtual threads for I/O and a
+     * platform pool for CPU work. Tasks submitted to an executor other than Bukkit's are tracked,
+     * so {@link #cancelAll()} cancels the returned future, skipping the task if it has not yet started.
+     *
+     * @param <T>      The type of result produced.
+     * @param task     The logic to execute.
+     * @param executor The executor to run the task on.
+     * @return A future that will complete with the task's result.
+     * @since 1.0.6
+     */
+    public <T> CompletableFuture<T> supplyAsync(@NotNull Callable<T> task, @NotNull Executor executor) {
         CompletableFuture<T> future = new CompletableFuture<>();
-        async(() -> {
-            try {
-                T result = task.call();
-                future.complete(result);
-            } catch (Exception e) {
-                future.completeExceptionally(e);
-            }
-        });
+        boolean sync = executor == mainThreadExecutor;
+        Runnable runnable = profiler.wrap(profiler.source(task), () -> complete(future, task), sync);
+
+        try {
+            if (sync || (executor instanceof AsyncBackend backend && backend.isBukkit())) executor.execute(runnable);
+            else submit(runnable, executor, future);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
         return future;
     }
-}
\ No newline at end of file
+
+    /**
+     * Executes a task on the main server thread and returns its result via a {@link CompletableFuture}.
+     * <p>
+     * If called from the main thread, the task runs immediately.
+     *
+     * @param <T>  The type of result produced.
+     * @param task The logic to execute.
+     * @return A future that will complete with the task's result.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public <T> CompletableFuture<T> supplySync(@NotNull Callable<T> task) {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+        return supplyAsync(task, mainThreadExecutor);
+    }
+
+    /**
+     * Creates a future which completes on the main server thread once another future completes.
+     * <p>
+     * Both results and failures are passed on, so every stage chained to the returned future
+     * may safely use the Bukkit API.
+     *
+     * @param <T>    The type of result produced.
+     * @param future The future to wait for, typically completed on another thread.
+     * @return A future completed on the main thread with the same outcome.
+     * @throws IllegalStateException If the manager is not initialised.
+     * @since 1.0.6
+     */
+    public <T> CompletableFuture<T> toMainThread(@NotNull CompletableFuture<T> future) {
+        if (!isInitialised()) throw new IllegalStateException("TaskManager has not been initialised with a plugin.");
+
+        CompletableFuture<T> bridged = new CompletableFuture<>();
+        future.whenComplete((result, error) -> mainThreadExecutor.execute(() -> {
+            if (error != null) bridged.completeExceptionally(error);
+            else bridged.complete(result);
+        }));
+        return bridged;
+    }
+
+    private static <T> void complete(@NotNull CompletableFuture<T> future, @NotNull Callable<T> task) {
+        try {
+            T result = task.call();
+            future.complete(result);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package uk.acronical.task;
+
+/**
+ * Determines the order in which a {@link WorkQueue} runs its jobs.
+ * <p>
+ * Each tick, jobs are run in priority order, so lower priority jobs only receive
+ * whatever remains of the tick's budget once every higher priority job has finished.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public enum TaskPriority {
+
+    /**
+     * Work players are actively waiting on, such as opening or refreshing a menu.
+     */
+    HIGH,
+
+    /**
+     * Ordinary bulk work, such as teleporting a group of players.
+     */
+    NORMAL,
+
+    /**
+     * Background work with no deadline, such as resetting an arena.
+     */
+    LOW
+}
@@ -0,0 +1,55 @@
+package uk.acronical.task;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * A snapshot of the timings recorded by a {@link TaskProfiler} for a single task name.
+ * <p>
+ * Percentiles are read from a histogram, so are accurate to within roughly 6%.
+ *
+ * @param name       The task's name.
+ * @param sync       Whether the task ran on the main server thread.
+ * @param count      The number of recorded runs.
+ * @param slowCount  The number of runs over the profiler's slow-task threshold.
+ * @param totalNanos The combined duration of every run, in nanoseconds.
+ * @param maxNanos   The longest run, in nanoseconds.
+ * @param p50Nanos   The median run duration, in nanoseconds.
+ * @param p95Nanos   The 95th percentile run duration, in nanoseconds.
+ * @param p99Nanos   The 99th percentile run duration, in nanoseconds.
+ * @author Acronical
+ * @since 1.0.6
+ */
+public record TaskProfile(@NotNull String name, boolean sync, long count, long slowCount, long totalNanos,
+                          long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos) {
+
+    /**
+     * Orders profiles by their combined run time, highest first.
+     */
+    public static final Comparator<TaskProfile> BY_TOTAL = Comparator.comparingLong(TaskProfile::totalNanos).reversed();
+
+    /**
+     * Orders profiles by their longest run, highest first.
+     */
+    public static final Comparator<TaskProfile> BY_MAX = Comparator.comparingLong(TaskProfile::maxNanos).reversed();
+
+    /**
+     * Orders profiles by their 99th percentile run, highest first.
+     */
+    public static final Comparator<TaskProfile> BY_P99 = Comparator.comparingLong(TaskProfile::p99Nanos).reversed();
+
+    /**
+     * Orders profiles by their number of runs, highest first.
+     */
+    public static final Comparator<TaskProfile> BY_COUNT = Comparator.comparingLong(TaskProfile::count).reversed();
+
+    /**
+     * Calculates the mean run duration.
+     *
+     * @return The mean duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+}
@@ -0,0 +1,406 @@
+package uk.acronical.task;
+
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.LoggerUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long scheduled tasks take to run, grouped by task name.
+ * <p>
+ * Every task submitted through {@link TaskManager}, {@link TaskChain}, {@link CountdownBuilder}
+ * and {@link TaskManager#conditional(Runnable, java.util.function.BooleanSupplier, Runnable)}
+ * is wrapped for profiling. While the profiler is disabled, the wrapper only checks a flag before
+ * running the task, so profiling can be switched on for a live server without rescheduling
+ * anything. Durations are recorded in a log-linear histogram per name, which costs a few atomic
+ * increments per run, and main-thread tasks over the slow-task threshold are logged.
+ * <p>
+ * A task's recorded duration excludes any profiled tasks it runs itself, so engines driving
+ * other tasks, such as the {@link TimerService}, are only charged for their own work.
+ * <p>
+ * Lambdas submitted while the profiler is enabled are named after the line submitting them,
+ * such as {@code "ArenaManager.start:42 (lambda)"}, and those submitted beforehand after the
+ * class declaring them, such as {@code "ArenaManager (lambda)"}. Other tasks are named after
+ * their class. A clearer name may be given with {@link #named(String, Runnable)}:
+ * <pre>{@code
+ * TaskProfiler profiler = taskManager.getProfiler().setEnabled(true);
+ * taskManager.sync(TaskProfiler.named("arena-tick", arena::tick), 0L, 1L);
+ *
+ * for (TaskProfile profile : profiler.getTop(5, TaskProfile.BY_TOTAL)) {
+ *     LoggerUtils.info(profile.name() + ": " + profile.p99Nanos() + "ns");
+ * }
+ * }</pre>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class TaskProfiler {
+
+    private static final long WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final String PACKAGE = TaskProfiler.class.getPackageName() + ".";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    // Each lambda class is named after the call site which first submits it, so the stack is only walked once per class.
+    private static final ClassValue<String> LAMBDA_SOURCES = new ClassValue<>() {
+        @Override
+        protected String computeValue(@NotNull Class<?> type) {
+            return WALKER.walk(frames -> frames.filter(frame -> !frame.getClassName().startsWith(PACKAGE) && !frame.getClassName().startsWith(ClassValue.class.getName())).findFirst())
+                    .map(frame -> {
+                        String name = frame.getClassName();
+                        return name.substring(name.lastIndexOf('.') + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber() + " (lambda)";
+                    })
+                    .orElseGet(() -> nameOf(type));
+        }
+    };
+
+    private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    // The time spent by profiled tasks nested within the task running on each thread.
+    private final ThreadLocal<long[]> nested = ThreadLocal.withInitial(() -> new long[1]);
+
+    private volatile boolean enabled = false;
+    private volatile long slowThreshold = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Gives a task a name to be profiled under.
+     *
+     * @param name The name to record the task's timings under.
+     * @param task The logic to execute.
+     * @return A {@link Runnable} running the task, which may be submitted in its place.
+     */
+    @NotNull
+    public static Runnable named(@NotNull String name, @NotNull Runnable task) {
+        return new Named(name, task);
+    }
+
+    /**
+     * Enables or disables profiling.
+     * <p>
+     * Disabling the profiler keeps the timings recorded so far.
+     *
+     * @param enabled Whether task timings should be recorded.
+     * @return The current {@link TaskProfiler} instance for method chaining.
+     */
+    @NotNull
+    public TaskProfiler setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Checks whether task timings are being recorded.
+     *
+     * @return {@code true} if profiling is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the duration above which a main-thread task is logged as slow.
+     * <p>
+     * Warnings are limited to one every 10 seconds per task name.
+     *
+     * @param millis The threshold in milliseconds, or 0 to disable warnings.
+     * @return The current {@link TaskProfiler} instance for method chaining.
+     */
+    @NotNull
+    public TaskProfiler setSlowThreshold(double millis) {
+        this.slowThreshold = millis <= 0 ? Long.MAX_VALUE : (long) (millis * 1_000_000);
+        return this;
+    }
+
+    /**
+     * Retrieves the duration above which a main-thread task is logged as slow.
+     *
+     * @return The threshold in milliseconds, or 0 if warnings are disabled.
+     */
+    public double getSlowThreshold() {
+        long threshold = slowThreshold;
+        return threshold == Long.MAX_VALUE ? 0 : threshold / 1_000_000.0;
+    }
+
+    /**
+     * Captures the timings recorded for every task name.
+     *
+     * @return A list of profiles, ordered by combined run time, highest first.
+     */
+    @NotNull
+    public List<TaskProfile> getSnapshot() {
+        List<TaskProfile> profiles = new ArrayList<>(histograms.size());
+        for (Map.Entry<Key, Histogram> entry : histograms.entrySet()) {
+            TaskProfile profile = entry.getValue().snapshot(entry.getKey());
+            if (profile.count() > 0) profiles.add(profile);
+        }
+
+        profiles.sort(TaskProfile.BY_TOTAL);
+        return profiles;
+    }
+
+    /**
+     * Captures the timings of the tasks ranking highest in a given order.
+     *
+     * @param limit The maximum number of profiles to return.
+     * @param order The order to rank profiles by, such as {@link TaskProfile#BY_MAX}.
+     * @return A list of at most {@code limit} profiles.
+     */
+    @NotNull
+    public List<TaskProfile> getTop(int limit, @NotNull Comparator<TaskProfile> order) {
+        List<TaskProfile> profiles = getSnapshot();
+        profiles.sort(order);
+        return profiles.size() > limit ? new ArrayList<>(profiles.subList(0, Math.max(0, limit))) : profiles;
+    }
+
+    /**
+     * Discards every recorded timing.
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Wraps a task being submitted so its runs are recorded while the profiler is enabled.
+     *
+     * @param task The logic to execute.
+     * @param sync Whether the task runs on the main server thread.
+     * @return The wrapped task, or the task itself if it is already wrapped by this profiler.
+     */
+    @NotNull
+    Runnable wrap(@NotNull Runnable task, boolean sync) {
+        if (task instanceof Profiled profiled && profiled.profiler == this) return task;
+        return wrap(source(task), task, sync);
+    }
+
+    /**
+     * Wraps a task so its runs are recorded under the name of another object while the profiler is enabled.
+     *
+     * @param source The object the task is named after, such as the user's lambda or its {@link #source(Object) call site}.
+     * @param task   The logic to execute.
+     * @param sync   Whether the task runs on the main server thread.
+     * @return The wrapped task, or the task itself if it is already wrapped by this profiler.
+     */
+    @NotNull
+    Runnable wrap(@NotNull Object source, @NotNull Runnable task, boolean sync) {
+        if (task instanceof Profiled profiled && profiled.profiler == this) return task;
+        return new Profiled(this, source, task, sync);
+    }
+
+    /**
+     * Resolves what a task being submitted should be named after.
+     * <p>
+     * While the profiler is enabled, a lambda is named after the first frame outside this package,
+     * so this must be called by the code submitting the task rather than once it is running. The
+     * name is resolved once per lambda class and reused for later submissions of the same lambda.
+     *
+     * @param task The user's logic.
+     * @return The name of the call site submitting a lambda, otherwise the task itself.
+     */
+    @NotNull
+    Object source(@NotNull Object task) {
+        if (!enabled || !task.getClass().getName().contains("$$Lambda")) return task;
+        return LAMBDA_SOURCES.get(task.getClass());
+    }
+
+    /**
+     * Derives a readable name for a task from its class.
+     *
+     * @param source The task, or a {@link Named} task or name.
+     * @return The name to record the task's timings under.
+     */
+    @NotNull
+    static String nameOf(@NotNull Object source) {
+        if (source instanceof Named named) return named.name;
+        if (source instanceof String name) return name;
+        return nameOf(source.getClass());
+    }
+
+    @NotNull
+    private static String nameOf(@NotNull Class<?> type) {
+        String name = type.getName();
+        name = name.substring(name.lastIndexOf('.') + 1);
+
+        int lambda = name.indexOf("$$Lambda");
+        return lambda >= 0 ? name.substring(0, lambda) + " (lambda)" : name;
+    }
+
+    @NotNull
+    private Histogram histogram(@NotNull Object source, boolean sync) {
+        return histograms.computeIfAbsent(new Key(nameOf(source), sync), key -> new Histogram());
+    }
+
+    private void warn(@NotNull Histogram histogram, @NotNull Object source, long duration) {
+        long now = System.nanoTime();
+        long next = histogram.nextWarning;
+        if (now - next < 0) return;
+
+        histogram.nextWarning = now + WARNING_INTERVAL;
+        LoggerUtils.warn(String.format("[TaskProfiler] Task '%s' took %.2fms on the main thread (%d slow runs in total).",
+                nameOf(source), duration / 1_000_000.0, histogram.slowCount.sum()));
+    }
+
+    /**
+     * A task given a name via {@link #named(String, Runnable)}.
+     */
+    private static final class Named implements Runnable {
+
+        private final String name;
+        private final Runnable task;
+
+        private Named(@NotNull String name, @NotNull Runnable task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    /**
+     * A task whose runs are timed while the profiler is enabled.
+     */
+    private static final class Profiled implements Runnable {
+
+        private final TaskProfiler profiler;
+        private final Object source;
+        private final Runnable task;
+        private final boolean sync;
+
+        // Resolved on the first profiled run, so tasks never profiled never pay for naming.
+        private Histogram histogram;
+
+        private Profiled(@NotNull TaskProfiler profiler, @NotNull Object source, @NotNull Runnable task, boolean sync) {
+            this.profiler = profiler;
+            this.source = source;
+            this.task = task;
+            this.sync = sync;
+        }
+
+        @Override
+        public void run() {
+            if (!profiler.enabled) {
+                task.run();
+                return;
+            }
+
+            long[] nested = profiler.nested.get();
+            long outer = nested[0];
+            nested[0] = 0;
+
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+
+                // Time spent in nested profiled tasks is recorded under their own names, not again under this one.
+                long duration = elapsed - nested[0];
+
+                Histogram histogram = this.histogram;
+                if (histogram == null) this.histogram = histogram = profiler.histogram(source, sync);
+
+                boolean slow = sync && duration > profiler.slowThreshold;
+                histogram.record(duration, slow);
+                if (slow) profiler.warn(histogram, source, duration);
+
+                // The enclosing task is not charged for this task's recording and warning either.
+                nested[0] = outer + (System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Identifies the timings of a task name in a given context.
+     */
+    private record Key(@NotNull String name, boolean sync) {}
+
+    /**
+     * A log-linear histogram of run durations in nanoseconds.
+     * <p>
+     * Durations below 16ns have a bucket each, and every power of two above that is split into
+     * 16 buckets, keeping each bucket within roughly 6% of the durations it holds.
+     */
+    private static final class Histogram {
+
+        private static final int SUB_BITS = 4;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private volatile long nextWarning = System.nanoTime();
+
+        private void record(long duration, boolean slow) {
+            buckets.incrementAndGet(index(Math.max(0, duration)));
+            count.increment();
+            total.add(duration);
+            if (slow) slowCount.increment();
+
+            long current;
+            while (duration > (current = max.get()) && !max.compareAndSet(current, duration)) Thread.onSpinWait();
+        }
+
+        private void reset() {
+            for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+            count.reset();
+            total.reset();
+            slowCount.reset();
+            max.set(0);
+        }
+
+        @NotNull
+        private TaskProfile snapshot(@NotNull Key key) {
+            long[] counts = new long[BUCKETS];
+            long recorded = 0;
+            for (int i = 0; i < BUCKETS; i++) recorded += counts[i] = buckets.get(i);
+
+            return new TaskProfile(key.name(), key.sync(), recorded, slowCount.sum(), total.sum(), max.get(),
+                    percentile(counts, recorded, 0.50), percentile(counts, recorded, 0.95), percentile(counts, recorded, 0.99));
+        }
+
+        private long percentile(long[] counts, long recorded, double percentile) {
+            if (recorded == 0) return 0;
+
+            long target = Math.max(1, (long) Math.ceil(recorded * percentile));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= target) return Math.min(middle(i), max.get());
+            }
+            return max.get();
+        }
+
+        private static int index(long value) {
+            if (value < SUB_COUNT) return (int) value;
+
+            int magnitude = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_COUNT - 1);
+            return (magnitude - SUB_BITS + 1) * SUB_COUNT + sub;
+        }
+
+        /**
+         * Retrieves the midpoint of the durations a bucket holds.
+         */
+        private static long middle(int index) {
+            if (index < SUB_COUNT) return index;
+
+            int magnitude = index / SUB_COUNT + SUB_BITS - 1;
+            int shift = magnitude - SUB_BITS;
+            long lower = (long) (SUB_COUNT + index % SUB_COUNT) << shift;
+            return lower + ((1L << shift) >> 1);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package uk.acronical.task;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.StringUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A command for controlling a {@link TaskProfiler} and listing the slowest tasks in-game.
+ * <p>
+ * The command is registered against a command declared in the plugin's {@code plugin.yml},
+ * which should also restrict it with a permission:
+ * <pre>{@code
+ * TaskProfilerCommand command = new TaskProfilerCommand(taskManager.getProfiler());
+ * getCommand("taskprofiler").setExecutor(command);
+ * getCommand("taskprofiler").setTabCompleter(command);
+ * }</pre>
+ * It supports the following sub-commands:
+ * <ul>
+ *     <li>{@code on} and {@code off} enable and disable profiling.</li>
+ *     <li>{@code reset} discards every recorded timing.</li>
+ *     <li>{@code top [count] [total|max|p99|count]} lists the highest ranking tasks, by combined run time by default.</li>
+ *     <li>{@code threshold <ms>} sets the duration above which main-thread tasks are logged as slow.</li>
+ * </ul>
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class TaskProfilerCommand implements CommandExecutor, TabCompleter {
+
+    private static final List<String> SUB_COMMANDS = List.of("on", "off", "reset", "top", "threshold");
+    private static final Map<String, Comparator<TaskProfile>> ORDERS = Map.of(
+            "total", TaskProfile.BY_TOTAL,
+            "max", TaskProfile.BY_MAX,
+            "p99", TaskProfile.BY_P99,
+            "count", TaskProfile.BY_COUNT
+    );
+
+    private final TaskProfiler profiler;
+
+    /**
+     * Initialises a new {@link TaskProfilerCommand}.
+     *
+     * @param profiler The {@link TaskProfiler} controlled by the command.
+     */
+    public TaskProfilerCommand(@NotNull TaskProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length == 0) {
+            sendUsage(sender, label);
+            return true;
+        }
+
+        switch (args[0].toLowerCase(Locale.ROOT)) {
+            case "on" -> {
+                profiler.setEnabled(true);
+                sender.sendMessage(StringUtils.colour("&aTask profiling enabled."));
+            }
+            case "off" -> {
+                profiler.setEnabled(false);
+                sender.sendMessage(StringUtils.colour("&eTask profiling disabled. Recorded timings have been kept."));
+            }
+            case "reset" -> {
+                profiler.reset();
+                sender.sendMessage(StringUtils.colour("&aTask timings have been reset."));
+            }
+            case "top" -> sendTop(sender, args);
+            case "threshold" -> {
+                if (args.length < 2) {
+                    sender.sendMessage(StringUtils.colour("&eSlow-task threshold: &f" + profiler.getSlowThreshold() + "ms"));
+                    return true;
+                }
+
+                try {
+                    profiler.setSlowThreshold(Double.parseDouble(args[1]));
+                    sender.sendMessage(StringUtils.colour("&aSlow-task threshold set to &f" + profiler.getSlowThreshold() + "ms&a."));
+                } catch (NumberFormatException e) {
+                    sender.sendMessage(StringUtils.colour("&c'" + args[1] + "' is not a valid number of milliseconds."));
+                }
+            }
+            default -> sendUsage(sender, label);
+        }
+
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length == 1) return filter(SUB_COMMANDS, args[0]);
+        if (args.length == 3 && args[0].equalsIgnoreCase("top")) return filter(List.copyOf(ORDERS.keySet()), args[2]);
+        return List.of();
+    }
+
+    /**
+     * Lists the highest ranking tasks to the sender.
+     */
+    private void sendTop(@NotNull CommandSender sender, @NotNull String[] args) {
+        int limit = 10;
+        Comparator<TaskProfile> order = TaskProfile.BY_TOTAL;
+
+        try {
+            if (args.length >= 2) limit = Math.max(1, Integer.parseInt(args[1]));
+        } catch (NumberFormatException e) {
+            sender.sendMessage(StringUtils.colour("&c'" + args[1] + "' is not a valid number."));
+            return;
+        }
+
+        if (args.length >= 3) {
+            order = ORDERS.get(args[2].toLowerCase(Locale.ROOT));
+            if (order == null) {
+                sender.sendMessage(StringUtils.colour("&cUnknown order '" + args[2] + "'. Use total, max, p99 or count."));
+                return;
+            }
+        }
+
+        List<TaskProfile> profiles = profiler.getTop(limit, order);
+        if (profiles.isEmpty()) {
+            sender.sendMessage(StringUtils.colour(profiler.isEnabled() ? "&eNo tasks have been recorded yet." : "&eNo tasks have been recorded. Enable profiling with 'on'."));
+            return;
+        }
+
+        sender.sendMessage(StringUtils.colour("&6Top " + profiles.size() + " tasks &7(mean / p95 / p99 / max):"));
+        for (TaskProfile profile : profiles) {
+            sender.sendMessage(StringUtils.colour(String.format("&e%s &7[%s] &f%d runs, %s total &7- &f%s / %s / %s / %s%s",
+                    profile.name(), profile.sync() ? "sync" : "async", profile.count(), format(profile.totalNanos()),
+                    format(profile.meanNanos()), format(profile.p95Nanos()), format(profile.p99Nanos()), format(profile.maxNanos()),
+                    profile.slowCount() > 0 ? " &c(" + profile.slowCount() + " slow)" : "")));
+        }
+    }
+
+    private void sendUsage(@NotNull CommandSender sender, @NotNull String label) {
+        sender.sendMessage(StringUtils.colour("&cUsage: /" + label + " <on|off|reset|top [count] [total|max|p99|count]|threshold [ms]>"));
+    }
+
+    @NotNull
+    private static List<String> filter(@NotNull List<String> options, @NotNull String input) {
+        String prefix = input.toLowerCase(Locale.ROOT);
+        return options.stream().filter(option -> option.startsWith(prefix)).sorted().toList();
+    }
+
+    /**
+     * Formats a duration in nanoseconds with a readable unit.
+     */
+    @NotNull
+    private static String format(long nanos) {
+        if (nanos >= 1_000_000_000L) return String.format("%.2fs", nanos / 1_000_000_000.0);
+        if (nanos >= 1_000_000L) return String.format("%.2fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000L) return String.format("%.1f\u00b5s", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+}
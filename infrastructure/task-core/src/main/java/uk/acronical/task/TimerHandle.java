@@ -0,0 +1,88 @@
+package uk.acronical.task;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A handle to a timer scheduled with a {@link TimerService}.
+ * <p>
+ * Handles double as the timer's entry in the service's wheel, so scheduling and cancelling
+ * allocate nothing beyond the handle itself and take constant time.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class TimerHandle {
+
+    final TimerService service;
+    final Runnable task;
+    final long period;
+
+    long deadline;
+    int level = -1, slot = -1;
+    TimerHandle previous, next;
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * Initialises a new {@link TimerHandle}.
+     *
+     * @param service  The service running the timer.
+     * @param task     The logic to run when the timer fires.
+     * @param deadline The tick on which the timer first fires.
+     * @param period   The ticks between repeats, or 0 for a one-off timer.
+     */
+    TimerHandle(@NotNull TimerService service, @NotNull Runnable task, long deadline, long period) {
+        this.service = service;
+        this.task = task;
+        this.deadline = deadline;
+        this.period = period;
+    }
+
+    /**
+     * Cancels the timer, preventing any further runs.
+     * <p>
+     * Cancelling from the main thread removes the timer from the wheel immediately, while
+     * cancelling from another thread leaves it to be discarded when its slot is reached.
+     */
+    public void cancel() {
+        if (cancelled) return;
+
+        cancelled = true;
+        service.cancelled(this);
+    }
+
+    /**
+     * Marks the timer as cancelled once its service has discarded it.
+     */
+    void discard() {
+        cancelled = true;
+        level = -1;
+    }
+
+    /**
+     * Checks whether the timer has been cancelled, either directly or by its service shutting down.
+     *
+     * @return {@code true} if the timer has been cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Checks whether the timer will run again.
+     *
+     * @return {@code true} if the timer has neither been cancelled nor, for a one-off timer, fired.
+     */
+    public boolean isPending() {
+        return !cancelled && (level >= 0 || period > 0 || deadline > service.getCurrentTick());
+    }
+
+    /**
+     * Retrieves the number of ticks between repeats of the timer.
+     *
+     * @return The period, or 0 for a one-off timer.
+     */
+    public long getPeriod() {
+        return period;
+    }
+}
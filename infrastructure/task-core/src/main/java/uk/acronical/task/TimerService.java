@@ -0,0 +1,334 @@
+package uk.acronical.task;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import uk.acronical.common.LoggerUtils;
+
+import java.lang.reflect.Field;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A scheduler for large numbers of tick-granular timers, driven by a single Bukkit task.
+ * <p>
+ * Rather than scheduling a {@link BukkitTask} per countdown, warmup or condition check, timers
+ * are held in a hierarchical timing wheel. The first level has a slot for each of the next
+ * 256 ticks, and each further level has 64 slots covering 64 times the span of the level below.
+ * Timers are placed in the slot of their deadline and moved down a level as it approaches, so
+ * scheduling and cancelling take constant time however many timers are pending, and each tick
+ * only visits the timers due on it.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * TimerService timers = taskManager.getTimerService();
+ * TimerHandle warmup = timers.schedule(() -> player.teleport(spawn), 100L);
+ *
+ * // Moving cancels the teleport.
+ * warmup.cancel();
+ * }</pre>
+ * <p>
+ * Timers run on the main server thread. They may be scheduled from any thread, though those
+ * scheduled off the main thread are only added to the wheel on the next tick. A timer scheduled
+ * on the main thread before the service has run in the current server tick is delayed by one
+ * further tick, so it never runs in the same server tick it was scheduled in.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class TimerService {
+
+    private static final int ROOT_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+
+    // Timers further away than the wheel spans are parked in the last level and re-placed as it turns.
+    private static final long SPAN = 1L << (ROOT_BITS + LEVEL_BITS * (LEVELS - 1));
+
+    // The Bukkit scheduler's tick, read to tell whether the service has already run in the current server tick.
+    private static final Field SCHEDULER_TICK = schedulerTick();
+
+    private final TaskManager taskManager;
+    private final TimerHandle[][] wheels = new TimerHandle[LEVELS][];
+    private final TimerHandle[][] tails = new TimerHandle[LEVELS][];
+    private final Queue<TimerHandle> incoming = new ConcurrentLinkedQueue<>();
+
+    private volatile long currentTick = 0;
+    private volatile int lastServerTick = -1;
+    private int pending = 0;
+    private BukkitTask task;
+
+    /**
+     * Initialises a new {@link TimerService}.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule the service's task.
+     */
+    public TimerService(@NotNull TaskManager taskManager) {
+        this.taskManager = taskManager;
+
+        for (int level = 0; level < LEVELS; level++) {
+            int slots = 1 << (level == 0 ? ROOT_BITS : LEVEL_BITS);
+            wheels[level] = new TimerHandle[slots];
+            tails[level] = new TimerHandle[slots];
+        }
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param task  The logic to run.
+     * @param delay The delay in server ticks, where 0 runs the task on the next tick.
+     * @return A {@link TimerHandle} which can be used to cancel the timer.
+     */
+    @NotNull
+    public TimerHandle schedule(@NotNull Runnable task, long delay) {
+        return add(new TimerHandle(this, task, currentTick + Math.max(1, delay), 0));
+    }
+
+    /**
+     * Schedules a task to run repeatedly.
+     *
+     * @param task   The logic to run.
+     * @param delay  The delay in server ticks before the first run, where 0 runs it on the next tick.
+     * @param period The interval between runs in server ticks.
+     * @return A {@link TimerHandle} which can be used to cancel the timer.
+     * @throws IllegalArgumentException If the period is not positive.
+     */
+    @NotNull
+    public TimerHandle schedule(@NotNull Runnable task, long delay, long period) {
+        if (period <= 0) throw new IllegalArgumentException("The period must be positive.");
+        return add(new TimerHandle(this, task, currentTick + Math.max(1, delay), period));
+    }
+
+    /**
+     * Retrieves the number of ticks the service has run for.
+     *
+     * @return The current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Retrieves the number of timers held in the wheel.
+     * <p>
+     * Timers cancelled from another thread are counted until their slot is reached.
+     *
+     * @return The pending timer count.
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Stops the service, discarding every pending timer.
+     */
+    public synchronized void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < wheels[level].length; slot++) {
+                for (TimerHandle timer = wheels[level][slot]; timer != null; timer = timer.next) timer.discard();
+                wheels[level][slot] = null;
+                tails[level][slot] = null;
+            }
+        }
+
+        TimerHandle timer;
+        while ((timer = incoming.poll()) != null) timer.discard();
+        pending = 0;
+    }
+
+    @NotNull
+    private TimerHandle add(@NotNull TimerHandle timer) {
+        if (Bukkit.isPrimaryThread()) {
+            // Until the service has run in this server tick, its next run still falls within it.
+            int serverTick = serverTick();
+            if (serverTick >= 0 && serverTick != lastServerTick && task != null && !task.isCancelled()) timer.deadline++;
+            insert(timer);
+        } else {
+            incoming.add(timer);
+        }
+
+        start();
+        return timer;
+    }
+
+    /**
+     * Starts the service's task on first use, leaving it running for later timers.
+     * <p>
+     * The task is also rescheduled if it was cancelled elsewhere, such as by Bukkit's scheduler.
+     */
+    private synchronized void start() {
+        if (task != null && !task.isCancelled()) return;
+
+        // The new task first runs in the next server tick, so the current one counts as already run.
+        lastServerTick = serverTick();
+        task = taskManager.sync(TaskProfiler.named("TimerService", this::tick), 1L, 1L);
+    }
+
+    /**
+     * Removes a timer cancelled on the main thread from its slot.
+     *
+     * @param timer The cancelled timer.
+     */
+    void cancelled(@NotNull TimerHandle timer) {
+        if (timer.level >= 0 && Bukkit.isPrimaryThread()) unlink(timer);
+    }
+
+    /**
+     * Advances the wheel by one tick, moving approaching timers down a level and running those due.
+     */
+    private void tick() {
+        long tick = ++currentTick;
+        lastServerTick = serverTick();
+
+        TimerHandle timer;
+        while ((timer = incoming.poll()) != null) {
+            if (!timer.isCancelled()) insert(timer);
+        }
+
+        // Each level turns once the level below has completed a revolution, starting from the highest.
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << shift(level)) - 1)) != 0) continue;
+            cascade(level, slot(tick, level));
+        }
+
+        int index = slot(tick, 0);
+        TimerHandle head = wheels[0][index];
+        wheels[0][index] = null;
+        tails[0][index] = null;
+
+        // The slot is detached before any timer runs, so timers cancelled by an earlier one are skipped rather than unlinked.
+        for (timer = head; timer != null; timer = timer.next) {
+            timer.level = -1;
+            pending--;
+        }
+
+        while (head != null) {
+            timer = head;
+            head = timer.next;
+            timer.previous = null;
+            timer.next = null;
+
+            if (timer.isCancelled()) continue;
+            run(timer);
+
+            if (timer.period > 0 && !timer.isCancelled()) {
+                timer.deadline = tick + timer.period;
+                insert(timer);
+            }
+        }
+    }
+
+    private void run(@NotNull TimerHandle timer) {
+        try {
+            timer.task.run();
+        } catch (Exception e) {
+            LoggerUtils.severe("[TimerService] Error in timer: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-places every timer in a slot, moving each down to the level matching its remaining delay.
+     */
+    private void cascade(int level, int index) {
+        TimerHandle head = wheels[level][index];
+        wheels[level][index] = null;
+        tails[level][index] = null;
+
+        while (head != null) {
+            TimerHandle timer = head;
+            head = timer.next;
+            timer.previous = null;
+            timer.next = null;
+            timer.level = -1;
+            pending--;
+
+            if (!timer.isCancelled()) insert(timer);
+        }
+    }
+
+    /**
+     * Appends a timer to the slot matching its deadline, so timers due on the same tick run in the order they were scheduled.
+     */
+    private void insert(@NotNull TimerHandle timer) {
+        // A timer scheduled off the main thread may have read a stale tick, so a deadline already passed is due on the current one.
+        if (timer.deadline < currentTick) timer.deadline = currentTick;
+
+        long delay = timer.deadline - currentTick;
+        int level, index;
+
+        if (delay >= SPAN) {
+            level = LEVELS - 1;
+            index = (int) ((currentTick >> shift(level)) + (1 << LEVEL_BITS) - 1) & ((1 << LEVEL_BITS) - 1);
+        } else {
+            level = 0;
+            while (level < LEVELS - 1 && delay >= 1L << shift(level + 1)) level++;
+            index = slot(timer.deadline, level);
+        }
+
+        TimerHandle tail = tails[level][index];
+        timer.previous = tail;
+        timer.next = null;
+
+        if (tail != null) tail.next = timer;
+        else wheels[level][index] = timer;
+
+        tails[level][index] = timer;
+        timer.level = level;
+        timer.slot = index;
+        pending++;
+    }
+
+    private void unlink(@NotNull TimerHandle timer) {
+        if (timer.previous != null) timer.previous.next = timer.next;
+        else wheels[timer.level][timer.slot] = timer.next;
+        if (timer.next != null) timer.next.previous = timer.previous;
+        else tails[timer.level][timer.slot] = timer.previous;
+
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+        pending--;
+    }
+
+    /**
+     * Retrieves the tick of the Bukkit scheduler, or -1 if it cannot be read.
+     */
+    private static int serverTick() {
+        if (SCHEDULER_TICK == null) return -1;
+
+        try {
+            return SCHEDULER_TICK.getInt(Bukkit.getScheduler());
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static Field schedulerTick() {
+        try {
+            Field field = Bukkit.getScheduler().getClass().getDeclaredField("currentTick");
+            field.setAccessible(true);
+            return field;
+        } catch (Exception e) {
+            LoggerUtils.warn("[TimerService] Could not read the scheduler's tick. Timers scheduled early in a tick may run in that same tick.");
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the number of low bits of a tick below a level's slot index.
+     */
+    private static int shift(int level) {
+        return level == 0 ? 0 : ROOT_BITS + LEVEL_BITS * (level - 1);
+    }
+
+    private static int slot(long tick, int level) {
+        int bits = level == 0 ? ROOT_BITS : LEVEL_BITS;
+        return (int) ((tick >> shift(level)) & ((1 << bits) - 1));
+    }
+}
@@ -0,0 +1,324 @@
+package uk.acronical.task;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.acronical.common.LoggerUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A chain of synchronous and asynchronous links, each receiving the result of the link before it.
+ * <p>
+ * Unlike {@link TaskChain}, values are passed directly between links rather than through shared
+ * fields. Consecutive links in the same context, with no delay between them, are fused into a
+ * single scheduled execution, so the chain only changes thread where its context changes. A
+ * load, apply and save flow of six links therefore costs two hops rather than six.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * taskManager.chainAsync(() -> database.loadProfile(uuid))
+ *         .abortIfNull()
+ *         .thenAsync(Profile::decode)
+ *         .thenSync(profile -> { profile.apply(player); return profile; })
+ *         .thenAsync(profile -> database.save(profile))
+ *         .onAbort(() -> player.kickPlayer("Your profile could not be loaded."))
+ *         .onError(error -> LoggerUtils.severe("Failed to load profile: " + error.getMessage()))
+ *         .execute();
+ * }</pre>
+ * <p>
+ * The abort and error handlers run on the main server thread. A chain may only be executed once.
+ *
+ * @param <T> The type of value produced by the chain's latest link.
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class TypedChain<T> {
+
+    // Returned by a link to stop the chain, as null may be a legitimate value.
+    private static final Object ABORT = new Object();
+
+    private final TaskManager taskManager;
+    private final List<Link> links = new ArrayList<>();
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private long pendingDelay = 0;
+    private Runnable onAbort = null;
+    private Consumer<Throwable> onError = null;
+    private boolean executed = false;
+
+    /**
+     * Initialises a new {@link TypedChain} starting with a link that supplies its first value.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule each link.
+     * @param supplier    The logic producing the first value.
+     * @param sync        Whether the first link runs on the main server thread.
+     */
+    TypedChain(@NotNull TaskManager taskManager, @NotNull Callable<T> supplier, boolean sync) {
+        this.taskManager = taskManager;
+        this.links.add(new Link(taskManager.getProfiler().source(supplier), value -> {
+            try {
+                return supplier.call();
+            } catch (Exception e) {
+                throw new ChainException(e);
+            }
+        }, sync, 0));
+    }
+
+    /**
+     * Appends a link which transforms the previous value on the main server thread.
+     *
+     * @param function The logic producing the next value.
+     * @param <R>      The type of value produced.
+     * @return This chain, now producing the new value type.
+     */
+    @NotNull
+    public <R> TypedChain<R> thenSync(@NotNull Function<? super T, ? extends R> function) {
+        return append(function, function, true);
+    }
+
+    /**
+     * Appends a link which transforms the previous value on the configured {@link AsyncBackend}.
+     *
+     * @param function The logic producing the next value.
+     * @param <R>      The type of value produced.
+     * @return This chain, now producing the new value type.
+     */
+    @NotNull
+    public <R> TypedChain<R> thenAsync(@NotNull Function<? super T, ? extends R> function) {
+        return append(function, function, false);
+    }
+
+    /**
+     * Appends a link which consumes the previous value on the main server thread, passing it on unchanged.
+     *
+     * @param consumer The logic to execute.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> acceptSync(@NotNull Consumer<? super T> consumer) {
+        return append(consumer, value -> {
+            consumer.accept(value);
+            return value;
+        }, true);
+    }
+
+    /**
+     * Appends a link which consumes the previous value asynchronously, passing it on unchanged.
+     *
+     * @param consumer The logic to execute.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> acceptAsync(@NotNull Consumer<? super T> consumer) {
+        return append(consumer, value -> {
+            consumer.accept(value);
+            return value;
+        }, false);
+    }
+
+    /**
+     * Introduces a pause before the next link.
+     * <p>
+     * The next link is always scheduled, even if it shares the previous link's context.
+     *
+     * @param ticks The duration to wait, measured in server ticks.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> delay(long ticks) {
+        this.pendingDelay += Math.max(0, ticks);
+        return this;
+    }
+
+    /**
+     * Stops the chain if the previous value matches a condition.
+     * <p>
+     * The check runs in the previous link's context, so it never costs a thread change.
+     *
+     * @param condition The condition under which the chain should stop.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> abortIf(@NotNull Predicate<? super T> condition) {
+        boolean sync = links.get(links.size() - 1).sync;
+        links.add(new Link(taskManager.getProfiler().source(condition), value -> condition.test(cast(value)) ? ABORT : value, sync, takeDelay()));
+        return this;
+    }
+
+    /**
+     * Stops the chain if the previous value is {@code null}.
+     *
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> abortIfNull() {
+        return abortIf(Objects::isNull);
+    }
+
+    /**
+     * Sets the action run on the main server thread if the chain is aborted.
+     *
+     * @param onAbort The logic to execute.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> onAbort(@Nullable Runnable onAbort) {
+        this.onAbort = onAbort;
+        return this;
+    }
+
+    /**
+     * Sets the action run on the main server thread if a link throws.
+     * <p>
+     * Without a handler, errors are logged.
+     *
+     * @param onError The logic to execute, receiving the error.
+     * @return The current {@link TypedChain} instance for method chaining.
+     */
+    @NotNull
+    public TypedChain<T> onError(@Nullable Consumer<Throwable> onError) {
+        this.onError = onError;
+        return this;
+    }
+
+    /**
+     * Starts the execution of the chain.
+     * <p>
+     * The first link is always scheduled, so this method returns before it runs.
+     *
+     * @return A future completed with the final value, cancelled if the chain is aborted,
+     * or completed exceptionally if a link throws.
+     * @throws IllegalStateException If the chain has already been executed.
+     */
+    @NotNull
+    public CompletableFuture<T> execute() {
+        if (executed) throw new IllegalStateException("A TypedChain may only be executed once.");
+        executed = true;
+
+        // A trailing delay still holds the chain's completion back, so it is given an empty link to wait for.
+        if (pendingDelay > 0) append(this, Function.identity(), links.get(links.size() - 1).sync);
+
+        schedule(0, null);
+        return future;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <R> TypedChain<R> append(@NotNull Object source, @NotNull Function<? super T, ? extends R> function, boolean sync) {
+        if (executed) throw new IllegalStateException("Links cannot be added once the chain has been executed.");
+
+        links.add(new Link(taskManager.getProfiler().source(source), value -> function.apply(cast(value)), sync, takeDelay()));
+        return (TypedChain<R>) this;
+    }
+
+    private long takeDelay() {
+        long delay = pendingDelay;
+        pendingDelay = 0;
+        return delay;
+    }
+
+    /**
+     * Schedules a link in its context, after its delay.
+     *
+     * @param index The index of the link.
+     * @param value The value passed to the link.
+     */
+    private void schedule(int index, @Nullable Object value) {
+        Link link = links.get(index);
+
+        // Executions are profiled under the name of the user's logic, rather than the chain's.
+        Runnable execution = taskManager.getProfiler().wrap(link.source, () -> run(index, value), link.sync);
+
+        try {
+            if (link.sync) {
+                if (link.delay > 0) taskManager.sync(execution, link.delay);
+                else taskManager.sync(execution);
+            } else {
+                if (link.delay > 0) taskManager.async(execution, link.delay);
+                else taskManager.async(execution);
+            }
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Runs a link, followed by every consecutive link sharing its context with no delay.
+     *
+     * @param index The index of the first link.
+     * @param value The value passed to the first link.
+     */
+    private void run(int index, @Nullable Object value) {
+        boolean sync = links.get(index).sync;
+
+        for (int i = index; i < links.size(); i++) {
+            Link link = links.get(i);
+
+            if (i != index && (link.sync != sync || link.delay > 0)) {
+                schedule(i, value);
+                return;
+            }
+
+            try {
+                value = link.function.apply(value);
+            } catch (ChainException e) {
+                fail(e.getCause());
+                return;
+            } catch (Throwable throwable) {
+                fail(throwable);
+                return;
+            }
+
+            if (value == ABORT) {
+                abort();
+                return;
+            }
+        }
+
+        future.complete(cast(value));
+    }
+
+    private void abort() {
+        future.cancel(false);
+        if (onAbort != null) taskManager.getMainThreadExecutor().execute(onAbort);
+    }
+
+    private void fail(@NotNull Throwable error) {
+        future.completeExceptionally(error);
+
+        if (onError != null) taskManager.getMainThreadExecutor().execute(() -> onError.accept(error));
+        else LoggerUtils.severe("[TypedChain] Error in chain: " + error.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(@Nullable Object value) {
+        return (V) value;
+    }
+
+    /**
+     * An individual segment of the chain.
+     *
+     * @param source   The user's logic behind the link, or its call site, used to name it when profiling.
+     * @param function The logic transforming the previous value.
+     * @param sync     Whether the link requires the main server thread.
+     * @param delay    The delay in ticks before the link runs.
+     */
+    private record Link(@NotNull Object source, @NotNull Function<Object, Object> function, boolean sync, long delay) {}
+
+    /**
+     * Carries a checked exception thrown by the supplying link.
+     */
+    private static final class ChainException extends RuntimeException {
+
+        private ChainException(@NotNull Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package uk.acronical.task;
+
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A time-sliced queue for spreading bulk work on the main server thread across several ticks.
+ * <p>
+ * Each tick, queued jobs are run until the configured millisecond budget has been used,
+ * and any unfinished work is carried into the next tick. Bulk jobs, such as teleporting
+ * a hundred players or resetting thousands of blocks, are broken into small steps so the
+ * budget can be checked between them, keeping the tick time smooth rather than spiking.
+ * <p>
+ * Jobs are run in {@link TaskPriority} order, and in submission order within a priority.
+ * Each job returns a {@link CompletableFuture}, completed on the main thread once the job
+ * has finished, or exceptionally if a step throws. Cancelling the future stops the job
+ * before its next step.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * WorkQueue queue = taskManager.getWorkQueue();
+ * queue.submitEach(players, player -> player.teleport(spawn), TaskPriority.NORMAL)
+ *         .thenRun(() -> Bukkit.broadcastMessage("Everyone has been returned to spawn."));
+ * }</pre>
+ * <p>
+ * Jobs may be submitted from any thread; every step runs on the main server thread.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class WorkQueue {
+
+    /**
+     * The default time, in milliseconds, the queue may spend on work each tick.
+     */
+    public static final double DEFAULT_BUDGET_MILLIS = 5.0;
+
+    // The weighting of the latest tick in the average utilisation, giving roughly a one-second window.
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    private final TaskManager taskManager;
+    private final Queue<Job>[] queues;
+
+    private volatile long budgetNanos = (long) (DEFAULT_BUDGET_MILLIS * 1_000_000);
+    private BukkitTask task;
+
+    private volatile long lastTickNanos = 0;
+    private volatile double lastUtilisation = 0;
+    private volatile double averageUtilisation = 0;
+
+    /**
+     * Initialises a new {@link WorkQueue}.
+     *
+     * @param taskManager The {@link TaskManager} utilised to schedule the queue's task.
+     */
+    @SuppressWarnings("unchecked")
+    public WorkQueue(@NotNull TaskManager taskManager) {
+        this.taskManager = taskManager;
+        this.queues = new Queue[TaskPriority.values().length];
+        for (int i = 0; i < queues.length; i++) queues[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Sets the time the queue may spend on work each tick.
+     *
+     * @param millis The budget in milliseconds.
+     * @return The current {@link WorkQueue} instance for method chaining.
+     * @throws IllegalArgumentException If the budget is not positive.
+     */
+    public WorkQueue setBudget(double millis) {
+        if (millis <= 0) throw new IllegalArgumentException("The budget must be positive.");
+        this.budgetNanos = (long) (millis * 1_000_000);
+        return this;
+    }
+
+    /**
+     * Queues a single unit of work.
+     *
+     * @param runnable The logic to run.
+     * @param priority The priority of the work.
+     * @return A future completed once the work has run.
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull Runnable runnable, @NotNull TaskPriority priority) {
+        return enqueue(new Job() {
+            @Override
+            boolean step() {
+                runnable.run();
+                return false;
+            }
+        }, priority);
+    }
+
+    /**
+     * Queues an action to be applied to each of several items, a few items at a time.
+     *
+     * @param items    The items to process.
+     * @param action   The logic applied to each item.
+     * @param priority The priority of the work.
+     * @param <T>      The type of item.
+     * @return A future completed once every item has been processed.
+     */
+    @NotNull
+    public <T> CompletableFuture<Void> submitEach(@NotNull Iterable<T> items, @NotNull Consumer<? super T> action, @NotNull TaskPriority priority) {
+        return enqueue(new Job() {
+            private Iterator<T> iterator;
+
+            @Override
+            boolean step() {
+                // The iterator is created on the main thread, as the job may have been submitted from another.
+                if (iterator == null) iterator = items.iterator();
+                if (iterator.hasNext()) action.accept(iterator.next());
+                return iterator.hasNext();
+            }
+        }, priority);
+    }
+
+    /**
+     * Queues a job performed in steps, run repeatedly until it reports that no work remains.
+     * <p>
+     * Each step should be small, as the budget is only checked between steps.
+     *
+     * @param step     The logic performing one step, returning {@code true} while more work remains.
+     * @param priority The priority of the work.
+     * @return A future completed once the job has finished.
+     */
+    @NotNull
+    public CompletableFuture<Void> submitSteps(@NotNull BooleanSupplier step, @NotNull TaskPriority priority) {
+        return enqueue(new Job() {
+            @Override
+            boolean step() {
+                return step.getAsBoolean();
+            }
+        }, priority);
+    }
+
+    /**
+     * Retrieves the number of jobs waiting to be finished.
+     *
+     * @return The pending job count.
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (Queue<Job> queue : queues) count += queue.size();
+        return count;
+    }
+
+    /**
+     * Retrieves the time spent on work during the last tick.
+     *
+     * @return The time in milliseconds.
+     */
+    public double getLastTickMillis() {
+        return lastTickNanos / 1_000_000.0;
+    }
+
+    /**
+     * Retrieves the fraction of the budget used during the last tick.
+     * <p>
+     * This may slightly exceed 1.0, as a step is never interrupted once started.
+     *
+     * @return The utilisation, where 1.0 is the full budget.
+     */
+    public double getUtilisation() {
+        return lastUtilisation;
+    }
+
+    /**
+     * Retrieves the fraction of the budget used, averaged over roughly the last second.
+     *
+     * @return The average utilisation, where 1.0 is the full budget.
+     */
+    public double getAverageUtilisation() {
+        return averageUtilisation;
+    }
+
+    /**
+     * Stops the queue, cancelling every pending job.
+     */
+    public synchronized void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        for (Queue<Job> queue : queues) {
+            Job job;
+            while ((job = queue.poll()) != null) job.future.cancel(false);
+        }
+    }
+
+    @NotNull
+    private CompletableFuture<Void> enqueue(@NotNull Job job, @NotNull TaskPriority priority) {
+        queues[priority.ordinal()].add(job);
+        start();
+        return job.future;
+    }
+
+    /**
+     * Starts the queue's task on first use, leaving it running for later submissions.
+     * <p>
+     * The task is also rescheduled if it was cancelled elsewhere, such as by Bukkit's scheduler.
+     */
+    private synchronized void start() {
+        if (task == null || task.isCancelled()) task = taskManager.sync(TaskProfiler.named("WorkQueue", this::tick), 1L, 1L);
+    }
+
+    /**
+     * Runs queued jobs until the budget has been used, leaving unfinished jobs at the head of their queue.
+     */
+    private void tick() {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        long now = start;
+
+        for (Queue<Job> queue : queues) {
+            Job job;
+            while (now < deadline && (job = queue.peek()) != null) {
+                now = run(queue, job, deadline);
+            }
+        }
+
+        long elapsed = now - start;
+        double utilisation = elapsed / (double) budgetNanos;
+
+        lastTickNanos = elapsed;
+        lastUtilisation = utilisation;
+        averageUtilisation += (utilisation - averageUtilisation) * AVERAGE_WEIGHT;
+    }
+
+    /**
+     * Runs the steps of a job until it finishes or the deadline passes.
+     *
+     * @param queue    The queue holding the job.
+     * @param job      The job at the head of the queue.
+     * @param deadline The time, in nanoseconds, at which the tick's budget is used.
+     * @return The time after the last step.
+     */
+    private long run(@NotNull Queue<Job> queue, @NotNull Job job, long deadline) {
+        long now;
+
+        try {
+            boolean remaining;
+            do {
+                remaining = !job.future.isDone() && job.step();
+                now = System.nanoTime();
+            } while (remaining && now < deadline);
+
+            if (remaining) return now;
+            job.future.complete(null);
+        } catch (Throwable throwable) {
+            now = System.nanoTime();
+            job.future.completeExceptionally(throwable);
+        }
+
+        queue.poll();
+        return now;
+    }
+
+    /**
+     * A queued unit of work, performed in one or more steps.
+     */
+    private abstract static class Job {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Performs the next step of the job.
+         *
+         * @return {@code true} if more work remains.
+         */
+        abstract boolean step();
+    }
+}
@@ -0,0 +1,100 @@
+package uk.acronical.command;
+
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Converts raw command arguments into the parameter types of a handler method.
+ * <p>
+ * This logic is separated from {@link CommandFramework} so that it can be used,
+ * and measured, without access to the server's internal {@link org.bukkit.command.CommandMap}.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class ArgumentResolver {
+
+    private final Server server;
+
+    /**
+     * Initialises a new {@link ArgumentResolver}.
+     *
+     * @param server The {@link Server} used to look up {@link Player} arguments by name.
+     */
+    public ArgumentResolver(@NotNull Server server) {
+        this.server = server;
+    }
+
+    /**
+     * Maps raw command arguments to the parameter types of the handler method.
+     * <p>
+     * Supports automatic conversion for:
+     * <ul>
+     * <li>{@link Player} (via name lookup)</li>
+     * <li>Integers and Doubles</li>
+     * <li>Booleans</li>
+     * <li>Strings</li>
+     * </ul>
+     *
+     * @param method The method to inspect.
+     * @param sender The command executor.
+     * @param args   The raw string arguments.
+     * @return An array of resolved objects for reflection invocation.
+     * @throws IllegalArgumentException If argument counts mismatch or types are invalid.
+     */
+    @NotNull
+    public Object[] resolve(@NotNull Method method, @NotNull CommandSender sender, @NotNull String[] args) {
+        Parameter[] params = method.getParameters();
+        Object[] resolved = new Object[params.length];
+
+        if (params.length == 0) return resolved;
+
+        Class<?> senderType = params[0].getType();
+
+        if (Player.class.isAssignableFrom(senderType) && !(sender instanceof Player)) {
+            throw new IllegalArgumentException("This command requires a Player executor.");
+        }
+
+        if (ConsoleCommandSender.class.isAssignableFrom(senderType) && !(sender instanceof ConsoleCommandSender)) {
+            throw new IllegalArgumentException("This command requires a Console executor.");
+        }
+
+        resolved[0] = sender;
+
+        for (int i = 1; i < params.length; i++) {
+            int argIndex = i - 1;
+
+            if (argIndex >= args.length) {
+                throw new IllegalArgumentException("Not enough arguments!");
+            }
+
+            Class<?> type = params[i].getType();
+            String input = args[argIndex];
+
+            if (type == int.class || type == Integer.class) {
+                try { resolved[i] = Integer.parseInt(input); }
+                catch (NumberFormatException e) { throw new IllegalArgumentException(input + " is not a valid integer."); }
+            } else if (type == double.class || type == Double.class) {
+                try { resolved[i] = Double.parseDouble(input); }
+                catch (NumberFormatException e) { throw new IllegalArgumentException(input + " is not a valid number."); }
+            } else if (type == boolean.class || type == Boolean.class) {
+                if (input.equalsIgnoreCase("true")) resolved[i] = true;
+                else if (input.equalsIgnoreCase("false")) resolved[i] = false;
+                else throw new IllegalArgumentException(input + " is not a valid boolean (true/false).");
+            } else if (type == Player.class) {
+                Player target = server.getPlayer(input);
+                if (target == null) throw new IllegalArgumentException("Player " + input + " not found.");
+                resolved[i] = target;
+            } else {
+                resolved[i] = input;
+            }
+        }
+        return resolved;
+    }
+}
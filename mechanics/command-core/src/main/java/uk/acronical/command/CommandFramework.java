@@ -20,8 +20,9 @@ import java.util.stream.Collectors;
  * A reflection-based framework for dynamic command registration and execution.
  * <p>
  * As of version 1.0.3, this framework supports bespoke tab completion via {@link TabCompleter}
- * and command aliasing. It automates argument parsing for standard types and dispatches
- * executions to annotated methods within registered instances.
+ * and command aliasing. It automates argument parsing for standard types via an
+ * {@link ArgumentResolver} and dispatches executions to annotated methods within
+ * registered instances.
  *
  * @author Acronical
  * @since 1.0.0
@@ -29,6 +30,7 @@ import java.util.stream.Collectors;
 public class CommandFramework {
 
     private final Plugin plugin;
+    private final ArgumentResolver argumentResolver;
 
     private final Map<String, Method> commandRegistry = new HashMap<>();
     private final Map<String, Object> commandInstances = new HashMap<>();
@@ -46,6 +48,7 @@ public class CommandFramework {
      */
     public CommandFramework(@NotNull Plugin plugin) {
         this.plugin = plugin;
+        this.argumentResolver = new ArgumentResolver(plugin.getServer());
 
         try {
             Field bukkitCommandMapField = plugin.getServer().getClass().getDeclaredField("commandMap");
@@ -161,7 +164,7 @@ public class CommandFramework {
         }
 
         try {
-            Object[] invokedArgs = resolveArguments(method, sender, args);
+            Object[] invokedArgs = argumentResolver.resolve(method, sender, args);
             method.invoke(instance, invokedArgs);
         } catch (IllegalArgumentException e) {
             sender.sendMessage(StringUtils.colour("&cUsage Error: " + e.getMessage()));
@@ -178,72 +181,6 @@ public class CommandFramework {
         return true;
     }
 
-    /**
-     * Maps raw command arguments to the parameter types of the handler method.
-     * <p>
-     * Supports automatic conversion for:
-     * <ul>
-     * <li>{@link Player} (via name lookup)</li>
-     * <li>Integers and Doubles</li>
-     * <li>Booleans</li>
-     * <li>Strings</li>
-     * </ul>
-     *
-     * @param method The method to inspect.
-     * @param sender The command executor.
-     * @param args   The raw string arguments.
-     * @return An array of resolved objects for reflection invocation.
-     * @throws IllegalArgumentException If argument counts mismatch or types are invalid.
-     */
-    private Object[] resolveArguments(Method method, CommandSender sender, String[] args) {
-        Parameter[] params = method.getParameters();
-        Object[] resolved = new Object[params.length];
-
-        if (params.length == 0) return resolved;
-
-        Class<?> senderType = params[0].getType();
-
-        if (Player.class.isAssignableFrom(senderType) && !(sender instanceof Player)) {
-            throw new IllegalArgumentException("This command requires a Player executor.");
-        }
-
-        if (org.bukkit.command.ConsoleCommandSender.class.isAssignableFrom(senderType) && !(sender instanceof org.bukkit.command.ConsoleCommandSender)) {
-            throw new IllegalArgumentException("This command requires a Console executor.");
-        }
-
-        resolved[0] = sender;
-
-        for (int i = 1; i < params.length; i++) {
-            int argIndex = i - 1;
-
-            if (argIndex >= args.length) {
-                throw new IllegalArgumentException("Not enough arguments!");
-            }
-
-            Class<?> type = params[i].getType();
-            String input = args[argIndex];
-
-            if (type == int.class || type == Integer.class) {
-                try { resolved[i] = Integer.parseInt(input); }
-                catch (NumberFormatException e) { throw new IllegalArgumentException(input + " is not a valid integer."); }
-            } else if (type == double.class || type == Double.class) {
-                try { resolved[i] = Double.parseDouble(input); }
-                catch (NumberFormatException e) { throw new IllegalArgumentException(input + " is not a valid number."); }
-            } else if (type == boolean.class || type == Boolean.class) {
-                if (input.equalsIgnoreCase("true")) resolved[i] = true;
-                else if (input.equalsIgnoreCase("false")) resolved[i] = false;
-                else throw new IllegalArgumentException(input + " is not a valid boolean (true/false).");
-            } else if (type == Player.class) {
-                Player target = plugin.getServer().getPlayer(input);
-                if (target == null) throw new IllegalArgumentException("Player " + input + " not found.");
-                resolved[i] = target;
-            } else {
-                resolved[i] = input;
-            }
-        }
-        return resolved;
-    }
-
     /**
      * Determines the appropriate tab completion suggestions for the current input.
      * <p>
@@ -0,0 +1,77 @@
+package uk.acronical.cooldown;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An interned identifier for a named cooldown.
+ * <p>
+ * Each distinct name is assigned a small, dense integer id the first time it is seen,
+ * allowing {@link CooldownStore} to index cooldowns by array slot rather than hashing
+ * a {@link String} on every check. Keys should be created once and stored as constants.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public final class CooldownKey {
+
+    private static final Map<String, CooldownKey> registry = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final String name;
+    private final int id;
+
+    private CooldownKey(@NotNull String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the interned key for a cooldown name, creating it if necessary.
+     *
+     * @param name The identifier for the cooldown (e.g., {@code "enderpearl"}).
+     * @return The shared {@link CooldownKey} instance for that name.
+     */
+    @NotNull
+    public static CooldownKey of(@NotNull String name) {
+        CooldownKey key = registry.get(name);
+        if (key != null) return key;
+        return registry.computeIfAbsent(name, n -> new CooldownKey(n, nextId.getAndIncrement()));
+    }
+
+    /**
+     * Retrieves the name this key was created with.
+     *
+     * @return The cooldown name.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the interned integer id of this key.
+     *
+     * @return The dense, zero-based id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the number of keys interned so far.
+     *
+     * @return The key count, which is also the next id to be assigned.
+     */
+    static int count() {
+        return nextId.get();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -14,6 +14,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * This manager utilises nested {@link ConcurrentHashMap}s to track cooldowns by
  * {@link UUID} and a unique string key, allowing for granular time-based
  * restrictions across the plugin.
+ * <p>
+ * For checks made on every event, prefer {@link CooldownStore}, which avoids
+ * allocating on each check and purges expired entries eagerly.
  *
  * @author Acronical
  * @since 1.0.1
@@ -0,0 +1,364 @@
+package uk.acronical.cooldown;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A high-throughput cooldown registry storing expiry times as primitive nanoseconds.
+ * <p>
+ * Unlike {@link CooldownManager}, checking a cooldown allocates nothing: expiries are held
+ * in a per-player {@link AtomicLongArray} indexed by {@link CooldownKey#getId()} and compared
+ * against {@link System#nanoTime()}. This makes the store suitable for checks made on every
+ * interact or damage event.
+ * <p>
+ * Expired entries are purged by a hashed timing wheel running on a single daemon thread,
+ * so cooldowns that are never checked again do not leak. Each {@link #set(UUID, CooldownKey, long, TimeUnit)}
+ * enqueues a small timer entry which the wheel thread places into a bucket; once the bucket
+ * comes round, the cooldown is cleared unless it has since been renewed.
+ * <p>
+ * Stores should be closed via {@link #close()} when the plugin is disabled.
+ *
+ * @author Acronical
+ * @since 1.0.6
+ */
+public class CooldownStore implements AutoCloseable {
+
+    private static final long NONE = 0L;
+
+    private final Map<UUID, PlayerCooldowns> players = new ConcurrentHashMap<>();
+
+    private final Queue<TimerEntry> pending = new ConcurrentLinkedQueue<>();
+    private final TimerEntry[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final long startNanos;
+    private long currentTick = 0;
+
+    private final ScheduledExecutorService wheelThread;
+
+    /**
+     * Initialises a new {@link CooldownStore} with a 50ms tick and 512 buckets.
+     * <p>
+     * One rotation of the wheel therefore covers roughly 25 seconds; longer cooldowns
+     * simply wait for additional rotations.
+     */
+    public CooldownStore() {
+        this(50, 512);
+    }
+
+    /**
+     * Initialises a new {@link CooldownStore} with a custom timing wheel.
+     *
+     * @param tickMillis The resolution of the purge timer, in milliseconds.
+     * @param wheelSize  The number of buckets in the wheel, rounded up to a power of two.
+     * @throws IllegalArgumentException If either value is not positive.
+     */
+    public CooldownStore(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("The tick duration must be greater than zero.");
+        if (wheelSize <= 0) throw new IllegalArgumentException("The wheel size must be greater than zero.");
+
+        int buckets = Integer.highestOneBit(wheelSize);
+        if (buckets < wheelSize) buckets <<= 1;
+
+        this.wheel = new TimerEntry[buckets];
+        this.mask = buckets - 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.startNanos = System.nanoTime();
+        this.wheelThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AcroniCore-Cooldown-Wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.wheelThread.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Assigns a cooldown to a player, replacing any existing cooldown for the key.
+     *
+     * @param uuid     The {@link UUID} of the player.
+     * @param key      The interned cooldown key.
+     * @param duration The length of time the cooldown should last.
+     * @param unit     The unit of the {@code duration} argument.
+     */
+    public void set(@NotNull UUID uuid, @NotNull CooldownKey key, long duration, @NotNull TimeUnit unit) {
+        long expiry = System.nanoTime() + unit.toNanos(duration);
+        if (expiry == NONE) expiry = 1L;
+
+        while (true) {
+            PlayerCooldowns cooldowns = players.computeIfAbsent(uuid, k -> new PlayerCooldowns());
+
+            synchronized (cooldowns) {
+                if (cooldowns.removed) continue;
+                cooldowns.set(key.getId(), expiry);
+            }
+            break;
+        }
+
+        pending.add(new TimerEntry(uuid, key.getId(), expiry));
+    }
+
+    /**
+     * Assigns a cooldown to a player, replacing any existing cooldown for the key.
+     *
+     * @param uuid     The {@link UUID} of the player.
+     * @param key      The interned cooldown key.
+     * @param duration The length of time the cooldown should last.
+     */
+    public void set(@NotNull UUID uuid, @NotNull CooldownKey key, @NotNull Duration duration) {
+        set(uuid, key, duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Checks if a specific cooldown is still active for a player.
+     * <p>
+     * This method performs no allocation.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param key  The interned cooldown key.
+     * @return {@code true} if the cooldown is active; {@code false} if it has expired or never existed.
+     */
+    public boolean isActive(@NotNull UUID uuid, @NotNull CooldownKey key) {
+        PlayerCooldowns cooldowns = players.get(uuid);
+        if (cooldowns == null) return false;
+
+        long expiry = cooldowns.get(key.getId());
+        return expiry != NONE && expiry - System.nanoTime() > 0;
+    }
+
+    /**
+     * Calculates the time remaining on a cooldown.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param key  The interned cooldown key.
+     * @param unit The unit to express the remaining time in.
+     * @return The remaining time, or {@code 0} if the cooldown is not active.
+     */
+    public long getRemaining(@NotNull UUID uuid, @NotNull CooldownKey key, @NotNull TimeUnit unit) {
+        PlayerCooldowns cooldowns = players.get(uuid);
+        if (cooldowns == null) return 0;
+
+        long expiry = cooldowns.get(key.getId());
+        if (expiry == NONE) return 0;
+
+        long remaining = expiry - System.nanoTime();
+        return remaining > 0 ? unit.convert(remaining, TimeUnit.NANOSECONDS) : 0;
+    }
+
+    /**
+     * Calculates the time remaining on a cooldown in milliseconds.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param key  The interned cooldown key.
+     * @return The total milliseconds remaining, or {@code 0} if the cooldown is not active.
+     */
+    public long getRemainingMillis(@NotNull UUID uuid, @NotNull CooldownKey key) {
+        return getRemaining(uuid, key, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Removes a single cooldown from a player.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param key  The interned cooldown key.
+     */
+    public void remove(@NotNull UUID uuid, @NotNull CooldownKey key) {
+        PlayerCooldowns cooldowns = players.get(uuid);
+        if (cooldowns == null) return;
+
+        synchronized (cooldowns) {
+            cooldowns.set(key.getId(), NONE);
+        }
+    }
+
+    /**
+     * Removes all active cooldowns for a specific player.
+     * <p>
+     * Any pending timer entries for the player are discarded when they fire.
+     *
+     * @param uuid The {@link UUID} of the player to clear.
+     */
+    public void clear(@NotNull UUID uuid) {
+        PlayerCooldowns cooldowns = players.get(uuid);
+        if (cooldowns == null) return;
+
+        synchronized (cooldowns) {
+            cooldowns.removed = true;
+            players.remove(uuid, cooldowns);
+        }
+    }
+
+    /**
+     * Retrieves the number of players with at least one tracked cooldown.
+     *
+     * @return The tracked player count.
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * Stops the timing wheel. Cooldowns may still be checked, but will no longer be purged.
+     */
+    @Override
+    public void close() {
+        wheelThread.shutdownNow();
+    }
+
+    /**
+     * Advances the wheel by every tick that has elapsed, purging expired cooldowns.
+     * <p>
+     * This only ever runs on the wheel thread, so the buckets need no synchronisation.
+     */
+    private void advance() {
+        try {
+            long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+
+            while (currentTick < targetTick) {
+                schedulePending();
+                expireBucket(wheel[(int) (currentTick & mask)], (int) (currentTick & mask));
+                currentTick++;
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
+    /**
+     * Moves newly created timer entries from the pending queue into their buckets.
+     */
+    private void schedulePending() {
+        TimerEntry entry;
+
+        while ((entry = pending.poll()) != null) {
+            long expiryTick = Math.max(currentTick, ceilDiv(entry.expiry - startNanos, tickNanos));
+            long ticks = expiryTick - currentTick;
+
+            entry.rounds = ticks >> Integer.numberOfTrailingZeros(wheel.length);
+            insert(entry, (int) (expiryTick & mask));
+        }
+    }
+
+    /**
+     * Processes every entry in a bucket, purging those that are due.
+     *
+     * @param head  The first entry in the bucket.
+     * @param index The index of the bucket.
+     */
+    private void expireBucket(TimerEntry head, int index) {
+        wheel[index] = null;
+        long now = System.nanoTime();
+
+        TimerEntry entry = head;
+        while (entry != null) {
+            TimerEntry next = entry.next;
+            entry.next = null;
+
+            if (entry.rounds > 0) {
+                entry.rounds--;
+                insert(entry, index);
+            } else if (entry.expiry - now > 0) {
+                // The wheel ticked slightly early; retry on the next tick.
+                insert(entry, (index + 1) & mask);
+            } else {
+                purge(entry);
+            }
+
+            entry = next;
+        }
+    }
+
+    /**
+     * Clears an expired cooldown, unless it has been renewed, and drops players with no remaining cooldowns.
+     *
+     * @param entry The timer entry that has fired.
+     */
+    private void purge(@NotNull TimerEntry entry) {
+        PlayerCooldowns cooldowns = players.get(entry.uuid);
+        if (cooldowns == null) return;
+
+        synchronized (cooldowns) {
+            if (cooldowns.removed) return;
+            if (cooldowns.get(entry.keyId) == entry.expiry) cooldowns.set(entry.keyId, NONE);
+
+            if (cooldowns.isEmpty()) {
+                cooldowns.removed = true;
+                players.remove(entry.uuid, cooldowns);
+            }
+        }
+    }
+
+    private void insert(@NotNull TimerEntry entry, int index) {
+        entry.next = wheel[index];
+        wheel[index] = entry;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    /**
+     * The cooldown expiries of a single player, indexed by key id.
+     * <p>
+     * Writes are made whilst holding the instance's monitor; reads are lock-free.
+     */
+    private static final class PlayerCooldowns {
+
+        private volatile AtomicLongArray expiries = new AtomicLongArray(Math.max(8, CooldownKey.count()));
+        private boolean removed = false;
+
+        long get(int id) {
+            AtomicLongArray current = expiries;
+            return id < current.length() ? current.get(id) : NONE;
+        }
+
+        void set(int id, long expiry) {
+            AtomicLongArray current = expiries;
+
+            if (id >= current.length()) {
+                if (expiry == NONE) return;
+
+                AtomicLongArray grown = new AtomicLongArray(Math.max(id + 1, current.length() * 2));
+                for (int i = 0; i < current.length(); i++) grown.set(i, current.get(i));
+                expiries = grown;
+                current = grown;
+            }
+
+            current.set(id, expiry);
+        }
+
+        boolean isEmpty() {
+            AtomicLongArray current = expiries;
+            for (int i = 0; i < current.length(); i++) if (current.get(i) != NONE) return false;
+            return true;
+        }
+    }
+
+    /**
+     * A scheduled purge of a single cooldown, linked into a wheel bucket.
+     */
+    private static final class TimerEntry {
+
+        private final UUID uuid;
+        private final int keyId;
+        private final long expiry;
+        private long rounds;
+        private TimerEntry next;
+
+        TimerEntry(@NotNull UUID uuid, int keyId, long expiry) {
+            this.uuid = uuid;
+            this.keyId = keyId;
+            this.expiry = expiry;
+        }
+    }
+}